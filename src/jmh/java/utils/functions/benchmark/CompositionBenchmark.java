@@ -0,0 +1,116 @@
+package utils.functions.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import utils.functions.FunctionPipeline;
+import utils.functions.ThrowingFunction;
+
+/**
+ * Cost of {@code andThen}/{@code compose} chains of {@code depth} stages, {@link ThrowingFunction} against
+ * {@link Function}, and of the same stages built with {@link ThrowingFunction#pipeline()}.
+ * Stages are different lambda classes, so deep chains are megamorphic inside.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class CompositionBenchmark {
+
+    @Param({"2", "8", "20"})
+    private int depth;
+
+    private Integer argument;
+
+    private Function<Integer, Integer> jdkAndThen;
+    private Function<Integer, Integer> jdkCompose;
+    private ThrowingFunction<Integer, Integer> andThen;
+    private ThrowingFunction<Integer, Integer> compose;
+    private ThrowingFunction<Integer, Integer> pipeline;
+
+    @Setup
+    public void setUp() {
+        argument = 42;
+
+        jdkAndThen = jdkStage(0);
+        jdkCompose = jdkStage(0);
+        andThen = stage(0);
+        compose = stage(0);
+        FunctionPipeline<Integer, Integer> pipelineBuilder = ThrowingFunction.pipeline(stage(0));
+
+        for (int i = 1; i < depth; i++) {
+            jdkAndThen = jdkAndThen.andThen(jdkStage(i));
+            jdkCompose = jdkCompose.compose(jdkStage(i));
+            andThen = andThen.andThen(stage(i));
+            compose = compose.compose(stage(i));
+            pipelineBuilder = pipelineBuilder.then(stage(i));
+        }
+
+        pipeline = pipelineBuilder.build();
+    }
+
+    @Benchmark
+    public Integer jdkAndThen() {
+        return jdkAndThen.apply(argument);
+    }
+
+    @Benchmark
+    public Integer jdkCompose() {
+        return jdkCompose.apply(argument);
+    }
+
+    @Benchmark
+    public Integer throwingAndThen() {
+        return andThen.apply(argument);
+    }
+
+    @Benchmark
+    public Integer throwingCompose() {
+        return compose.apply(argument);
+    }
+
+    @Benchmark
+    public Integer throwingPipeline() {
+        return pipeline.apply(argument);
+    }
+
+    private static Function<Integer, Integer> jdkStage(int index) {
+        switch (index % 4) {
+            case 0:
+                return i -> i + 1;
+            case 1:
+                return i -> i ^ 3;
+            case 2:
+                return i -> i - 1;
+            default:
+                return i -> i * 3;
+        }
+    }
+
+    private static ThrowingFunction<Integer, Integer> stage(int index) {
+        switch (index % 4) {
+            case 0:
+                return i -> i + 1;
+            case 1:
+                return i -> i ^ 3;
+            case 2:
+                return i -> i - 1;
+            default:
+                return i -> i * 3;
+        }
+    }
+}
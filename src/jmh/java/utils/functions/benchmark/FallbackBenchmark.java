@@ -0,0 +1,64 @@
+package utils.functions.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import utils.functions.StacklessException;
+import utils.functions.TryCatch;
+
+/**
+ * Cost of {@link TryCatch#tryCatchFallback} when the supplier fails, with an exception that fills in a stack trace
+ * against a {@link StacklessException}, thrown {@code depth} frames below the supplier.
+ * <p>
+ * {@code success} is the baseline of a supplier that does not fail.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class FallbackBenchmark {
+
+    private static final Integer FALLBACK = -1;
+
+    @Param({"0", "50"})
+    public int depth;
+
+    private int value = 42;
+
+    @Benchmark
+    public Integer success() {
+        return TryCatch.tryCatchFallback(() -> parse(depth, false, false), e -> FALLBACK);
+    }
+
+    @Benchmark
+    public Integer fallbackWithStackTrace() {
+        return TryCatch.tryCatchFallback(() -> parse(depth, true, false), e -> FALLBACK);
+    }
+
+    @Benchmark
+    public Integer fallbackStackless() {
+        return TryCatch.tryCatchFallback(() -> parse(depth, true, true), e -> FALLBACK);
+    }
+
+    private Integer parse(int depth, boolean fail, boolean stackless) {
+        if (depth > 0) {
+            return parse(depth - 1, fail, stackless);
+        }
+        if (!fail) {
+            return value;
+        }
+        throw stackless ? new StacklessException("Not a number") : new IllegalArgumentException("Not a number");
+    }
+}
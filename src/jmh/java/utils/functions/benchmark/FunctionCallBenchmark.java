@@ -0,0 +1,192 @@
+package utils.functions.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import utils.functions.ThrowingConsumer;
+import utils.functions.ThrowingFunction;
+import utils.functions.ThrowingPredicate;
+import utils.functions.ThrowingRunnable;
+import utils.functions.ThrowingSupplier;
+
+/**
+ * Call overhead of the object {@code Throwing*} wrappers against {@code java.util.function} baselines.
+ * <p>
+ * Every benchmark calls {@link #CALL_SITES} functions from one call site: {@code mono*} benchmarks hold the same
+ * lambda in each slot, {@code mega*} ones hold {@link #CALL_SITES} different lambda classes.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class FunctionCallBenchmark {
+
+    static final int CALL_SITES = 4;
+
+    private Integer argument;
+
+    private Function<Integer, Integer>[] monoJdkFunctions;
+    private Function<Integer, Integer>[] megaJdkFunctions;
+    private ThrowingFunction<Integer, Integer>[] monoFunctions;
+    private ThrowingFunction<Integer, Integer>[] megaFunctions;
+    private Function<Integer, Integer>[] monoWrappedFunctions;
+    private Function<Integer, Integer>[] monoUnthrownFunctions;
+    private ThrowingFunction<Integer, Integer>[] monoMappedFunctions;
+
+    private Consumer<Integer> jdkConsumer;
+    private ThrowingConsumer<Integer> consumer;
+    private Supplier<Integer> jdkSupplier;
+    private ThrowingSupplier<Integer> supplier;
+    private Predicate<Integer> jdkPredicate;
+    private ThrowingPredicate<Integer> predicate;
+    private Runnable jdkRunnable;
+    private ThrowingRunnable runnable;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp(Blackhole blackhole) {
+        argument = 42;
+
+        Function<Integer, Integer> jdkFunction = i -> i + 1;
+        ThrowingFunction<Integer, Integer> function = i -> i + 1;
+
+        monoJdkFunctions = new Function[]{jdkFunction, jdkFunction, jdkFunction, jdkFunction};
+        megaJdkFunctions = new Function[]{
+                (Function<Integer, Integer>) i -> i + 1,
+                (Function<Integer, Integer>) i -> i + 2,
+                (Function<Integer, Integer>) i -> i + 3,
+                (Function<Integer, Integer>) i -> i + 4
+        };
+        monoFunctions = new ThrowingFunction[]{function, function, function, function};
+        megaFunctions = new ThrowingFunction[]{
+                (ThrowingFunction<Integer, Integer>) i -> i + 1,
+                (ThrowingFunction<Integer, Integer>) i -> i + 2,
+                (ThrowingFunction<Integer, Integer>) i -> i + 3,
+                (ThrowingFunction<Integer, Integer>) i -> i + 4
+        };
+
+        ThrowingFunction<Integer, Integer> wrapped = ThrowingFunction.wrap(jdkFunction);
+        monoWrappedFunctions = new Function[]{wrapped, wrapped, wrapped, wrapped};
+
+        Function<Integer, Integer> unthrown = ThrowingFunction.unthrow(function);
+        monoUnthrownFunctions = new Function[]{unthrown, unthrown, unthrown, unthrown};
+
+        ThrowingFunction<Integer, Integer> mapped = ThrowingFunction.map(i -> i + 1);
+        monoMappedFunctions = new ThrowingFunction[]{mapped, mapped, mapped, mapped};
+
+        jdkConsumer = blackhole::consume;
+        consumer = blackhole::consume;
+        jdkSupplier = () -> argument;
+        supplier = () -> argument;
+        jdkPredicate = i -> i > 0;
+        predicate = i -> i > 0;
+        jdkRunnable = () -> blackhole.consume(argument);
+        runnable = () -> blackhole.consume(argument);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALL_SITES)
+    public void monoJdkFunction(Blackhole blackhole) {
+        applyAll(monoJdkFunctions, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALL_SITES)
+    public void megaJdkFunction(Blackhole blackhole) {
+        applyAll(megaJdkFunctions, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALL_SITES)
+    public void monoThrowingFunction(Blackhole blackhole) {
+        applyAll(monoFunctions, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALL_SITES)
+    public void megaThrowingFunction(Blackhole blackhole) {
+        applyAll(megaFunctions, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALL_SITES)
+    public void monoWrappedFunction(Blackhole blackhole) {
+        applyAll(monoWrappedFunctions, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALL_SITES)
+    public void monoUnthrownFunction(Blackhole blackhole) {
+        applyAll(monoUnthrownFunctions, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALL_SITES)
+    public void monoMappedFunction(Blackhole blackhole) {
+        applyAll(monoMappedFunctions, blackhole);
+    }
+
+    @Benchmark
+    public void jdkConsumer() {
+        jdkConsumer.accept(argument);
+    }
+
+    @Benchmark
+    public void throwingConsumer() {
+        consumer.accept(argument);
+    }
+
+    @Benchmark
+    public Integer jdkSupplier() {
+        return jdkSupplier.get();
+    }
+
+    @Benchmark
+    public Integer throwingSupplier() {
+        return supplier.get();
+    }
+
+    @Benchmark
+    public boolean jdkPredicate() {
+        return jdkPredicate.test(argument);
+    }
+
+    @Benchmark
+    public boolean throwingPredicate() {
+        return predicate.test(argument);
+    }
+
+    @Benchmark
+    public void jdkRunnable() {
+        jdkRunnable.run();
+    }
+
+    @Benchmark
+    public void throwingRunnable() {
+        runnable.run();
+    }
+
+    private void applyAll(Function<Integer, Integer>[] functions, Blackhole blackhole) {
+        for (Function<Integer, Integer> function : functions) {
+            blackhole.consume(function.apply(argument));
+        }
+    }
+}
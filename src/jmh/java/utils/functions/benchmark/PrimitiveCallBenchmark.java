@@ -0,0 +1,184 @@
+package utils.functions.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.ToIntFunction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import utils.functions.ThrowingDoubleUnaryOperator;
+import utils.functions.ThrowingIntUnaryOperator;
+import utils.functions.ThrowingLongPredicate;
+import utils.functions.ThrowingToIntFunction;
+
+/**
+ * Call overhead of the primitive {@code Throwing*} wrappers against {@code java.util.function} baselines.
+ * <p>
+ * Same layout as {@link FunctionCallBenchmark}: {@code mono*} benchmarks call one lambda class from the loop call
+ * site, {@code mega*} ones call {@link FunctionCallBenchmark#CALL_SITES} different classes.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class PrimitiveCallBenchmark {
+
+    private int intArgument;
+    private long longArgument;
+    private double doubleArgument;
+    private String objectArgument;
+
+    private IntUnaryOperator[] monoJdkIntOperators;
+    private IntUnaryOperator[] megaJdkIntOperators;
+    private IntUnaryOperator[] monoIntOperators;
+    private IntUnaryOperator[] megaIntOperators;
+
+    private LongPredicate[] monoJdkLongPredicates;
+    private LongPredicate[] megaJdkLongPredicates;
+    private LongPredicate[] monoLongPredicates;
+    private LongPredicate[] megaLongPredicates;
+
+    private DoubleUnaryOperator jdkDoubleOperator;
+    private ThrowingDoubleUnaryOperator doubleOperator;
+    private ToIntFunction<String> jdkToIntFunction;
+    private ThrowingToIntFunction<String> toIntFunction;
+
+    @Setup
+    public void setUp() {
+        intArgument = 42;
+        longArgument = 42L;
+        doubleArgument = 42D;
+        objectArgument = "42";
+
+        IntUnaryOperator jdkIntOperator = i -> i + 1;
+        ThrowingIntUnaryOperator intOperator = i -> i + 1;
+        monoJdkIntOperators = new IntUnaryOperator[]{jdkIntOperator, jdkIntOperator, jdkIntOperator, jdkIntOperator};
+        megaJdkIntOperators = new IntUnaryOperator[]{i -> i + 1, i -> i + 2, i -> i + 3, i -> i + 4};
+        monoIntOperators = new IntUnaryOperator[]{intOperator, intOperator, intOperator, intOperator};
+        megaIntOperators = new IntUnaryOperator[]{
+                (ThrowingIntUnaryOperator) i -> i + 1,
+                (ThrowingIntUnaryOperator) i -> i + 2,
+                (ThrowingIntUnaryOperator) i -> i + 3,
+                (ThrowingIntUnaryOperator) i -> i + 4
+        };
+
+        LongPredicate jdkLongPredicate = l -> l > 0;
+        ThrowingLongPredicate longPredicate = l -> l > 0;
+        monoJdkLongPredicates = new LongPredicate[]{
+                jdkLongPredicate, jdkLongPredicate, jdkLongPredicate, jdkLongPredicate
+        };
+        megaJdkLongPredicates = new LongPredicate[]{l -> l > 0, l -> l > 1, l -> l > 2, l -> l > 3};
+        monoLongPredicates = new LongPredicate[]{longPredicate, longPredicate, longPredicate, longPredicate};
+        megaLongPredicates = new LongPredicate[]{
+                (ThrowingLongPredicate) l -> l > 0,
+                (ThrowingLongPredicate) l -> l > 1,
+                (ThrowingLongPredicate) l -> l > 2,
+                (ThrowingLongPredicate) l -> l > 3
+        };
+
+        jdkDoubleOperator = d -> d * 2;
+        doubleOperator = d -> d * 2;
+        jdkToIntFunction = String::length;
+        toIntFunction = String::length;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FunctionCallBenchmark.CALL_SITES)
+    public int monoJdkIntUnaryOperator() {
+        return applyAll(monoJdkIntOperators);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FunctionCallBenchmark.CALL_SITES)
+    public int megaJdkIntUnaryOperator() {
+        return applyAll(megaJdkIntOperators);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FunctionCallBenchmark.CALL_SITES)
+    public int monoThrowingIntUnaryOperator() {
+        return applyAll(monoIntOperators);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FunctionCallBenchmark.CALL_SITES)
+    public int megaThrowingIntUnaryOperator() {
+        return applyAll(megaIntOperators);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FunctionCallBenchmark.CALL_SITES)
+    public int monoJdkLongPredicate() {
+        return testAll(monoJdkLongPredicates);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FunctionCallBenchmark.CALL_SITES)
+    public int megaJdkLongPredicate() {
+        return testAll(megaJdkLongPredicates);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FunctionCallBenchmark.CALL_SITES)
+    public int monoThrowingLongPredicate() {
+        return testAll(monoLongPredicates);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FunctionCallBenchmark.CALL_SITES)
+    public int megaThrowingLongPredicate() {
+        return testAll(megaLongPredicates);
+    }
+
+    @Benchmark
+    public double jdkDoubleUnaryOperator() {
+        return jdkDoubleOperator.applyAsDouble(doubleArgument);
+    }
+
+    @Benchmark
+    public double throwingDoubleUnaryOperator() {
+        return doubleOperator.applyAsDouble(doubleArgument);
+    }
+
+    @Benchmark
+    public int jdkToIntFunction() {
+        return jdkToIntFunction.applyAsInt(objectArgument);
+    }
+
+    @Benchmark
+    public int throwingToIntFunction() {
+        return toIntFunction.applyAsInt(objectArgument);
+    }
+
+    private int applyAll(IntUnaryOperator[] operators) {
+        int result = 0;
+        for (IntUnaryOperator operator : operators) {
+            result += operator.applyAsInt(intArgument);
+        }
+        return result;
+    }
+
+    private int testAll(LongPredicate[] predicates) {
+        int matched = 0;
+        for (LongPredicate predicate : predicates) {
+            if (predicate.test(longArgument)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+}
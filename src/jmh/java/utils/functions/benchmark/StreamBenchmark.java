@@ -0,0 +1,75 @@
+package utils.functions.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import utils.functions.ThrowingFunction;
+import utils.functions.ThrowingPredicate;
+import utils.functions.ThrowingStream;
+
+/**
+ * Map/filter/map pipeline over 1000 elements summed up: {@link java.util.stream} with plain lambdas,
+ * {@link java.util.stream} with {@code Throwing*} lambdas and {@link ThrowingStream} with fused stages.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class StreamBenchmark {
+
+    private List<Integer> numbers;
+
+    private ThrowingFunction<Integer, Integer> increment;
+    private ThrowingPredicate<Integer> isEven;
+    private ThrowingFunction<Integer, Integer> square;
+
+    @Setup
+    public void setUp() {
+        numbers = IntStream.range(0, 1_000).boxed().collect(Collectors.toList());
+        increment = i -> i + 1;
+        isEven = i -> (i & 1) == 0;
+        square = i -> i * i;
+    }
+
+    @Benchmark
+    public int jdkStream() {
+        return numbers.stream()
+                .map(i -> i + 1)
+                .filter(i -> (i & 1) == 0)
+                .map(i -> i * i)
+                .reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public int jdkStreamOfThrowingLambdas() {
+        return numbers.stream()
+                .map(increment)
+                .filter(isEven)
+                .map(square)
+                .reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public int throwingStream() {
+        return ThrowingStream.of(numbers)
+                .map(increment)
+                .filter(isEven)
+                .map(square)
+                .reduce(0, Integer::sum);
+    }
+}
@@ -0,0 +1,159 @@
+package utils.functions;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * {@link ThrowingPredicate} that is a short-circuiting logical AND or OR of it's predicates
+ * and tests them in the order that is cheapest for the observed inputs.
+ * <p>
+ * One of {@link #SAMPLE_RATE} calls, chosen at random without shared writes, measures each
+ * predicate it tests: how long it took and whether it passed. Every {@link #REORDER_INTERVAL}
+ * samples the predicates are sorted by expected cost per decisive result, for AND that is
+ * the cost divided by the rejection rate, for OR the cost divided by the pass rate, so the
+ * cheap and selective ones are tested first. Then the statistics are halved, so the order
+ * follows changes of the traffic. Predicates without samples go first, to get measured.
+ * <p>
+ * The order is an immutable array published through a volatile field, a reordering thread
+ * replaces it without locks and concurrent calls keep using the order they read. The result
+ * does not depend on the order as long as the predicates are pure and do not rely on each
+ * other, e.g. a null check guarding another predicate should be combined with
+ * {@link ThrowingPredicate#allOf(ThrowingPredicate[])} instead.
+ *
+ * @param <T> the type of the input to the predicate
+ * @see ThrowingPredicate#adaptiveAllOf(ThrowingPredicate[])
+ * @see ThrowingPredicate#adaptiveAnyOf(ThrowingPredicate[])
+ */
+final class AdaptivePredicate<T> implements ThrowingPredicate<T> {
+
+    static final int SAMPLE_RATE = 64;
+    static final int REORDER_INTERVAL = 256;
+
+    private final boolean all;
+    private final ThrowingPredicate<? super T>[] predicates;
+
+    private final AtomicLongArray evaluations;
+    private final AtomicLongArray passes;
+    private final AtomicLongArray nanos;
+    private final AtomicInteger samples = new AtomicInteger();
+
+    /**
+     * Indexes of {@link #predicates} in the order they are tested.
+     */
+    private volatile int[] order;
+
+    private AdaptivePredicate(boolean all, ThrowingPredicate<? super T>[] predicates) {
+        this.all = all;
+        this.predicates = predicates;
+        this.evaluations = new AtomicLongArray(predicates.length);
+        this.passes = new AtomicLongArray(predicates.length);
+        this.nanos = new AtomicLongArray(predicates.length);
+
+        int[] order = new int[predicates.length];
+        Arrays.setAll(order, i -> i);
+        this.order = order;
+    }
+
+    /**
+     * @param all        {@code true} for a logical AND, {@code false} for a logical OR
+     * @param predicates the predicates to combine
+     * @return adaptive combination of the {@code predicates}, or a constant or single predicate they fold to
+     * @throws NullPointerException if any of the {@code predicates} is null
+     */
+    static <T> ThrowingPredicate<T> of(boolean all, Iterable<? extends ThrowingPredicate<? super T>> predicates) {
+        ThrowingPredicate<T> folded = CompositePredicate.of(all, predicates);
+
+        if (!(folded instanceof CompositePredicate)) {
+            return folded;
+        }
+
+        return new AdaptivePredicate<>(all, ((CompositePredicate<T>) folded).predicates());
+    }
+
+    @Override
+    public boolean testThrowing(T t) throws Exception {
+        int[] order = this.order;
+
+        if (ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0) {
+            return testSampled(t, order);
+        }
+
+        for (int index : order) {
+            if (predicates[index].testThrowing(t) != all) {
+                return !all;
+            }
+        }
+        return all;
+    }
+
+    private boolean testSampled(T t, int[] order) throws Exception {
+        boolean result = all;
+
+        for (int index : order) {
+            long start = System.nanoTime();
+            boolean passed = predicates[index].testThrowing(t);
+
+            nanos.addAndGet(index, System.nanoTime() - start);
+            evaluations.incrementAndGet(index);
+            if (passed) {
+                passes.incrementAndGet(index);
+            }
+
+            if (passed != all) {
+                result = !all;
+                break;
+            }
+        }
+
+        if (samples.incrementAndGet() % REORDER_INTERVAL == 0) {
+            reorder();
+        }
+
+        return result;
+    }
+
+    private void reorder() {
+        int length = predicates.length;
+        double[] ranks = new double[length];
+
+        for (int i = 0; i < length; i++) {
+            long evaluated = evaluations.get(i);
+
+            if (evaluated == 0) {
+                ranks[i] = -1;
+                continue;
+            }
+
+            double cost = Math.max(1.0, (double) nanos.get(i) / evaluated);
+            // smoothed, so a predicate never seen deciding is not ranked infinitely low
+            double passRate = (passes.get(i) + 1.0) / (evaluated + 2.0);
+            ranks[i] = cost / (all ? 1 - passRate : passRate);
+        }
+
+        Integer[] sorted = new Integer[length];
+        Arrays.setAll(sorted, i -> i);
+        Arrays.sort(sorted, Comparator.<Integer>comparingDouble(i -> ranks[i]).thenComparingInt(i -> i));
+
+        int[] order = new int[length];
+        for (int i = 0; i < length; i++) {
+            order[i] = sorted[i];
+        }
+        this.order = order;
+
+        for (int i = 0; i < length; i++) {
+            evaluations.getAndUpdate(i, value -> value >> 1);
+            passes.getAndUpdate(i, value -> value >> 1);
+            nanos.getAndUpdate(i, value -> value >> 1);
+        }
+    }
+
+    /**
+     * @return indexes of the predicates in the order they are tested now
+     */
+    int[] order() {
+        return order.clone();
+    }
+}
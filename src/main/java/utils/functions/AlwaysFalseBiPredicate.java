@@ -0,0 +1,67 @@
+package utils.functions;
+
+import java.util.Objects;
+import java.util.function.BiPredicate;
+
+/**
+ * {@link ThrowingBiPredicate} that always returns {@code false}, shared as {@link #instance()}.
+ * Combinators of {@link ThrowingBiPredicate} fold it away when the combination is built.
+ *
+ * @param <T> ignored first param
+ * @param <U> ignored second param
+ * @see AlwaysFalsePredicate
+ */
+public final class AlwaysFalseBiPredicate<T, U> implements ThrowingBiPredicate<T, U> {
+
+    private static final AlwaysFalseBiPredicate<?, ?> INSTANCE = new AlwaysFalseBiPredicate<>();
+
+    private AlwaysFalseBiPredicate() {
+    }
+
+    /**
+     * @return the shared instance
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, U> AlwaysFalseBiPredicate<T, U> instance() {
+        return (AlwaysFalseBiPredicate<T, U>) INSTANCE;
+    }
+
+    @Override
+    public boolean testThrowing(T iAmNothing, U meToo) {
+        return false;
+    }
+
+    @Override
+    public boolean test(T iAmNothing, U meToo) {
+        return false;
+    }
+
+    /**
+     * @return this predicate, {@code other} is not tested
+     */
+    @Override
+    public ThrowingBiPredicate<T, U> and(BiPredicate<? super T, ? super U> other) {
+        Objects.requireNonNull(other);
+        return this;
+    }
+
+    /**
+     * @return {@code other}, as {@code false || other} is {@code other}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ThrowingBiPredicate<T, U> or(BiPredicate<? super T, ? super U> other) {
+        Objects.requireNonNull(other);
+        return other instanceof ThrowingBiPredicate
+                ? (ThrowingBiPredicate<T, U>) other
+                : ThrowingBiPredicate.wrap(other);
+    }
+
+    /**
+     * @return {@link AlwaysTrueBiPredicate#instance()}
+     */
+    @Override
+    public ThrowingBiPredicate<T, U> negate() {
+        return AlwaysTrueBiPredicate.instance();
+    }
+}
@@ -0,0 +1,61 @@
+package utils.functions;
+
+import java.util.Objects;
+import java.util.function.DoublePredicate;
+
+/**
+ * {@link ThrowingDoublePredicate} that always returns {@code false}, shared as {@link #instance()}.
+ * Combinators of {@link ThrowingDoublePredicate} fold it away when the combination is built.
+ *
+ * @see AlwaysFalsePredicate
+ */
+public final class AlwaysFalseDoublePredicate implements ThrowingDoublePredicate {
+
+    private static final AlwaysFalseDoublePredicate INSTANCE = new AlwaysFalseDoublePredicate();
+
+    private AlwaysFalseDoublePredicate() {
+    }
+
+    /**
+     * @return the shared instance
+     */
+    public static AlwaysFalseDoublePredicate instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public boolean testThrows(double iAmNothing) {
+        return false;
+    }
+
+    @Override
+    public boolean test(double iAmNothing) {
+        return false;
+    }
+
+    /**
+     * @return this predicate, {@code other} is not tested
+     */
+    @Override
+    public ThrowingDoublePredicate and(DoublePredicate other) {
+        Objects.requireNonNull(other);
+        return this;
+    }
+
+    /**
+     * @return {@code other}, as {@code false || other} is {@code other}
+     */
+    @Override
+    public ThrowingDoublePredicate or(DoublePredicate other) {
+        Objects.requireNonNull(other);
+        return other instanceof ThrowingDoublePredicate ? (ThrowingDoublePredicate) other : ThrowingDoublePredicate.wrap(other);
+    }
+
+    /**
+     * @return {@link AlwaysTrueDoublePredicate#instance()}
+     */
+    @Override
+    public ThrowingDoublePredicate negate() {
+        return AlwaysTrueDoublePredicate.instance();
+    }
+}
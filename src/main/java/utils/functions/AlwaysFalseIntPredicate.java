@@ -0,0 +1,61 @@
+package utils.functions;
+
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * {@link ThrowingIntPredicate} that always returns {@code false}, shared as {@link #instance()}.
+ * Combinators of {@link ThrowingIntPredicate} fold it away when the combination is built.
+ *
+ * @see AlwaysFalsePredicate
+ */
+public final class AlwaysFalseIntPredicate implements ThrowingIntPredicate {
+
+    private static final AlwaysFalseIntPredicate INSTANCE = new AlwaysFalseIntPredicate();
+
+    private AlwaysFalseIntPredicate() {
+    }
+
+    /**
+     * @return the shared instance
+     */
+    public static AlwaysFalseIntPredicate instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public boolean testThrows(int iAmNothing) {
+        return false;
+    }
+
+    @Override
+    public boolean test(int iAmNothing) {
+        return false;
+    }
+
+    /**
+     * @return this predicate, {@code other} is not tested
+     */
+    @Override
+    public ThrowingIntPredicate and(IntPredicate other) {
+        Objects.requireNonNull(other);
+        return this;
+    }
+
+    /**
+     * @return {@code other}, as {@code false || other} is {@code other}
+     */
+    @Override
+    public ThrowingIntPredicate or(IntPredicate other) {
+        Objects.requireNonNull(other);
+        return other instanceof ThrowingIntPredicate ? (ThrowingIntPredicate) other : ThrowingIntPredicate.wrap(other);
+    }
+
+    /**
+     * @return {@link AlwaysTrueIntPredicate#instance()}
+     */
+    @Override
+    public ThrowingIntPredicate negate() {
+        return AlwaysTrueIntPredicate.instance();
+    }
+}
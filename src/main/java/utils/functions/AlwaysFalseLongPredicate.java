@@ -0,0 +1,61 @@
+package utils.functions;
+
+import java.util.Objects;
+import java.util.function.LongPredicate;
+
+/**
+ * {@link ThrowingLongPredicate} that always returns {@code false}, shared as {@link #instance()}.
+ * Combinators of {@link ThrowingLongPredicate} fold it away when the combination is built.
+ *
+ * @see AlwaysFalsePredicate
+ */
+public final class AlwaysFalseLongPredicate implements ThrowingLongPredicate {
+
+    private static final AlwaysFalseLongPredicate INSTANCE = new AlwaysFalseLongPredicate();
+
+    private AlwaysFalseLongPredicate() {
+    }
+
+    /**
+     * @return the shared instance
+     */
+    public static AlwaysFalseLongPredicate instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public boolean testThrows(long iAmNothing) {
+        return false;
+    }
+
+    @Override
+    public boolean test(long iAmNothing) {
+        return false;
+    }
+
+    /**
+     * @return this predicate, {@code other} is not tested
+     */
+    @Override
+    public ThrowingLongPredicate and(LongPredicate other) {
+        Objects.requireNonNull(other);
+        return this;
+    }
+
+    /**
+     * @return {@code other}, as {@code false || other} is {@code other}
+     */
+    @Override
+    public ThrowingLongPredicate or(LongPredicate other) {
+        Objects.requireNonNull(other);
+        return other instanceof ThrowingLongPredicate ? (ThrowingLongPredicate) other : ThrowingLongPredicate.wrap(other);
+    }
+
+    /**
+     * @return {@link AlwaysTrueLongPredicate#instance()}
+     */
+    @Override
+    public ThrowingLongPredicate negate() {
+        return AlwaysTrueLongPredicate.instance();
+    }
+}
@@ -1,17 +1,39 @@
 package utils.functions;
 
-import java.util.function.Predicate;
-
-
 /**
- * Predicate that always returns {@code false}
+ * Predicate that always returns {@code false}, use the shared {@link #instance()}
+ * instead of creating new ones. Combinators of {@link ThrowingPredicate} fold it away
+ * when the combination is built.
  *
  * @param <T> ignored param
  */
-public class AlwaysFalsePredicate<T> implements Predicate<T> {
+public class AlwaysFalsePredicate<T> implements ThrowingPredicate<T> {
+
+    private static final AlwaysFalsePredicate<?> INSTANCE = new AlwaysFalsePredicate<>();
+
+    /**
+     * @return the shared instance
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> AlwaysFalsePredicate<T> instance() {
+        return (AlwaysFalsePredicate<T>) INSTANCE;
+    }
+
+    @Override
+    public boolean testThrowing(T iAmNothing) {
+        return false;
+    }
 
     @Override
     public boolean test(T iAmNothing) {
         return false;
     }
+
+    /**
+     * @return {@link AlwaysTruePredicate#instance()}
+     */
+    @Override
+    public ThrowingPredicate<T> negate() {
+        return AlwaysTruePredicate.instance();
+    }
 }
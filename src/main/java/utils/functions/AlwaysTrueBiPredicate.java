@@ -0,0 +1,67 @@
+package utils.functions;
+
+import java.util.Objects;
+import java.util.function.BiPredicate;
+
+/**
+ * {@link ThrowingBiPredicate} that always returns {@code true}, shared as {@link #instance()}.
+ * Combinators of {@link ThrowingBiPredicate} fold it away when the combination is built.
+ *
+ * @param <T> ignored first param
+ * @param <U> ignored second param
+ * @see AlwaysTruePredicate
+ */
+public final class AlwaysTrueBiPredicate<T, U> implements ThrowingBiPredicate<T, U> {
+
+    private static final AlwaysTrueBiPredicate<?, ?> INSTANCE = new AlwaysTrueBiPredicate<>();
+
+    private AlwaysTrueBiPredicate() {
+    }
+
+    /**
+     * @return the shared instance
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, U> AlwaysTrueBiPredicate<T, U> instance() {
+        return (AlwaysTrueBiPredicate<T, U>) INSTANCE;
+    }
+
+    @Override
+    public boolean testThrowing(T iAmNothing, U meToo) {
+        return true;
+    }
+
+    @Override
+    public boolean test(T iAmNothing, U meToo) {
+        return true;
+    }
+
+    /**
+     * @return {@code other}, as {@code true && other} is {@code other}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ThrowingBiPredicate<T, U> and(BiPredicate<? super T, ? super U> other) {
+        Objects.requireNonNull(other);
+        return other instanceof ThrowingBiPredicate
+                ? (ThrowingBiPredicate<T, U>) other
+                : ThrowingBiPredicate.wrap(other);
+    }
+
+    /**
+     * @return this predicate, {@code other} is not tested
+     */
+    @Override
+    public ThrowingBiPredicate<T, U> or(BiPredicate<? super T, ? super U> other) {
+        Objects.requireNonNull(other);
+        return this;
+    }
+
+    /**
+     * @return {@link AlwaysFalseBiPredicate#instance()}
+     */
+    @Override
+    public ThrowingBiPredicate<T, U> negate() {
+        return AlwaysFalseBiPredicate.instance();
+    }
+}
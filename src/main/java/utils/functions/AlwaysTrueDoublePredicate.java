@@ -0,0 +1,61 @@
+package utils.functions;
+
+import java.util.Objects;
+import java.util.function.DoublePredicate;
+
+/**
+ * {@link ThrowingDoublePredicate} that always returns {@code true}, shared as {@link #instance()}.
+ * Combinators of {@link ThrowingDoublePredicate} fold it away when the combination is built.
+ *
+ * @see AlwaysTruePredicate
+ */
+public final class AlwaysTrueDoublePredicate implements ThrowingDoublePredicate {
+
+    private static final AlwaysTrueDoublePredicate INSTANCE = new AlwaysTrueDoublePredicate();
+
+    private AlwaysTrueDoublePredicate() {
+    }
+
+    /**
+     * @return the shared instance
+     */
+    public static AlwaysTrueDoublePredicate instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public boolean testThrows(double iAmNothing) {
+        return true;
+    }
+
+    @Override
+    public boolean test(double iAmNothing) {
+        return true;
+    }
+
+    /**
+     * @return {@code other}, as {@code true && other} is {@code other}
+     */
+    @Override
+    public ThrowingDoublePredicate and(DoublePredicate other) {
+        Objects.requireNonNull(other);
+        return other instanceof ThrowingDoublePredicate ? (ThrowingDoublePredicate) other : ThrowingDoublePredicate.wrap(other);
+    }
+
+    /**
+     * @return this predicate, {@code other} is not tested
+     */
+    @Override
+    public ThrowingDoublePredicate or(DoublePredicate other) {
+        Objects.requireNonNull(other);
+        return this;
+    }
+
+    /**
+     * @return {@link AlwaysFalseDoublePredicate#instance()}
+     */
+    @Override
+    public ThrowingDoublePredicate negate() {
+        return AlwaysFalseDoublePredicate.instance();
+    }
+}
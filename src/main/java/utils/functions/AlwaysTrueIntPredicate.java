@@ -0,0 +1,61 @@
+package utils.functions;
+
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * {@link ThrowingIntPredicate} that always returns {@code true}, shared as {@link #instance()}.
+ * Combinators of {@link ThrowingIntPredicate} fold it away when the combination is built.
+ *
+ * @see AlwaysTruePredicate
+ */
+public final class AlwaysTrueIntPredicate implements ThrowingIntPredicate {
+
+    private static final AlwaysTrueIntPredicate INSTANCE = new AlwaysTrueIntPredicate();
+
+    private AlwaysTrueIntPredicate() {
+    }
+
+    /**
+     * @return the shared instance
+     */
+    public static AlwaysTrueIntPredicate instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public boolean testThrows(int iAmNothing) {
+        return true;
+    }
+
+    @Override
+    public boolean test(int iAmNothing) {
+        return true;
+    }
+
+    /**
+     * @return {@code other}, as {@code true && other} is {@code other}
+     */
+    @Override
+    public ThrowingIntPredicate and(IntPredicate other) {
+        Objects.requireNonNull(other);
+        return other instanceof ThrowingIntPredicate ? (ThrowingIntPredicate) other : ThrowingIntPredicate.wrap(other);
+    }
+
+    /**
+     * @return this predicate, {@code other} is not tested
+     */
+    @Override
+    public ThrowingIntPredicate or(IntPredicate other) {
+        Objects.requireNonNull(other);
+        return this;
+    }
+
+    /**
+     * @return {@link AlwaysFalseIntPredicate#instance()}
+     */
+    @Override
+    public ThrowingIntPredicate negate() {
+        return AlwaysFalseIntPredicate.instance();
+    }
+}
@@ -0,0 +1,61 @@
+package utils.functions;
+
+import java.util.Objects;
+import java.util.function.LongPredicate;
+
+/**
+ * {@link ThrowingLongPredicate} that always returns {@code true}, shared as {@link #instance()}.
+ * Combinators of {@link ThrowingLongPredicate} fold it away when the combination is built.
+ *
+ * @see AlwaysTruePredicate
+ */
+public final class AlwaysTrueLongPredicate implements ThrowingLongPredicate {
+
+    private static final AlwaysTrueLongPredicate INSTANCE = new AlwaysTrueLongPredicate();
+
+    private AlwaysTrueLongPredicate() {
+    }
+
+    /**
+     * @return the shared instance
+     */
+    public static AlwaysTrueLongPredicate instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public boolean testThrows(long iAmNothing) {
+        return true;
+    }
+
+    @Override
+    public boolean test(long iAmNothing) {
+        return true;
+    }
+
+    /**
+     * @return {@code other}, as {@code true && other} is {@code other}
+     */
+    @Override
+    public ThrowingLongPredicate and(LongPredicate other) {
+        Objects.requireNonNull(other);
+        return other instanceof ThrowingLongPredicate ? (ThrowingLongPredicate) other : ThrowingLongPredicate.wrap(other);
+    }
+
+    /**
+     * @return this predicate, {@code other} is not tested
+     */
+    @Override
+    public ThrowingLongPredicate or(LongPredicate other) {
+        Objects.requireNonNull(other);
+        return this;
+    }
+
+    /**
+     * @return {@link AlwaysFalseLongPredicate#instance()}
+     */
+    @Override
+    public ThrowingLongPredicate negate() {
+        return AlwaysFalseLongPredicate.instance();
+    }
+}
@@ -1,16 +1,39 @@
 package utils.functions;
 
-import java.util.function.Predicate;
-
 /**
- * Predicate that always returns {@code true}
+ * Predicate that always returns {@code true}, use the shared {@link #instance()}
+ * instead of creating new ones. Combinators of {@link ThrowingPredicate} fold it away
+ * when the combination is built.
  *
  * @param <T> ignored param
  */
-public class AlwaysTruePredicate<T> implements Predicate<T> {
+public class AlwaysTruePredicate<T> implements ThrowingPredicate<T> {
+
+    private static final AlwaysTruePredicate<?> INSTANCE = new AlwaysTruePredicate<>();
+
+    /**
+     * @return the shared instance
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> AlwaysTruePredicate<T> instance() {
+        return (AlwaysTruePredicate<T>) INSTANCE;
+    }
+
+    @Override
+    public boolean testThrowing(T iAmNothing) {
+        return true;
+    }
 
     @Override
     public boolean test(T iAmNothing) {
         return true;
     }
+
+    /**
+     * @return {@link AlwaysFalsePredicate#instance()}
+     */
+    @Override
+    public ThrowingPredicate<T> negate() {
+        return AlwaysFalsePredicate.instance();
+    }
 }
@@ -0,0 +1,89 @@
+package utils.functions;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Attempts of {@link TryCatch#retryAsync(ThrowingSupplier, RetryPolicy, ScheduledExecutorService)}.
+ * <p>
+ * Each attempt runs as a task of the scheduler and schedules the next one with a delay,
+ * so no thread is blocked between attempts. Attempts never overlap and the scheduler
+ * orders a submission before the task's execution, so the mutable state needs no locks.
+ * Once the result is completed from outside, e.g. cancelled, no more attempts are made.
+ *
+ * @param <T> the type of the result
+ */
+final class AsyncRetry<T> implements Runnable {
+
+    private final ThrowingSupplier<? extends T> supplier;
+    private final RetryPolicy policy;
+    private final ScheduledExecutorService scheduler;
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+
+    private long startNanos;
+    private int attempt;
+    private long delayNanos;
+
+    AsyncRetry(ThrowingSupplier<? extends T> supplier, RetryPolicy policy, ScheduledExecutorService scheduler) {
+        this.supplier = supplier;
+        this.policy = policy;
+        this.scheduler = scheduler;
+    }
+
+    CompletableFuture<T> start() {
+        startNanos = System.nanoTime();
+
+        try {
+            scheduler.execute(this);
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+
+        return result;
+    }
+
+    @Override
+    public void run() {
+        if (result.isDone()) {
+            return;
+        }
+
+        attempt++;
+
+        try {
+            result.complete(supplier.getThrowing());
+        } catch (Exception e) {
+            onFailure(e);
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private void onFailure(Exception failure) {
+        long nextDelayNanos;
+
+        try {
+            nextDelayNanos = policy.nextDelayNanos(failure, attempt, delayNanos, System.nanoTime() - startNanos);
+        } catch (Throwable e) {
+            failure.addSuppressed(e);
+            result.completeExceptionally(failure);
+            return;
+        }
+
+        if (nextDelayNanos < 0) {
+            result.completeExceptionally(failure);
+            return;
+        }
+
+        delayNanos = nextDelayNanos;
+
+        try {
+            scheduler.schedule(this, nextDelayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            failure.addSuppressed(e);
+            result.completeExceptionally(failure);
+        }
+    }
+}
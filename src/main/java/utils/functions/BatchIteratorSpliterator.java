@@ -0,0 +1,102 @@
+package utils.functions;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * {@link Spliterator} over an {@link Iterator} that splits off prefixes of a fixed number of elements.
+ * <p>
+ * The iterator can only be walked by one thread, so a split copies the next {@code batchSize} elements
+ * to an array and returns an array spliterator over them, which other threads can split further.
+ * The JDK iterator spliterator grows it's batches from 1024 elements on, so a stream of a few thousand
+ * expensive elements hardly runs in parallel, a batch size fitted to the cost of an element fixes that.
+ *
+ * @param <T> the type of the elements
+ * @see Streams#toParallelStream(Iterator, int, int)
+ */
+final class BatchIteratorSpliterator<T> implements Spliterator<T> {
+
+    private final Iterator<? extends T> iterator;
+    private final int characteristics;
+    private final int batchSize;
+    private long size;
+
+    /**
+     * @param iterator        the source of elements
+     * @param size            number of elements, {@link Long#MAX_VALUE} if unknown
+     * @param characteristics characteristics of the source, {@code SIZED} and {@code SUBSIZED} are set only for a known size
+     * @param batchSize       number of elements in a split off prefix
+     */
+    BatchIteratorSpliterator(Iterator<? extends T> iterator, long size, int characteristics, int batchSize) {
+        this.iterator = iterator;
+        this.size = size;
+        this.characteristics = size == Long.MAX_VALUE
+                ? characteristics & ~(SIZED | SUBSIZED)
+                : characteristics | SIZED | SUBSIZED;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (size <= 1 || !iterator.hasNext()) {
+            return null;
+        }
+
+        int length = (int) Math.min(batchSize, size);
+        Object[] batch = new Object[length];
+        int count = 0;
+
+        do {
+            batch[count++] = iterator.next();
+        } while (count < length && iterator.hasNext());
+
+        if (size != Long.MAX_VALUE) {
+            size -= count;
+        }
+
+        return Spliterators.spliterator(batch, 0, count, characteristics);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (!iterator.hasNext()) {
+            return false;
+        }
+
+        T element = iterator.next();
+        if (size != Long.MAX_VALUE) {
+            size--;
+        }
+        action.accept(element);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        iterator.forEachRemaining(action);
+        if (size != Long.MAX_VALUE) {
+            size = 0;
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    @Override
+    public Comparator<? super T> getComparator() {
+        if (hasCharacteristics(SORTED)) {
+            return null;
+        }
+        throw new IllegalStateException();
+    }
+}
@@ -1,7 +1,14 @@
 package utils.functions;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 
 public final class BatchOperation {
@@ -10,6 +17,198 @@ public final class BatchOperation {
         Objects.requireNonNull(iterable).forEach(action);
     }
 
+    /**
+     * Calls {@code action} with each element of {@code iterable} in parallel, in the {@link ForkJoinPool#commonPool()}.
+     *
+     * @see #withEachParallel(ForkJoinPool, Iterable, Consumer)
+     */
+    public static <T> void withEachParallel(Iterable<? extends T> iterable, Consumer<? super T> action) {
+        withEachParallel(ForkJoinPool.commonPool(), iterable, action);
+    }
+
+    /**
+     * Calls {@code action} with each element of {@code iterable} in parallel, in a new {@link ForkJoinPool} of
+     * {@code parallelism} workers that is shut down afterwards. The parallelism of one calls it on the caller thread.
+     *
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     * @see #withEachParallel(ForkJoinPool, Iterable, Consumer)
+     */
+    public static <T> void withEachParallel(Iterable<? extends T> iterable, Consumer<? super T> action, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism should be positive: " + parallelism);
+        }
+
+        if (parallelism == 1) {
+            withEach(iterable, Objects.requireNonNull(action));
+            return;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            withEachParallel(pool, iterable, action);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Calls {@code action} with each element of {@code iterable} in parallel, in the {@code pool}, and waits for all
+     * the calls. {@link RandomAccess} lists are split by index ranges, other iterables are copied to a list first.
+     * Chunks are split further only while the pool has idle workers to take them.
+     * <p>
+     * Once {@code action} throws, the remaining elements are skipped and the first failure is rethrown, failures
+     * of concurrent calls are added to it as suppressed.
+     */
+    public static <T> void withEachParallel(ForkJoinPool pool, Iterable<? extends T> iterable, Consumer<? super T> action) {
+        Objects.requireNonNull(pool);
+        Objects.requireNonNull(action);
+
+        List<? extends T> list = asRandomAccessList(Objects.requireNonNull(iterable));
+
+        if (list.size() < 2) {
+            list.forEach(action);
+            return;
+        }
+
+        ParallelForEach<T> task = ParallelForEach.of(list, action, pool.getParallelism());
+        pool.invoke(task);
+
+        Throwable failure = task.failure();
+        if (failure != null) {//noinspection RedundantTypeArguments
+            throw Functions.<RuntimeException>sneakyThrow(failure);
+        }
+    }
+
+    private static <T> List<? extends T> asRandomAccessList(Iterable<? extends T> iterable) {
+        if (iterable instanceof List && iterable instanceof RandomAccess) {
+            return (List<? extends T>) iterable;
+        }
+
+        if (iterable instanceof Collection) {
+            return new ArrayList<>((Collection<? extends T>) iterable);
+        }
+
+        List<T> list = new ArrayList<>();
+        iterable.forEach(list::add);
+        return list;
+    }
+
+    /**
+     * Returns {@link Batcher} that passes batches of {@code batchSize} elements to {@code sink}.
+     *
+     * @throws IllegalArgumentException if {@code batchSize} is not positive
+     * @see #batcher(int, Duration, ThrowingConsumer)
+     */
+    public static <T> Batcher<T> batcher(int batchSize, ThrowingConsumer<? super List<T>> sink) {
+        return new Batcher<>(batchSize, 0, sink);
+    }
+
+    /**
+     * Returns {@link Batcher} that passes batches of {@code batchSize} elements to {@code sink}, or smaller ones
+     * once an element is added to a batch started at least {@code maxAge} ago.
+     *
+     * @throws IllegalArgumentException if {@code batchSize} or {@code maxAge} is not positive
+     * @see #batcher(int, ThrowingConsumer)
+     */
+    public static <T> Batcher<T> batcher(int batchSize, Duration maxAge, ThrowingConsumer<? super List<T>> sink) {
+        if (Objects.requireNonNull(maxAge).isNegative() || maxAge.isZero()) {
+            throw new IllegalArgumentException("Max age should be positive: " + maxAge);
+        }
+        return new Batcher<>(batchSize, maxAge.toNanos(), sink);
+    }
+
+    /**
+     * Returns started {@link MicroBatcher} that many threads may pass elements to, a background thread passes
+     * them to {@code sink} in batches according to the {@code policy}. Close it to flush the remaining elements
+     * and stop the thread.
+     *
+     * @see MicroBatchPolicy
+     */
+    public static <T> MicroBatcher<T> microBatcher(MicroBatchPolicy policy, ThrowingConsumer<? super List<T>> sink) {
+        return MicroBatcher.start(policy, sink);
+    }
+
+    /**
+     * Passes elements of {@code iterable} to {@code sink} in batches of {@code batchSize}, the last batch may be
+     * smaller. Batches are views of one reused buffer, see {@link Batcher}.
+     *
+     * @throws IllegalArgumentException if {@code batchSize} is not positive
+     * @see #inBatches(Iterable, int, Duration, ThrowingConsumer)
+     */
+    public static <T> void inBatches(Iterable<? extends T> iterable, int batchSize, ThrowingConsumer<? super List<T>> sink) {
+        inBatches(iterable, batcher(batchSize, sink));
+    }
+
+    /**
+     * Passes elements of {@code iterable} to {@code sink} in batches of {@code batchSize}, or smaller ones when
+     * the next element comes at least {@code maxAge} after a batch was started. The last batch may be smaller.
+     *
+     * @throws IllegalArgumentException if {@code batchSize} or {@code maxAge} is not positive
+     * @see #batcher(int, Duration, ThrowingConsumer)
+     */
+    public static <T> void inBatches(
+            Iterable<? extends T> iterable,
+            int batchSize,
+            Duration maxAge,
+            ThrowingConsumer<? super List<T>> sink
+    ) {
+        inBatches(iterable, batcher(batchSize, maxAge, sink));
+    }
+
+    /**
+     * Passes elements of {@code stream} to {@code sink} in encounter order in batches of {@code batchSize},
+     * the last batch may be smaller.
+     *
+     * @throws IllegalArgumentException if {@code batchSize} is not positive
+     * @see #inBatches(Iterable, int, ThrowingConsumer)
+     */
+    public static <T> void inBatches(Stream<? extends T> stream, int batchSize, ThrowingConsumer<? super List<T>> sink) {
+        inBatches(stream, batcher(batchSize, sink));
+    }
+
+    /**
+     * Passes elements of {@code stream} to {@code sink} in encounter order in batches of {@code batchSize},
+     * or smaller ones when the next element comes at least {@code maxAge} after a batch was started.
+     *
+     * @throws IllegalArgumentException if {@code batchSize} or {@code maxAge} is not positive
+     * @see #inBatches(Iterable, int, Duration, ThrowingConsumer)
+     */
+    public static <T> void inBatches(
+            Stream<? extends T> stream,
+            int batchSize,
+            Duration maxAge,
+            ThrowingConsumer<? super List<T>> sink
+    ) {
+        inBatches(stream, batcher(batchSize, maxAge, sink));
+    }
+
+    /**
+     * Passes elements of {@code array} to {@code sink} in batches of {@code batchSize}, the last batch may be smaller.
+     *
+     * @throws IllegalArgumentException if {@code batchSize} is not positive
+     * @see #inBatches(Iterable, int, ThrowingConsumer)
+     */
+    public static <T> void inBatches(T[] array, int batchSize, ThrowingConsumer<? super List<T>> sink) {
+        Objects.requireNonNull(array);
+        Batcher<T> batcher = batcher(batchSize, sink);
+
+        for (T element : array) {
+            batcher.add(element);
+        }
+
+        batcher.close();
+    }
+
+    private static <T> void inBatches(Iterable<? extends T> iterable, Batcher<T> batcher) {
+        Objects.requireNonNull(iterable).forEach(batcher::add);
+        batcher.close();
+    }
+
+    private static <T> void inBatches(Stream<? extends T> stream, Batcher<T> batcher) {
+        Objects.requireNonNull(stream).forEachOrdered(batcher::add);
+        batcher.close();
+    }
+
     @SafeVarargs
     public static <T> void doForEach(Consumer<? super T> action, T... doWithUs) {
         Objects.requireNonNull(action);
@@ -0,0 +1,111 @@
+package utils.functions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Groups added elements into batches and passes each batch to a sink, so the sink
+ * is called once per batch instead of once per element.
+ * <p>
+ * A batch is passed once it has {@code batchSize} elements, or, when a max age is set,
+ * once an element is added to a batch that was started at least max age ago. There is
+ * no background timer, an old batch waits for the next {@link #add}, {@link #flush()}
+ * or {@link #close()}. Closing passes the remaining elements.
+ * <p>
+ * All the batches are a read-only view of one reused buffer that is cleared after the
+ * sink returns or throws, so the sink should copy a batch it keeps. A batch that the sink
+ * failed on is dropped and the failure is rethrown. Instances are not thread-safe.
+ * <pre>
+ *   try (Batcher&lt;Row&gt; batcher = BatchOperation.batcher(500, rows -&gt; dao.insertAll(rows))) {
+ *       for (Row row : rows) {
+ *           batcher.add(row);
+ *       }
+ *   }
+ * </pre>
+ *
+ * @param <T> the type of the elements
+ * @see BatchOperation#batcher(int, java.time.Duration, ThrowingConsumer)
+ * @see BatchOperation#inBatches(Iterable, int, ThrowingConsumer)
+ */
+public final class Batcher<T> implements AutoCloseable {
+
+    private final int batchSize;
+    private final long maxAgeNanos;
+    private final ThrowingConsumer<? super List<T>> sink;
+    private final ArrayList<T> buffer;
+    private final List<T> batch;
+
+    private long startNanos;
+    private boolean closed;
+
+    Batcher(int batchSize, long maxAgeNanos, ThrowingConsumer<? super List<T>> sink) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size should be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        this.maxAgeNanos = maxAgeNanos;
+        this.sink = Objects.requireNonNull(sink);
+        this.buffer = new ArrayList<>(Math.min(batchSize, 1 << 16));
+        this.batch = Collections.unmodifiableList(buffer);
+    }
+
+    /**
+     * Adds {@code element} to the current batch and passes the batch to the sink if it is full or old enough.
+     *
+     * @param element the element to add
+     * @throws IllegalStateException if this batcher is closed
+     */
+    public void add(T element) {
+        if (closed) {
+            throw new IllegalStateException("Batcher is closed");
+        }
+
+        if (maxAgeNanos == 0) {
+            buffer.add(element);
+
+            if (buffer.size() >= batchSize) {
+                flush();
+            }
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (buffer.isEmpty()) {
+            startNanos = now;
+        }
+
+        buffer.add(element);
+
+        if (buffer.size() >= batchSize || now - startNanos >= maxAgeNanos) {
+            flush();
+        }
+    }
+
+    /**
+     * Passes the current batch to the sink, unless it is empty.
+     */
+    public void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+
+        try {
+            sink.accept(batch);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Passes the remaining elements to the sink, further {@link #add} calls fail.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            flush();
+        }
+    }
+}
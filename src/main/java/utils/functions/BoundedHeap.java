@@ -0,0 +1,117 @@
+package utils.functions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Binary max-heap that keeps the {@code k} least elements by a comparator, the container of
+ * {@link CollectOperation#toBottomK(int, Comparator)}, {@link CollectOperation#toTopK(int, Comparator)}
+ * and {@link CollectOperation#kthSmallest(int, Comparator)}.
+ * <p>
+ * The root is the greatest kept element, an element that is not less than it is dropped after
+ * a single comparison, so collecting {@code n} elements takes {@code O(n log k)} time and
+ * {@code O(k)} memory. Heaps of a parallel stream are merged by offering the elements of one to the other.
+ *
+ * @param <T> the type of the elements
+ * @see LongKeyedHeap
+ */
+final class BoundedHeap<T> {
+
+    private final int k;
+    private final Comparator<? super T> comparator;
+
+    /**
+     * Grows up to {@code k} elements, so a large {@code k} costs memory only if there are that many elements.
+     */
+    private Object[] heap;
+    private int size;
+
+    BoundedHeap(int k, Comparator<? super T> comparator) {
+        this.k = k;
+        this.comparator = comparator;
+        this.heap = new Object[Math.min(k, 16)];
+    }
+
+    void offer(T t) {
+        if (size < k) {
+            push(t);
+        } else if (size > 0 && comparator.compare(t, item(0)) < 0) {
+            siftDown(t, size);
+        }
+    }
+
+    BoundedHeap<T> merge(BoundedHeap<T> other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.item(i));
+        }
+        return this;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the {@code k}-th least element, {@code null} if there are fewer elements
+     */
+    T kth() {
+        return size == k && k > 0 ? item(0) : null;
+    }
+
+    /**
+     * @return the kept elements from the least to the greatest, the heap is not usable after it
+     */
+    @SuppressWarnings("unchecked")
+    List<T> toSortedList() {
+        Object[] sorted = new Object[size];
+        for (int last = size - 1; last >= 0; last--) {
+            sorted[last] = heap[0];
+            siftDown(item(last), last);
+        }
+        size = 0;
+        return new ArrayList<>((List<T>) Arrays.asList(sorted));
+    }
+
+    @SuppressWarnings("unchecked")
+    private T item(int i) {
+        return (T) heap[i];
+    }
+
+    private void push(T t) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, (int) Math.min(k, (long) heap.length << 1));
+        }
+
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (comparator.compare(item(parent), t) >= 0) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = t;
+    }
+
+    /**
+     * Puts {@code t} into the root of {@code heap[0, length)} and sifts it down.
+     */
+    private void siftDown(T t, int length) {
+        int i = 0;
+        for (int child; (child = (i << 1) + 1) < length; i = child) {
+            if (child + 1 < length && comparator.compare(item(child + 1), item(child)) > 0) {
+                child++;
+            }
+            if (comparator.compare(item(child), t) <= 0) {
+                break;
+            }
+            heap[i] = heap[child];
+        }
+        if (length > 0) {
+            heap[i] = t;
+        }
+    }
+}
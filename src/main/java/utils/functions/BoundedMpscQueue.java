@@ -0,0 +1,116 @@
+package utils.functions;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free queue for many producers and a single consumer.
+ * <p>
+ * Array based queue after Dmitry Vyukov's bounded MPMC queue: every cell has a sequence number
+ * that tells whether it is free for the producer of a given position or filled for the consumer
+ * of it. Producers claim positions with a compare-and-set of the tail, then write the element
+ * and publish it with a release store of the cell sequence. The single consumer reads cells in
+ * order with acquire loads and needs no compare-and-set at all.
+ *
+ * @param <E> the type of the elements
+ */
+final class BoundedMpscQueue<E> {
+
+    private static final VarHandle HEAD;
+
+    static {
+        try {
+            HEAD = MethodHandles.lookup().findVarHandle(BoundedMpscQueue.class, "head", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Next position to poll, written by the consumer only.
+     */
+    @SuppressWarnings("unused")
+    private volatile long head;
+
+    /**
+     * @param capacity maximum number of elements, rounded up to a power of two
+     */
+    BoundedMpscQueue(int capacity) {
+        int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+
+        elements = new Object[size];
+        sequences = new AtomicLongArray(size);
+        mask = size - 1;
+
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Adds {@code element} unless the queue is full, may be called by any thread.
+     *
+     * @return {@code true} if added, {@code false} if the queue is full
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+
+        for (; ; ) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Takes the oldest element, may be called by the consumer thread only.
+     *
+     * @return the oldest element, {@code null} if the queue is empty or it is not published yet
+     */
+    @SuppressWarnings("unchecked")
+    E poll() {
+        long position = (long) HEAD.getOpaque(this);
+        int index = (int) position & mask;
+
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+
+        E element = (E) elements[index];
+        elements[index] = null;
+        sequences.lazySet(index, position + elements.length);
+        HEAD.setRelease(this, position + 1);
+        return element;
+    }
+
+    /**
+     * @return number of claimed positions not polled yet, may be stale
+     */
+    int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, elements.length));
+    }
+}
@@ -0,0 +1,38 @@
+package utils.functions;
+
+/**
+ * Counts of histogram buckets that collectors accumulate into.
+ *
+ * @see CollectOperation#toDoubleHistogram(double[], ThrowingToDoubleFunction)
+ */
+final class BucketCounts {
+
+    private final long[] counts;
+
+    BucketCounts(int buckets) {
+        this.counts = new long[buckets];
+    }
+
+    void increment(int bucket) {
+        counts[bucket]++;
+    }
+
+    BucketCounts merge(BucketCounts other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        return this;
+    }
+
+    long[] toArray() {
+        return counts;
+    }
+
+    /**
+     * @param index result of {@link java.util.Arrays#binarySearch} of a value in the boundaries
+     * @return bucket of the value: a value equal to a boundary starts the bucket after it
+     */
+    static int bucket(int index) {
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+}
@@ -0,0 +1,113 @@
+package utils.functions;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Immutable configuration of a {@link CachingFunction}: maximum size, eviction and expiration.
+ * <pre>
+ *   CachePolicy policy = CachePolicy.maximumSize(10_000)
+ *           .withEviction(CachePolicy.Eviction.TINY_LFU)
+ *           .withExpireAfterWrite(Duration.ofMinutes(5));
+ * </pre>
+ *
+ * @see ThrowingFunction#cached(CachePolicy)
+ */
+public final class CachePolicy {
+
+    /**
+     * Which entry is evicted when a cache is full.
+     */
+    public enum Eviction {
+
+        /**
+         * Least recently used entry is evicted.
+         */
+        LRU,
+
+        /**
+         * New entries go to a small LRU window, an entry evicted from the window
+         * is admitted to the main LRU space only if it was used more often than the
+         * main space's eviction victim. Use counts are approximated with a frequency
+         * sketch of a few bytes per entry and decay over time. Keeps frequently used
+         * entries in the cache under scans of rarely used ones.
+         */
+        TINY_LFU
+    }
+
+    private final long maximumSize;
+    private final Eviction eviction;
+    private final Duration expireAfterWrite;
+
+    private CachePolicy(long maximumSize, Eviction eviction, Duration expireAfterWrite) {
+        this.maximumSize = maximumSize;
+        this.eviction = eviction;
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    /**
+     * Returns a policy of a cache that keeps at most {@code maximumSize} entries,
+     * evicts {@link Eviction#LRU least recently used} ones and never expires them.
+     *
+     * @param maximumSize maximum number of entries
+     * @return new policy
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive
+     */
+    public static CachePolicy maximumSize(long maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size should be positive: " + maximumSize);
+        }
+        return new CachePolicy(maximumSize, Eviction.LRU, null);
+    }
+
+    /**
+     * Returns a copy of this policy with given {@code eviction}.
+     *
+     * @param eviction which entry to evict when the cache is full
+     * @return new policy
+     * @throws NullPointerException if {@code eviction} is null
+     */
+    public CachePolicy withEviction(Eviction eviction) {
+        return new CachePolicy(maximumSize, Objects.requireNonNull(eviction), expireAfterWrite);
+    }
+
+    /**
+     * Returns a copy of this policy where entries expire {@code expireAfterWrite}
+     * after their value was computed.
+     *
+     * @param expireAfterWrite how long a computed value is kept
+     * @return new policy
+     * @throws NullPointerException     if {@code expireAfterWrite} is null
+     * @throws IllegalArgumentException if {@code expireAfterWrite} is not positive
+     */
+    public CachePolicy withExpireAfterWrite(Duration expireAfterWrite) {
+        if (Objects.requireNonNull(expireAfterWrite).isNegative() || expireAfterWrite.isZero()) {
+            throw new IllegalArgumentException("Expiration should be positive: " + expireAfterWrite);
+        }
+        return new CachePolicy(maximumSize, eviction, expireAfterWrite);
+    }
+
+    long maximumSize() {
+        return maximumSize;
+    }
+
+    Eviction eviction() {
+        return eviction;
+    }
+
+    /**
+     * @return expiration in nanos, {@code 0} if entries never expire
+     */
+    long expireAfterWriteNanos() {
+        return expireAfterWrite == null ? 0 : expireAfterWrite.toNanos();
+    }
+
+    @Override
+    public String toString() {
+        return "CachePolicy{" +
+                "maximumSize=" + maximumSize +
+                ", eviction=" + eviction +
+                ", expireAfterWrite=" + expireAfterWrite +
+                '}';
+    }
+}
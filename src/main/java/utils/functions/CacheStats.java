@@ -0,0 +1,57 @@
+package utils.functions;
+
+/**
+ * Snapshot of {@link CachingFunction} counters.
+ *
+ * @see CachingFunction#stats()
+ */
+public final class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+
+    CacheStats(long hitCount, long missCount, long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * @return number of calls that returned a cached value
+     */
+    public long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return number of calls that computed a value or waited for it's computation
+     */
+    public long missCount() {
+        return missCount;
+    }
+
+    /**
+     * @return number of entries evicted because the cache was full
+     */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return ratio of hits to all the calls, {@code 1.0} if there were no calls
+     */
+    public double hitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                '}';
+    }
+}
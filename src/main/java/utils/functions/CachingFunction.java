@@ -0,0 +1,401 @@
+package utils.functions;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ThrowingFunction} that caches results of it's delegate in a bounded,
+ * thread-safe cache configured with a {@link CachePolicy}.
+ * <p>
+ * The cache is split into segments by key hash, each segment is guarded by
+ * it's own monitor and holds an equal part of the maximum size. The delegate
+ * is called outside of any lock, concurrent calls with the same missing key
+ * wait for a single call of the delegate. If the delegate throws, nothing is
+ * cached and all the waiting callers get the same exception.
+ * <p>
+ * The delegate should not call the caching function with the same key, such
+ * call would wait for itself forever.
+ *
+ * @param <T> the type of the input to the function
+ * @param <R> the type of the result of the function
+ * @see ThrowingFunction#cached(CachePolicy)
+ */
+public final class CachingFunction<T, R> implements ThrowingFunction<T, R> {
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private final ThrowingFunction<? super T, ? extends R> function;
+    private final Segment<T, R>[] segments;
+    private final long expireAfterWriteNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    CachingFunction(ThrowingFunction<? super T, ? extends R> function, CachePolicy policy) {
+        this.function = Objects.requireNonNull(function);
+        this.expireAfterWriteNanos = policy.expireAfterWriteNanos();
+
+        long maximumSize = policy.maximumSize();
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENTS && (long) segmentCount * 2 * MIN_SEGMENT_SIZE <= maximumSize) {
+            segmentCount <<= 1;
+        }
+
+        segments = (Segment<T, R>[]) new Segment<?, ?>[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            long capacity = maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0);
+            segments[i] = new Segment<>((int) Math.min(capacity, Integer.MAX_VALUE - 8), policy.eviction());
+        }
+    }
+
+    @Override
+    public R applyThrowing(T t) throws Exception {
+        int hash = spread(Objects.hashCode(t));
+        Segment<T, R> segment = segments[(hash >>> 16) & (segments.length - 1)];
+        Node<T, R> node;
+        boolean owner = false;
+
+        synchronized (segment) {
+            node = segment.map.get(t);
+
+            if (node != null && node.loaded) {
+                if (!isExpired(node)) {
+                    segment.onHit(node);
+                    hits.increment();
+                    return node.value;
+                }
+                segment.remove(node);
+                node = null;
+            }
+
+            if (node == null) {
+                node = new Node<>(t, hash);
+                segment.map.put(t, node);
+                owner = true;
+            }
+        }
+
+        misses.increment();
+
+        return owner ? load(segment, node) : await(node);
+    }
+
+    private R load(Segment<T, R> segment, Node<T, R> node) throws Exception {
+        R value;
+
+        try {
+            value = function.applyThrowing(node.key);
+        } catch (Throwable e) {
+            synchronized (segment) {
+                segment.map.remove(node.key, node);
+            }
+            node.future.completeExceptionally(e);
+            throw Functions.<Exception>sneakyThrow(e);
+        }
+
+        int evicted = 0;
+
+        synchronized (segment) {
+            node.value = value;
+            node.writeTime = expireAfterWriteNanos == 0 ? 0 : System.nanoTime();
+            node.loaded = true;
+
+            // it's not in the map if it was invalidated while loading
+            if (segment.map.get(node.key) == node) {
+                evicted = segment.admit(node);
+            }
+        }
+
+        evictions.add(evicted);
+        node.future.complete(value);
+        return value;
+    }
+
+    private R await(Node<T, R> node) throws Exception {
+        try {
+            return node.future.join();
+        } catch (CompletionException e) {
+            throw Functions.<Exception>sneakyThrow(e.getCause());
+        }
+    }
+
+    private boolean isExpired(Node<T, R> node) {
+        return expireAfterWriteNanos != 0 && System.nanoTime() - node.writeTime >= expireAfterWriteNanos;
+    }
+
+    /**
+     * Removes cached value of {@code key}, if any.
+     *
+     * @param key the key to remove
+     */
+    public void invalidate(T key) {
+        Segment<T, R> segment = segments[(spread(Objects.hashCode(key)) >>> 16) & (segments.length - 1)];
+
+        synchronized (segment) {
+            Node<T, R> node = segment.map.get(key);
+
+            if (node != null) {
+                segment.remove(node);
+            }
+        }
+    }
+
+    /**
+     * Removes all the cached values.
+     */
+    public void invalidateAll() {
+        for (Segment<T, R> segment : segments) {
+            synchronized (segment) {
+                segment.map.values().removeIf(node -> node.loaded);
+                segment.window.clear();
+                segment.main.clear();
+            }
+        }
+    }
+
+    /**
+     * @return number of cached values, including expired ones that were not removed yet
+     */
+    public long size() {
+        long size = 0;
+
+        for (Segment<T, R> segment : segments) {
+            synchronized (segment) {
+                size += segment.window.size + segment.main.size;
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * @return snapshot of hit, miss and eviction counters
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 15);
+    }
+
+    private static final class Node<K, V> {
+
+        private final K key;
+        private final int hash;
+
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+
+        private V value;
+        private long writeTime;
+        private boolean loaded;
+
+        private Node<K, V> prev;
+        private Node<K, V> next;
+        private AccessOrder<K, V> queue;
+
+        private Node(K key, int hash) {
+            this.key = key;
+            this.hash = hash;
+        }
+    }
+
+    /**
+     * Doubly linked list of loaded nodes, from the least recently used to the most recently used one.
+     */
+    private static final class AccessOrder<K, V> {
+
+        private Node<K, V> first;
+        private Node<K, V> last;
+        private int size;
+
+        private void addLast(Node<K, V> node) {
+            node.queue = this;
+            node.prev = last;
+            node.next = null;
+
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+
+            last = node;
+            size++;
+        }
+
+        private void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                first = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+
+            if (node.next == null) {
+                last = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+
+            node.prev = null;
+            node.next = null;
+            node.queue = null;
+            size--;
+        }
+
+        private void moveToLast(Node<K, V> node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        private void clear() {
+            first = null;
+            last = null;
+            size = 0;
+        }
+    }
+
+    private static final class Segment<K, V> {
+
+        private final Map<K, Node<K, V>> map = new HashMap<>();
+        private final AccessOrder<K, V> window = new AccessOrder<>();
+        private final AccessOrder<K, V> main = new AccessOrder<>();
+        private final int windowCapacity;
+        private final int mainCapacity;
+
+        /**
+         * Use frequencies for {@link CachePolicy.Eviction#TINY_LFU}, {@code null} for plain LRU.
+         */
+        private final FrequencySketch sketch;
+
+        private Segment(int capacity, CachePolicy.Eviction eviction) {
+            if (eviction == CachePolicy.Eviction.TINY_LFU) {
+                windowCapacity = Math.max(1, capacity / 100);
+                mainCapacity = capacity - windowCapacity;
+                sketch = new FrequencySketch(capacity);
+            } else {
+                windowCapacity = 0;
+                mainCapacity = capacity;
+                sketch = null;
+            }
+        }
+
+        private void onHit(Node<K, V> node) {
+            if (sketch != null) {
+                sketch.increment(node.hash);
+            }
+            node.queue.moveToLast(node);
+        }
+
+        private void remove(Node<K, V> node) {
+            map.remove(node.key);
+
+            if (node.queue != null) {
+                node.queue.remove(node);
+            }
+        }
+
+        /**
+         * Adds just loaded {@code node} and evicts entries above capacity.
+         *
+         * @return number of evicted entries
+         */
+        private int admit(Node<K, V> node) {
+            if (sketch == null) {
+                main.addLast(node);
+                return main.size > mainCapacity ? evict(main.first) : 0;
+            }
+
+            sketch.increment(node.hash);
+            window.addLast(node);
+
+            int evicted = 0;
+
+            while (window.size > windowCapacity) {
+                Node<K, V> candidate = window.first;
+                window.remove(candidate);
+                main.addLast(candidate);
+
+                if (main.size > mainCapacity) {
+                    Node<K, V> victim = main.first;
+                    evicted += victim != candidate && sketch.frequency(candidate.hash) > sketch.frequency(victim.hash)
+                            ? evict(victim)
+                            : evict(candidate);
+                }
+            }
+
+            return evicted;
+        }
+
+        private int evict(Node<K, V> node) {
+            remove(node);
+            return 1;
+        }
+    }
+
+    /**
+     * Count-min sketch of 4-bit use counters, all the counters are halved once
+     * there were ten times more increments than the capacity, so old popularity decays.
+     */
+    private static final class FrequencySketch {
+
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = {0x97CB3127, 0xB8E1AFED, 0x85EBCA6B, 0xC2B2AE35};
+
+        private final byte[] table;
+        private final int mask;
+        private final int width;
+        private final int sampleSize;
+        private int additions;
+
+        private FrequencySketch(int capacity) {
+            int size = Math.max(16, capacity);
+            width = Integer.highestOneBit(size - 1) << 1;
+            mask = width - 1;
+            table = new byte[DEPTH * width];
+            sampleSize = 10 * Math.max(capacity, 1);
+        }
+
+        private void increment(int hash) {
+            for (int i = 0; i < DEPTH; i++) {
+                int index = indexOf(hash, i);
+                if (table[index] < MAX_COUNT) {
+                    table[index]++;
+                }
+            }
+
+            if (++additions >= sampleSize) {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] >>= 1;
+                }
+                additions >>= 1;
+            }
+        }
+
+        private int frequency(int hash) {
+            int frequency = MAX_COUNT;
+
+            for (int i = 0; i < DEPTH; i++) {
+                frequency = Math.min(frequency, table[indexOf(hash, i)]);
+            }
+
+            return frequency;
+        }
+
+        private int indexOf(int hash, int row) {
+            int h = (hash ^ SEEDS[row]) * SEEDS[row];
+            return row * width + ((h ^ (h >>> 16)) & mask);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package utils.functions;
+
+/**
+ * Thrown instead of calling a function decorated with a {@link CircuitBreaker} while the breaker
+ * is open, or half-open with all the trial calls already permitted.
+ * <p>
+ * It is thrown at the rate of the rejected calls, so it is a {@link StacklessException}.
+ *
+ * @see CircuitBreaker
+ */
+public class CallNotPermittedException extends StacklessException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final CircuitBreaker.State state;
+
+    CallNotPermittedException(CircuitBreaker.State state) {
+        super("Circuit breaker is " + state + " and does not permit calls");
+        this.state = state;
+    }
+
+    /**
+     * @return state of the breaker when the call was rejected
+     */
+    public CircuitBreaker.State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,308 @@
+package utils.functions;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Circuit breaker that stops calling a failing or slow dependency for a while.
+ * <p>
+ * While {@link State#CLOSED closed}, the breaker lets all the calls through and records their outcomes
+ * in a sliding window of the last calls. Once the window is full and the failure rate or the slow call
+ * rate reaches it's threshold, the breaker opens. While {@link State#OPEN open}, calls are rejected with
+ * {@link CallNotPermittedException} without calling the dependency, so they fail fast into a fallback,
+ * e.g. of {@link TryCatch#tryCatchFallback(ThrowingSupplier, ThrowingFunction)}. After the open duration
+ * the breaker becomes {@link State#HALF_OPEN half-open} and permits a few trial calls, their rates decide
+ * whether it closes or opens again. If the trials do not complete within the half-open timeout, the breaker
+ * opens again as well.
+ * <p>
+ * The breaker takes no locks. Each state is an immutable phase with it's own window of atomic counters,
+ * transitions replace the current phase with a compare-and-set, and outcomes of calls that started in
+ * a replaced phase are ignored.
+ * <pre>
+ *   CircuitBreaker breaker = CircuitBreaker.of(CircuitBreakerPolicy.slidingWindow(100));
+ *   ThrowingFunction&lt;String, User&gt; findUser = ThrowingFunction.map(client::findUser).withCircuitBreaker(breaker);
+ *
+ *   User user = TryCatch.tryCatchFallback(() -&gt; findUser.apply(id), e -&gt; User.UNKNOWN);
+ * </pre>
+ *
+ * @see CircuitBreakerPolicy
+ */
+public final class CircuitBreaker {
+
+    /**
+     * State of a {@link CircuitBreaker}.
+     */
+    public enum State {
+
+        /**
+         * All the calls are permitted and recorded.
+         */
+        CLOSED,
+
+        /**
+         * All the calls are rejected.
+         */
+        OPEN,
+
+        /**
+         * A limited number of trial calls is permitted and recorded.
+         */
+        HALF_OPEN
+    }
+
+    private static final int SUCCESS = 0;
+    private static final int FAILURE = 1;
+    private static final int SLOW = 2;
+
+    private final CircuitBreakerPolicy policy;
+    private final AtomicReference<Phase> phase;
+
+    private CircuitBreaker(CircuitBreakerPolicy policy) {
+        this.policy = policy;
+        this.phase = new AtomicReference<>(closed());
+    }
+
+    /**
+     * Returns a new closed breaker.
+     *
+     * @param policy the breaker configuration
+     * @return new breaker
+     * @throws NullPointerException if {@code policy} is null
+     */
+    public static CircuitBreaker of(CircuitBreakerPolicy policy) {
+        return new CircuitBreaker(Objects.requireNonNull(policy));
+    }
+
+    /**
+     * @return current state of this breaker
+     */
+    public State state() {
+        return phase.get().state;
+    }
+
+    /**
+     * Returns {@link ThrowingSupplier} that calls {@code supplier} only if this breaker permits it and
+     * throws {@link CallNotPermittedException} otherwise.
+     *
+     * @param supplier the supplier to protect
+     * @return protected supplier
+     * @see ThrowingSupplier#withCircuitBreaker(CircuitBreaker)
+     */
+    public <T> ThrowingSupplier<T> decorate(ThrowingSupplier<? extends T> supplier) {
+        Objects.requireNonNull(supplier);
+
+        return () -> {
+            Phase permitted = acquirePermission();
+            long startNanos = startNanos();
+            T result;
+
+            try {
+                result = supplier.getThrowing();
+            } catch (Throwable e) {
+                record(permitted, startNanos, FAILURE);
+                throw e;
+            }
+
+            record(permitted, startNanos, SUCCESS);
+            return result;
+        };
+    }
+
+    /**
+     * Returns {@link ThrowingFunction} that calls {@code function} only if this breaker permits it and
+     * throws {@link CallNotPermittedException} otherwise.
+     *
+     * @param function the function to protect
+     * @return protected function
+     * @see ThrowingFunction#withCircuitBreaker(CircuitBreaker)
+     */
+    public <T, R> ThrowingFunction<T, R> decorate(ThrowingFunction<? super T, ? extends R> function) {
+        Objects.requireNonNull(function);
+
+        return t -> {
+            Phase permitted = acquirePermission();
+            long startNanos = startNanos();
+            R result;
+
+            try {
+                result = function.applyThrowing(t);
+            } catch (Throwable e) {
+                record(permitted, startNanos, FAILURE);
+                throw e;
+            }
+
+            record(permitted, startNanos, SUCCESS);
+            return result;
+        };
+    }
+
+    private Phase acquirePermission() {
+        for (; ; ) {
+            Phase current = phase.get();
+
+            switch (current.state) {
+                case CLOSED:
+                    return current;
+                case OPEN:
+                    if (System.nanoTime() - current.startedAtNanos < policy.openDurationNanos()) {
+                        throw new CallNotPermittedException(State.OPEN);
+                    }
+                    phase.compareAndSet(current, halfOpen());
+                    break;
+                default:
+                    if (current.tryAcquireTrial()) {
+                        return current;
+                    }
+                    // all the trials are taken, reopen if they hang instead of staying half-open forever
+                    if (System.nanoTime() - current.startedAtNanos < policy.halfOpenTimeoutNanos()) {
+                        throw new CallNotPermittedException(State.HALF_OPEN);
+                    }
+                    phase.compareAndSet(current, open());
+                    break;
+            }
+        }
+    }
+
+    private long startNanos() {
+        return policy.slowCallDurationNanos() == 0 ? 0 : System.nanoTime();
+    }
+
+    private void record(Phase permitted, long startNanos, int outcome) {
+        if (phase.get() != permitted) {
+            return;
+        }
+
+        if (startNanos != 0 && System.nanoTime() - startNanos >= policy.slowCallDurationNanos()) {
+            outcome |= SLOW;
+        }
+
+        Window window = permitted.window;
+        int completed = window.record(outcome);
+
+        if (permitted.state == State.CLOSED) {
+            if (completed >= window.size() && window.exceedsThresholds()) {
+                phase.compareAndSet(permitted, open());
+            }
+        } else if (completed == window.size()) {
+            phase.compareAndSet(permitted, window.exceedsThresholds() ? open() : closed());
+        }
+    }
+
+    private Phase closed() {
+        return new Phase(State.CLOSED, 0, new Window(policy.windowSize(), policy), 0);
+    }
+
+    private Phase open() {
+        return new Phase(State.OPEN, System.nanoTime(), null, 0);
+    }
+
+    private Phase halfOpen() {
+        return new Phase(State.HALF_OPEN, System.nanoTime(), new Window(policy.halfOpenCalls(), policy), policy.halfOpenCalls());
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker{" +
+                "state=" + state() +
+                ", policy=" + policy +
+                '}';
+    }
+
+    private static final class Phase {
+
+        private final State state;
+        /**
+         * When the breaker opened or became half-open.
+         */
+        private final long startedAtNanos;
+        private final Window window;
+
+        /**
+         * Trial calls left to permit while half-open.
+         */
+        private final AtomicInteger trials;
+
+        private Phase(State state, long startedAtNanos, Window window, int trials) {
+            this.state = state;
+            this.startedAtNanos = startedAtNanos;
+            this.window = window;
+            this.trials = new AtomicInteger(trials);
+        }
+
+        private boolean tryAcquireTrial() {
+            for (int left = trials.get(); left > 0; left = trials.get()) {
+                if (trials.compareAndSet(left, left - 1)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Ring of the last call outcomes with running counts of failed and slow ones. A new outcome
+     * replaces the oldest one and the counts are adjusted by the difference.
+     */
+    private static final class Window {
+
+        private static final int EMPTY = -1;
+
+        private final AtomicIntegerArray outcomes;
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicInteger slowCalls = new AtomicInteger();
+        private final int failureLimit;
+        private final int slowCallLimit;
+
+        private Window(int size, CircuitBreakerPolicy policy) {
+            this.outcomes = new AtomicIntegerArray(size);
+            for (int i = 0; i < size; i++) {
+                outcomes.set(i, EMPTY);
+            }
+            this.failureLimit = limit(size, policy.failureRateThreshold());
+            this.slowCallLimit = policy.slowCallDurationNanos() == 0
+                    ? Integer.MAX_VALUE
+                    : limit(size, policy.slowCallRateThreshold());
+        }
+
+        private static int limit(int size, double rate) {
+            return Math.max(1, (int) Math.ceil(size * rate));
+        }
+
+        private int size() {
+            return outcomes.length();
+        }
+
+        /**
+         * @return number of recorded outcomes, including this one, not greater than the window size
+         */
+        private int record(int outcome) {
+            int index = (int) (cursor.getAndIncrement() % outcomes.length());
+            int replaced = outcomes.getAndSet(index, outcome);
+
+            int failureDelta = (outcome & FAILURE) - (replaced == EMPTY ? 0 : replaced & FAILURE);
+            if (failureDelta != 0) {
+                failures.addAndGet(failureDelta);
+            }
+
+            int slowDelta = ((outcome & SLOW) - (replaced == EMPTY ? 0 : replaced & SLOW)) / SLOW;
+            if (slowDelta != 0) {
+                slowCalls.addAndGet(slowDelta);
+            }
+
+            if (replaced != EMPTY) {
+                return outcomes.length();
+            }
+
+            return completed.incrementAndGet();
+        }
+
+        private boolean exceedsThresholds() {
+            return failures.get() >= failureLimit || slowCalls.get() >= slowCallLimit;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package utils.functions;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Immutable configuration of a {@link CircuitBreaker}: sliding window size, failure and slow call
+ * rate thresholds, how long the breaker stays open, how many trial calls it permits when half-open and
+ * how long it waits for them.
+ * <pre>
+ *   CircuitBreakerPolicy policy = CircuitBreakerPolicy.slidingWindow(100)
+ *           .withFailureRateThreshold(0.5)
+ *           .withSlowCallRateThreshold(0.8, Duration.ofMillis(200))
+ *           .withOpenDuration(Duration.ofSeconds(30))
+ *           .withHalfOpenCalls(10)
+ *           .withHalfOpenTimeout(Duration.ofSeconds(10));
+ * </pre>
+ *
+ * @see CircuitBreaker#of(CircuitBreakerPolicy)
+ */
+public final class CircuitBreakerPolicy {
+
+    private final int windowSize;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallDurationNanos;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final long halfOpenTimeoutNanos;
+
+    private CircuitBreakerPolicy(
+            int windowSize,
+            double failureRateThreshold,
+            double slowCallRateThreshold,
+            long slowCallDurationNanos,
+            long openDurationNanos,
+            int halfOpenCalls,
+            long halfOpenTimeoutNanos
+    ) {
+        this.windowSize = windowSize;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallDurationNanos = slowCallDurationNanos;
+        this.openDurationNanos = openDurationNanos;
+        this.halfOpenCalls = halfOpenCalls;
+        this.halfOpenTimeoutNanos = halfOpenTimeoutNanos;
+    }
+
+    /**
+     * Returns a policy of a breaker that looks at outcomes of the last {@code windowSize} calls and opens
+     * once at least half of them failed. It does not look at call durations, stays open for a minute and
+     * then permits ten trial calls, if they do not complete within a minute it opens again.
+     *
+     * @param windowSize number of the last calls the rates are computed over, also the minimum number
+     *                   of calls before the breaker may open
+     * @return new policy
+     * @throws IllegalArgumentException if {@code windowSize} is not positive
+     */
+    public static CircuitBreakerPolicy slidingWindow(int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size should be positive: " + windowSize);
+        }
+        long minute = Duration.ofMinutes(1).toNanos();
+        return new CircuitBreakerPolicy(windowSize, 0.5, 1.0, 0, minute, 10, minute);
+    }
+
+    /**
+     * Returns a copy of this policy that opens the breaker once the failure rate reaches {@code threshold}.
+     *
+     * @param threshold rate of failed calls in {@code (0, 1]}, e.g. {@code 0.5} for a half
+     * @return new policy
+     * @throws IllegalArgumentException if {@code threshold} is not in {@code (0, 1]}
+     */
+    public CircuitBreakerPolicy withFailureRateThreshold(double threshold) {
+        return new CircuitBreakerPolicy(windowSize, checkRate(threshold), slowCallRateThreshold,
+                slowCallDurationNanos, openDurationNanos, halfOpenCalls, halfOpenTimeoutNanos);
+    }
+
+    /**
+     * Returns a copy of this policy that opens the breaker once the rate of calls that took at least
+     * {@code slowCallDuration} reaches {@code threshold}, whether they failed or not.
+     *
+     * @param threshold        rate of slow calls in {@code (0, 1]}
+     * @param slowCallDuration the shortest duration of a slow call
+     * @return new policy
+     * @throws NullPointerException     if {@code slowCallDuration} is null
+     * @throws IllegalArgumentException if {@code threshold} is not in {@code (0, 1]} or {@code slowCallDuration}
+     *                                  is not positive
+     */
+    public CircuitBreakerPolicy withSlowCallRateThreshold(double threshold, Duration slowCallDuration) {
+        return new CircuitBreakerPolicy(windowSize, failureRateThreshold, checkRate(threshold),
+                checkPositive(slowCallDuration, "Slow call duration"), openDurationNanos, halfOpenCalls,
+                halfOpenTimeoutNanos);
+    }
+
+    /**
+     * Returns a copy of this policy where the open breaker permits trial calls after {@code openDuration}.
+     *
+     * @param openDuration how long the breaker rejects all the calls
+     * @return new policy
+     * @throws NullPointerException     if {@code openDuration} is null
+     * @throws IllegalArgumentException if {@code openDuration} is not positive
+     */
+    public CircuitBreakerPolicy withOpenDuration(Duration openDuration) {
+        return new CircuitBreakerPolicy(windowSize, failureRateThreshold, slowCallRateThreshold,
+                slowCallDurationNanos, checkPositive(openDuration, "Open duration"), halfOpenCalls, halfOpenTimeoutNanos);
+    }
+
+    /**
+     * Returns a copy of this policy where the half-open breaker permits {@code halfOpenCalls} trial calls,
+     * their outcomes decide whether it closes or opens again.
+     *
+     * @param halfOpenCalls number of trial calls
+     * @return new policy
+     * @throws IllegalArgumentException if {@code halfOpenCalls} is not positive
+     */
+    public CircuitBreakerPolicy withHalfOpenCalls(int halfOpenCalls) {
+        if (halfOpenCalls <= 0) {
+            throw new IllegalArgumentException("Half-open calls should be positive: " + halfOpenCalls);
+        }
+        return new CircuitBreakerPolicy(windowSize, failureRateThreshold, slowCallRateThreshold,
+                slowCallDurationNanos, openDurationNanos, halfOpenCalls, halfOpenTimeoutNanos);
+    }
+
+    /**
+     * Returns a copy of this policy where the half-open breaker opens again if it permitted all the trial calls,
+     * but they did not complete within {@code halfOpenTimeout}, e.g. because they hang. Outcomes of such trials
+     * are ignored.
+     *
+     * @param halfOpenTimeout how long the breaker waits for the trial calls to complete
+     * @return new policy
+     * @throws NullPointerException     if {@code halfOpenTimeout} is null
+     * @throws IllegalArgumentException if {@code halfOpenTimeout} is not positive
+     */
+    public CircuitBreakerPolicy withHalfOpenTimeout(Duration halfOpenTimeout) {
+        return new CircuitBreakerPolicy(windowSize, failureRateThreshold, slowCallRateThreshold,
+                slowCallDurationNanos, openDurationNanos, halfOpenCalls, checkPositive(halfOpenTimeout, "Half-open timeout"));
+    }
+
+    private static double checkRate(double rate) {
+        if (!(rate > 0 && rate <= 1)) {
+            throw new IllegalArgumentException("Rate threshold should be in (0, 1]: " + rate);
+        }
+        return rate;
+    }
+
+    private static long checkPositive(Duration duration, String name) {
+        if (Objects.requireNonNull(duration).isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException(name + " should be positive: " + duration);
+        }
+        return duration.toNanos();
+    }
+
+    int windowSize() {
+        return windowSize;
+    }
+
+    double failureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    double slowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    /**
+     * @return the shortest duration of a slow call in nanos, {@code 0} if durations are not looked at
+     */
+    long slowCallDurationNanos() {
+        return slowCallDurationNanos;
+    }
+
+    long openDurationNanos() {
+        return openDurationNanos;
+    }
+
+    int halfOpenCalls() {
+        return halfOpenCalls;
+    }
+
+    long halfOpenTimeoutNanos() {
+        return halfOpenTimeoutNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreakerPolicy{" +
+                "windowSize=" + windowSize +
+                ", failureRateThreshold=" + failureRateThreshold +
+                ", slowCallRateThreshold=" + slowCallRateThreshold +
+                ", slowCallDuration=" + (slowCallDurationNanos == 0 ? null : Duration.ofNanos(slowCallDurationNanos)) +
+                ", openDuration=" + Duration.ofNanos(openDurationNanos) +
+                ", halfOpenCalls=" + halfOpenCalls +
+                ", halfOpenTimeout=" + Duration.ofNanos(halfOpenTimeoutNanos) +
+                '}';
+    }
+}
@@ -1,7 +1,17 @@
 package utils.functions;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.DoubleSummaryStatistics;
+import java.util.IntSummaryStatistics;
 import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
 import java.util.stream.Collector;
 
 import static java.util.stream.Collectors.*;
@@ -12,4 +22,551 @@ public class CollectOperation {
         return collectingAndThen(toList(), Functions.apply(Collections::shuffle));
     }
 
+    /**
+     * Returns a collector of a reproducible random permutation of the input, every collection
+     * shuffles with a new {@link SplittableRandom} of {@code seed}, so the collector may be reused and shared.
+     *
+     * @param seed seed of the {@link SplittableRandom} to shuffle with
+     * @return collector of a shuffled list
+     * @see #toShuffledList(SplittableRandom)
+     */
+    public static <T> Collector<T, ?, List<T>> toShuffledList(long seed) {
+        return shuffledList(() -> new SplittableRandom(seed));
+    }
+
+    /**
+     * Returns a collector of a random permutation of the input. Large inputs are shuffled in parallel
+     * on the common {@link java.util.concurrent.ForkJoinPool}, see {@link ParallelShuffle}, the result
+     * depends only on {@code random} and the order of the input.
+     * Every collection shuffles with a new split of {@code random}, so a reused collector gives
+     * a different permutation each time.
+     *
+     * @param random source of randomness, used by the finisher only
+     * @return collector of a shuffled list
+     * @throws NullPointerException if {@code random} is null
+     */
+    public static <T> Collector<T, ?, List<T>> toShuffledList(SplittableRandom random) {
+        Objects.requireNonNull(random);
+
+        return shuffledList(() -> split(random));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Collector<T, ?, List<T>> shuffledList(Supplier<SplittableRandom> random) {
+        return collectingAndThen(toCollection(ArrayList::new), list -> {
+            Object[] shuffled = list.toArray();
+            ParallelShuffle.shuffle(shuffled, shuffled.length, random.get());
+
+            list.clear();
+            list.addAll((List<T>) (List<?>) Arrays.asList(shuffled));
+            return list;
+        });
+    }
+
+    /**
+     * Returns a collector of a random permutation of the input into {@code array}, like
+     * {@link java.util.Collection#toArray(Object[])}: if the input fits, it is stored in {@code array}
+     * followed by a {@code null}, if there is room, otherwise a new array of the same type is allocated.
+     * Large inputs are shuffled in parallel, see {@link #toShuffledList(SplittableRandom)}.
+     *
+     * @param array  the array to store the input into, if it is big enough
+     * @param random source of randomness, the finisher shuffles with a new split of it
+     * @return collector of a shuffled array
+     * @throws NullPointerException if {@code array} or {@code random} is null
+     */
+    public static <T> Collector<T, ?, T[]> toShuffledArray(T[] array, SplittableRandom random) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(random);
+
+        return collectingAndThen(toCollection(ArrayList::new), list -> {
+            T[] shuffled = list.toArray(array);
+            ParallelShuffle.shuffle(shuffled, list.size(), split(random));
+            return shuffled;
+        });
+    }
+
+    /**
+     * Returns a collector of the first {@code limit} elements of a random permutation of the input,
+     * it shuffles only as many positions as it returns with a partial Fisher-Yates shuffle.
+     *
+     * @param limit  maximum number of elements to return
+     * @param random source of randomness, the finisher shuffles with a new split of it, the same seed
+     *               gives the same result for the same sequential input
+     * @return collector of a shuffled list of {@code min(limit, n)} elements
+     * @throws IllegalArgumentException if {@code limit} is negative
+     * @throws NullPointerException     if {@code random} is null
+     * @see #toSample(int, SplittableRandom)
+     */
+    public static <T> Collector<T, ?, List<T>> toShuffledList(int limit, SplittableRandom random) {
+        checkSize(limit);
+        Objects.requireNonNull(random);
+
+        return collectingAndThen(toCollection(ArrayList::new), list -> {
+            SplittableRandom shuffle = split(random);
+            int size = Math.min(limit, list.size());
+            for (int i = 0; i < size; i++) {
+                Collections.swap(list, i, i + shuffle.nextInt(list.size() - i));
+            }
+            return new ArrayList<>(list.subList(0, size));
+        });
+    }
+
+    /**
+     * Returns a collector of a uniform random sample of {@code k} elements, or all of them if there
+     * are fewer, that keeps only the sample in memory, see {@link ReservoirSample}.
+     * A parallel stream splits {@code random} for every container.
+     *
+     * @param k      maximum number of elements to sample
+     * @param random source of randomness, the same seed gives the same sample of the same sequential input
+     * @return collector of the sampled elements in no particular order
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @throws NullPointerException     if {@code random} is null
+     */
+    public static <T> Collector<T, ?, List<T>> toSample(int k, SplittableRandom random) {
+        checkSize(k);
+        Objects.requireNonNull(random);
+
+        return Collector.<T, ReservoirSample<T>, List<T>>of(
+                () -> new ReservoirSample<>(k, split(random)),
+                ReservoirSample::add,
+                ReservoirSample::merge,
+                ReservoirSample::toList,
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * Returns a collector of a weighted random sample without replacement of {@code k} elements,
+     * an element is picked with probability proportional to it's weight. Elements of zero weight are
+     * never picked. Only the sample is kept in memory and samples of a parallel stream are merged exactly.
+     *
+     * @param k      maximum number of elements to sample
+     * @param weight weight of an element, finite and not negative
+     * @param random source of randomness, the same seed gives the same sample of the same sequential input
+     * @return collector of the sampled elements in no particular order
+     * @throws IllegalArgumentException if {@code k} is negative, or, when collecting, a weight is not valid
+     * @throws NullPointerException     if {@code weight} or {@code random} is null
+     */
+    public static <T> Collector<T, ?, List<T>> toWeightedSample(
+            int k,
+            ThrowingToDoubleFunction<? super T> weight,
+            SplittableRandom random
+    ) {
+        checkSize(k);
+        Objects.requireNonNull(weight);
+        Objects.requireNonNull(random);
+
+        return Collector.<T, ReservoirSample<T>, List<T>>of(
+                () -> new ReservoirSample<>(k, split(random)),
+                (sample, t) -> sample.add(t, weight.applyAsDouble(t)),
+                ReservoirSample::merge,
+                ReservoirSample::toList,
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * Returns a collector of the {@code k} greatest elements, or all of them if there are fewer,
+     * from the greatest to the least. Only {@code k} elements are kept in a bounded heap, see
+     * {@link BoundedHeap}, instead of sorting the whole input. Order of equal elements is not defined.
+     *
+     * @param k          maximum number of elements to collect
+     * @param comparator the order of elements, may be a {@link ThrowingComparator}
+     * @return collector of the greatest elements
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @throws NullPointerException     if {@code comparator} is null
+     * @see ThrowingBinaryOperator#maxBy(Comparator)
+     */
+    public static <T> Collector<T, ?, List<T>> toTopK(int k, Comparator<? super T> comparator) {
+        return toBottomK(k, Collections.reverseOrder(Objects.requireNonNull(comparator)));
+    }
+
+    /**
+     * Returns a collector of the {@code k} least elements, or all of them if there are fewer,
+     * from the least to the greatest, see {@link #toTopK(int, Comparator)}.
+     *
+     * @param k          maximum number of elements to collect
+     * @param comparator the order of elements, may be a {@link ThrowingComparator}
+     * @return collector of the least elements
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @throws NullPointerException     if {@code comparator} is null
+     * @see ThrowingBinaryOperator#minBy(Comparator)
+     */
+    public static <T> Collector<T, ?, List<T>> toBottomK(int k, Comparator<? super T> comparator) {
+        checkSize(k);
+        Objects.requireNonNull(comparator);
+
+        return Collector.<T, BoundedHeap<T>, List<T>>of(
+                () -> new BoundedHeap<>(k, comparator),
+                BoundedHeap::offer,
+                BoundedHeap::merge,
+                BoundedHeap::toSortedList,
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * Returns a collector of the {@code k}-th least element, keeping only the {@code k} least ones.
+     *
+     * @param k          one-based position of the element in the sorted input
+     * @param comparator the order of elements, may be a {@link ThrowingComparator}
+     * @return collector of the {@code k}-th least element, empty if there are fewer than {@code k} elements
+     * @throws IllegalArgumentException if {@code k} is not positive
+     * @throws NullPointerException     if {@code comparator} is null, or, when collecting, the element is null
+     */
+    public static <T> Collector<T, ?, Optional<T>> kthSmallest(int k, Comparator<? super T> comparator) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("K should be positive: " + k);
+        }
+        Objects.requireNonNull(comparator);
+
+        return Collector.<T, BoundedHeap<T>, Optional<T>>of(
+                () -> new BoundedHeap<>(k, comparator),
+                BoundedHeap::offer,
+                BoundedHeap::merge,
+                heap -> heap.size() < k ? Optional.empty() : Optional.of(heap.kth()),
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * Returns a collector of the {@code k} elements with the greatest {@code int} keys, from the
+     * greatest key to the least, that compares keys without boxing, see {@link LongKeyedHeap}.
+     *
+     * @param k   maximum number of elements to collect
+     * @param key extracts the key of an element, called once per element
+     * @return collector of the elements with the greatest keys
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @throws NullPointerException     if {@code key} is null
+     */
+    public static <T> Collector<T, ?, List<T>> toTopKByInt(int k, ThrowingToIntFunction<? super T> key) {
+        Objects.requireNonNull(key);
+        return toLeastKeys(k, t -> ~(long) key.applyAsIntThrows(t));
+    }
+
+    /**
+     * Returns a collector of the {@code k} elements with the greatest {@code long} keys,
+     * see {@link #toTopKByInt(int, ThrowingToIntFunction)}.
+     */
+    public static <T> Collector<T, ?, List<T>> toTopKByLong(int k, ThrowingToLongFunction<? super T> key) {
+        Objects.requireNonNull(key);
+        return toLeastKeys(k, t -> ~key.applyAsLongThrows(t));
+    }
+
+    /**
+     * Returns a collector of the {@code k} elements with the greatest {@code double} keys, ordered as
+     * {@link Double#compare(double, double)} does, see {@link #toTopKByInt(int, ThrowingToIntFunction)}.
+     */
+    public static <T> Collector<T, ?, List<T>> toTopKByDouble(int k, ThrowingToDoubleFunction<? super T> key) {
+        Objects.requireNonNull(key);
+        return toLeastKeys(k, t -> ~LongKeyedHeap.sortable(key.applyAsDoubleThrows(t)));
+    }
+
+    /**
+     * Returns a collector of the {@code k} elements with the least {@code int} keys, from the
+     * least key to the greatest, see {@link #toTopKByInt(int, ThrowingToIntFunction)}.
+     */
+    public static <T> Collector<T, ?, List<T>> toBottomKByInt(int k, ThrowingToIntFunction<? super T> key) {
+        Objects.requireNonNull(key);
+        return toLeastKeys(k, key::applyAsIntThrows);
+    }
+
+    /**
+     * Returns a collector of the {@code k} elements with the least {@code long} keys,
+     * see {@link #toBottomKByInt(int, ThrowingToIntFunction)}.
+     */
+    public static <T> Collector<T, ?, List<T>> toBottomKByLong(int k, ThrowingToLongFunction<? super T> key) {
+        Objects.requireNonNull(key);
+        return toLeastKeys(k, key);
+    }
+
+    /**
+     * Returns a collector of the {@code k} elements with the least {@code double} keys, ordered as
+     * {@link Double#compare(double, double)} does, see {@link #toBottomKByInt(int, ThrowingToIntFunction)}.
+     */
+    public static <T> Collector<T, ?, List<T>> toBottomKByDouble(int k, ThrowingToDoubleFunction<? super T> key) {
+        Objects.requireNonNull(key);
+        return toLeastKeys(k, t -> LongKeyedHeap.sortable(key.applyAsDoubleThrows(t)));
+    }
+
+    /**
+     * Returns a collector of a {@link HyperLogLog} sketch of the distinct keys of the input, that
+     * estimates their number in {@code 2^precision} bytes. Keys are hashed without boxing and the
+     * sketches of a parallel stream are merged exactly.
+     *
+     * @param precision number of index bits, from 4 to 18, 14 gives about 0.8% error in 16 KB
+     * @param key       extracts the key of an element, equal elements should have equal keys
+     * @return collector of a distinct count sketch
+     * @throws IllegalArgumentException if {@code precision} is out of range
+     * @throws NullPointerException     if {@code key} is null
+     */
+    public static <T> Collector<T, ?, HyperLogLog> toHyperLogLog(int precision, ThrowingToLongFunction<? super T> key) {
+        HyperLogLog.checkPrecision(precision);
+        Objects.requireNonNull(key);
+
+        return Collector.<T, HyperLogLog>of(
+                () -> new HyperLogLog(precision),
+                (sketch, t) -> sketch.add(key.applyAsLong(t)),
+                HyperLogLog::merge,
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * Returns a collector of a {@link CountMinSketch} of the key frequencies of the input.
+     * Keys are hashed without boxing and the sketches of a parallel stream are merged exactly.
+     *
+     * @param width counters per row, the error is about {@code 2.72 / width} of the input size
+     * @param depth number of rows, from 1 to 32, the error bound fails with probability {@code e^-depth}
+     * @param key   extracts the key of an element, equal elements should have equal keys
+     * @return collector of a frequency sketch
+     * @throws IllegalArgumentException if {@code width} is not positive or {@code depth} is out of range
+     * @throws NullPointerException     if {@code key} is null
+     */
+    public static <T> Collector<T, ?, CountMinSketch> toCountMinSketch(
+            int width,
+            int depth,
+            ThrowingToLongFunction<? super T> key
+    ) {
+        CountMinSketch.check(width, depth);
+        Objects.requireNonNull(key);
+
+        return Collector.<T, CountMinSketch>of(
+                () -> new CountMinSketch(width, depth),
+                (sketch, t) -> sketch.add(key.applyAsLong(t)),
+                CountMinSketch::merge,
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * Returns a collector of a {@link SpaceSaving} summary of the most frequent keys of the input,
+     * see {@link SpaceSaving#top(int)}. Every key occurring more than {@code n / capacity} times in
+     * the input of size {@code n} is in the summary. Keys are looked up without boxing.
+     *
+     * @param capacity maximum number of keys to count
+     * @param key      extracts the key of an element, equal elements should have equal keys
+     * @return collector of a heavy hitters summary
+     * @throws IllegalArgumentException if {@code capacity} is not positive or greater than {@code 2^28}
+     * @throws NullPointerException     if {@code key} is null
+     */
+    public static <T> Collector<T, ?, SpaceSaving> toHeavyHitters(int capacity, ThrowingToLongFunction<? super T> key) {
+        SpaceSaving.checkCapacity(capacity);
+        Objects.requireNonNull(key);
+
+        return Collector.<T, SpaceSaving>of(
+                () -> new SpaceSaving(capacity),
+                (summary, t) -> summary.add(key.applyAsLong(t)),
+                SpaceSaving::merge,
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * Returns a collector of a {@link TDigest} of the values of the input, that estimates their
+     * quantiles in memory proportional to {@code compression}. Digests of a parallel stream are merged.
+     *
+     * @param compression accuracy, 100 is typical
+     * @param value       extracts the value of an element, not NaN
+     * @return collector of a quantile digest
+     * @throws IllegalArgumentException if {@code compression} is out of range, or, when collecting, a value is NaN
+     * @throws NullPointerException     if {@code value} is null
+     */
+    public static <T> Collector<T, ?, TDigest> toTDigest(double compression, ThrowingToDoubleFunction<? super T> value) {
+        TDigest.checkCompression(compression);
+        Objects.requireNonNull(value);
+
+        return Collector.<T, TDigest>of(
+                () -> new TDigest(compression),
+                (digest, t) -> digest.add(value.applyAsDouble(t)),
+                TDigest::merge,
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * Returns a collector of the {@code int} values of the input, in encounter order, into a growable
+     * {@code int[]}, without boxing them. Arrays of a parallel stream are concatenated.
+     *
+     * @param value extracts the value of an element
+     * @return collector of an array of values
+     * @throws NullPointerException if {@code value} is null
+     */
+    public static <T> Collector<T, ?, int[]> toIntArray(ThrowingToIntFunction<? super T> value) {
+        Objects.requireNonNull(value);
+
+        return Collector.<T, IntArrayBuilder, int[]>of(
+                IntArrayBuilder::new,
+                (array, t) -> array.add(value.applyAsInt(t)),
+                IntArrayBuilder::addAll,
+                IntArrayBuilder::toArray
+        );
+    }
+
+    /**
+     * Returns a collector of the {@code long} values of the input into a {@code long[]},
+     * see {@link #toIntArray(ThrowingToIntFunction)}.
+     */
+    public static <T> Collector<T, ?, long[]> toLongArray(ThrowingToLongFunction<? super T> value) {
+        Objects.requireNonNull(value);
+
+        return Collector.<T, LongArrayBuilder, long[]>of(
+                LongArrayBuilder::new,
+                (array, t) -> array.add(value.applyAsLong(t)),
+                LongArrayBuilder::addAll,
+                LongArrayBuilder::toArray
+        );
+    }
+
+    /**
+     * Returns a collector of the {@code double} values of the input into a {@code double[]},
+     * see {@link #toIntArray(ThrowingToIntFunction)}.
+     */
+    public static <T> Collector<T, ?, double[]> toDoubleArray(ThrowingToDoubleFunction<? super T> value) {
+        Objects.requireNonNull(value);
+
+        return Collector.<T, DoubleArrayBuilder, double[]>of(
+                DoubleArrayBuilder::new,
+                (array, t) -> array.add(value.applyAsDouble(t)),
+                DoubleArrayBuilder::addAll,
+                DoubleArrayBuilder::toArray
+        );
+    }
+
+    /**
+     * Same as {@link java.util.stream.Collectors#summarizingInt}, which never boxes the values,
+     * but takes a lambda that may throw checked exceptions.
+     */
+    public static <T> Collector<T, ?, IntSummaryStatistics> toIntSummaryStatistics(ThrowingToIntFunction<? super T> value) {
+        return summarizingInt(value);
+    }
+
+    /**
+     * Same as {@link java.util.stream.Collectors#summarizingLong}, which never boxes the values,
+     * but takes a lambda that may throw checked exceptions.
+     */
+    public static <T> Collector<T, ?, LongSummaryStatistics> toLongSummaryStatistics(ThrowingToLongFunction<? super T> value) {
+        return summarizingLong(value);
+    }
+
+    /**
+     * Same as {@link java.util.stream.Collectors#summarizingDouble}, which never boxes the values,
+     * but takes a lambda that may throw checked exceptions.
+     */
+    public static <T> Collector<T, ?, DoubleSummaryStatistics> toDoubleSummaryStatistics(
+            ThrowingToDoubleFunction<? super T> value
+    ) {
+        return summarizingDouble(value);
+    }
+
+    /**
+     * Returns a collector of a histogram of the {@code int} values of the input. Bucket {@code i}
+     * counts the values in {@code [boundaries[i - 1], boundaries[i])}, the first bucket counts the values
+     * below {@code boundaries[0]} and the last one the values from the last boundary on.
+     *
+     * @param boundaries strictly increasing bucket boundaries, copied
+     * @param value      extracts the value of an element
+     * @return collector of {@code boundaries.length + 1} bucket counts
+     * @throws IllegalArgumentException if {@code boundaries} are not strictly increasing
+     * @throws NullPointerException     if {@code boundaries} or {@code value} is null
+     */
+    public static <T> Collector<T, ?, long[]> toIntHistogram(int[] boundaries, ThrowingToIntFunction<? super T> value) {
+        int[] bounds = boundaries.clone();
+        for (int i = 1; i < bounds.length; i++) {
+            checkIncreasing(bounds[i - 1] < bounds[i], i);
+        }
+        Objects.requireNonNull(value);
+
+        return toHistogram(bounds.length + 1,
+                (counts, t) -> counts.increment(BucketCounts.bucket(Arrays.binarySearch(bounds, value.applyAsInt(t)))));
+    }
+
+    /**
+     * Returns a collector of a histogram of the {@code long} values of the input,
+     * see {@link #toIntHistogram(int[], ThrowingToIntFunction)}.
+     */
+    public static <T> Collector<T, ?, long[]> toLongHistogram(long[] boundaries, ThrowingToLongFunction<? super T> value) {
+        long[] bounds = boundaries.clone();
+        for (int i = 1; i < bounds.length; i++) {
+            checkIncreasing(bounds[i - 1] < bounds[i], i);
+        }
+        Objects.requireNonNull(value);
+
+        return toHistogram(bounds.length + 1,
+                (counts, t) -> counts.increment(BucketCounts.bucket(Arrays.binarySearch(bounds, value.applyAsLong(t)))));
+    }
+
+    /**
+     * Returns a collector of a histogram of the {@code double} values of the input,
+     * see {@link #toIntHistogram(int[], ThrowingToIntFunction)}.
+     *
+     * @throws IllegalArgumentException if {@code boundaries} are not strictly increasing or contain NaN,
+     *                                  or, when collecting, a value is NaN
+     */
+    public static <T> Collector<T, ?, long[]> toDoubleHistogram(
+            double[] boundaries,
+            ThrowingToDoubleFunction<? super T> value
+    ) {
+        double[] bounds = boundaries.clone();
+        for (int i = 0; i < bounds.length; i++) {
+            checkIncreasing(i == 0 ? !Double.isNaN(bounds[0]) : bounds[i - 1] < bounds[i], i);
+            if (bounds[i] == 0) {
+                bounds[i] = 0.0;
+            }
+        }
+        Objects.requireNonNull(value);
+
+        return toHistogram(bounds.length + 1, (counts, t) -> {
+            double v = value.applyAsDouble(t);
+            if (Double.isNaN(v)) {
+                throw new IllegalArgumentException("Value should not be NaN");
+            }
+            // -0.0 and 0.0 are the same value here, unlike in Arrays.binarySearch
+            counts.increment(BucketCounts.bucket(Arrays.binarySearch(bounds, v == 0 ? 0.0 : v)));
+        });
+    }
+
+    private static <T> Collector<T, ?, long[]> toHistogram(int buckets, ThrowingBiConsumer<BucketCounts, T> accumulator) {
+        return Collector.of(
+                () -> new BucketCounts(buckets),
+                accumulator,
+                BucketCounts::merge,
+                BucketCounts::toArray,
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    private static void checkIncreasing(boolean increasing, int index) {
+        if (!increasing) {
+            throw new IllegalArgumentException("Boundaries should be strictly increasing, see index " + index);
+        }
+    }
+
+    private static <T> Collector<T, ?, List<T>> toLeastKeys(int k, ThrowingToLongFunction<? super T> key) {
+        checkSize(k);
+
+        return Collector.<T, LongKeyedHeap<T>, List<T>>of(
+                () -> new LongKeyedHeap<>(k),
+                (heap, t) -> heap.offer(key.applyAsLong(t), t),
+                LongKeyedHeap::merge,
+                LongKeyedHeap::toSortedList,
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    private static void checkSize(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Size should not be negative: " + k);
+        }
+    }
+
+    /**
+     * Containers of a parallel stream are created concurrently and a collector may be shared,
+     * {@link SplittableRandom} is not thread-safe.
+     */
+    private static SplittableRandom split(SplittableRandom random) {
+        synchronized (random) {
+            return random.split();
+        }
+    }
 }
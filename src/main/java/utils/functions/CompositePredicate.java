@@ -0,0 +1,99 @@
+package utils.functions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link ThrowingPredicate} that is a short-circuiting logical AND or OR of it's predicates.
+ * <p>
+ * Predicates are kept in a flat array and tested in a loop, so a combination of any size costs
+ * a single stack frame to test. Composites of the same kind are flattened when combined, and
+ * {@link AlwaysTruePredicate} and {@link AlwaysFalsePredicate} are folded away: they are either
+ * dropped or make the whole combination constant.
+ * <p>
+ * Flattening copies the nested predicates, so only the explicit {@code allOf} and {@code anyOf}
+ * build composites, {@link ThrowingPredicate#and} and {@link ThrowingPredicate#or} keep a binary
+ * node and a long chain of them is built in linear time.
+ *
+ * @param <T> the type of the input to the predicate
+ * @see ThrowingPredicate#allOf(ThrowingPredicate[])
+ * @see ThrowingPredicate#anyOf(ThrowingPredicate[])
+ */
+final class CompositePredicate<T> implements ThrowingPredicate<T> {
+
+    private final boolean all;
+    private final ThrowingPredicate<? super T>[] predicates;
+
+    private CompositePredicate(boolean all, ThrowingPredicate<? super T>[] predicates) {
+        this.all = all;
+        this.predicates = predicates;
+    }
+
+    /**
+     * @param all        {@code true} for a logical AND, {@code false} for a logical OR
+     * @param predicates the predicates to combine
+     * @return combination of the {@code predicates}
+     * @throws NullPointerException if any of the {@code predicates} is null
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ThrowingPredicate<T> of(boolean all, Iterable<? extends ThrowingPredicate<? super T>> predicates) {
+        List<ThrowingPredicate<? super T>> flat = new ArrayList<>();
+        ThrowingPredicate<? super T> decided = null;
+
+        for (ThrowingPredicate<? super T> predicate : predicates) {
+            Objects.requireNonNull(predicate, "Predicate should not be null!");
+
+            if (decided != null || isConstant(predicate, all)) {
+                // the rest are only checked for null
+                continue;
+            }
+
+            if (isConstant(predicate, !all)) {
+                // false in allOf, true in anyOf decides the result
+                decided = predicate;
+                continue;
+            }
+
+            if (predicate instanceof CompositePredicate && ((CompositePredicate<?>) predicate).all == all) {
+                for (ThrowingPredicate<?> nested : ((CompositePredicate<?>) predicate).predicates) {
+                    flat.add((ThrowingPredicate<? super T>) nested);
+                }
+            } else {
+                flat.add(predicate);
+            }
+        }
+
+        if (decided != null) {
+            return (ThrowingPredicate<T>) decided;
+        }
+
+        if (flat.isEmpty()) {
+            return all ? AlwaysTruePredicate.instance() : AlwaysFalsePredicate.instance();
+        }
+
+        if (flat.size() == 1) {
+            return (ThrowingPredicate<T>) flat.get(0);
+        }
+
+        return new CompositePredicate<>(all, (ThrowingPredicate<? super T>[]) flat.toArray(new ThrowingPredicate<?>[0]));
+    }
+
+    private static boolean isConstant(ThrowingPredicate<?> predicate, boolean value) {
+        return value ? predicate instanceof AlwaysTruePredicate : predicate instanceof AlwaysFalsePredicate;
+    }
+
+    ThrowingPredicate<? super T>[] predicates() {
+        return predicates;
+    }
+
+    @Override
+    public boolean testThrowing(T t) throws Exception {
+        for (ThrowingPredicate<? super T> predicate : predicates) {
+            if (predicate.testThrowing(t) != all) {
+                return !all;
+            }
+        }
+        return all;
+    }
+}
@@ -0,0 +1,117 @@
+package utils.functions;
+
+/**
+ * Count-Min sketch of the frequencies of {@code long} keys.
+ * <p>
+ * Keeps {@code depth} rows of {@code width} counters, a key increments one counter per row and
+ * it's frequency is estimated as the least of it's counters. The estimate is never below the true
+ * frequency and, with probability {@code 1 - e^-depth}, exceeds it by at most {@code e / width} of
+ * the total count. Sketches of the same dimensions are merged by adding the counters.
+ *
+ * @see CollectOperation#toCountMinSketch(int, int, ThrowingToLongFunction)
+ */
+public final class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final long[] counters;
+    private long total;
+
+    /**
+     * @param width counters per row, the error is about {@code 2.72 / width} of the total count
+     * @param depth number of rows, from 1 to 32, the error bound fails with probability {@code e^-depth}
+     * @throws IllegalArgumentException if {@code width} is not positive, {@code depth} is out of range
+     *                                  or the sketch would have more than {@code 2^30} counters
+     */
+    public CountMinSketch(int width, int depth) {
+        check(width, depth);
+        this.width = width;
+        this.depth = depth;
+        this.counters = new long[width * depth];
+    }
+
+    static void check(int width, int depth) {
+        if (width <= 0) {
+            throw new IllegalArgumentException("Width should be positive: " + width);
+        }
+        if (depth < 1 || depth > 32) {
+            throw new IllegalArgumentException("Depth should be in [1, 32]: " + depth);
+        }
+        if ((long) width * depth > 1 << 30) {
+            throw new IllegalArgumentException("Sketch should have at most 2^30 counters: " + width + " x " + depth);
+        }
+    }
+
+    public void add(long key) {
+        add(key, 1);
+    }
+
+    /**
+     * @param key   the key
+     * @param count how many times to count it
+     * @throws IllegalArgumentException if {@code count} is negative
+     */
+    public void add(long key, long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count should not be negative: " + count);
+        }
+
+        long hash = Hashes.mix(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int row = 0; row < depth; row++) {
+            counters[row * width + Math.floorMod(h1 + row * h2, width)] += count;
+        }
+        total += count;
+    }
+
+    /**
+     * @return estimated frequency of {@code key}, not less than the true one
+     */
+    public long estimate(long key) {
+        long hash = Hashes.mix(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[row * width + Math.floorMod(h1 + row * h2, width)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * Adds the counts of {@code other} to this sketch.
+     *
+     * @return this sketch
+     * @throws IllegalArgumentException if the dimensions differ
+     */
+    public CountMinSketch merge(CountMinSketch other) {
+        if (other.width != width || other.depth != depth) {
+            throw new IllegalArgumentException("Dimensions should be equal: " + width + " x " + depth
+                    + " and " + other.width + " x " + other.depth);
+        }
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] += other.counters[i];
+        }
+        total += other.total;
+        return this;
+    }
+
+    /**
+     * @return sum of all added counts
+     */
+    public long total() {
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return "CountMinSketch{" +
+                "width=" + width +
+                ", depth=" + depth +
+                ", total=" + total +
+                '}';
+    }
+}
@@ -0,0 +1,49 @@
+package utils.functions;
+
+import java.util.Arrays;
+
+/**
+ * Growable {@code double[]} that collectors accumulate into without boxing.
+ *
+ * @see CollectOperation#toDoubleArray(ThrowingToDoubleFunction)
+ */
+final class DoubleArrayBuilder {
+
+    private double[] elements = new double[16];
+    private int size;
+
+    void add(double element) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, grow(size + 1));
+        }
+        elements[size++] = element;
+    }
+
+    /**
+     * Appends the elements of {@code other}, so the encounter order of a parallel stream is kept.
+     *
+     * @return this builder
+     */
+    DoubleArrayBuilder addAll(DoubleArrayBuilder other) {
+        if (size + other.size > elements.length) {
+            elements = Arrays.copyOf(elements, grow(size + other.size));
+        }
+        System.arraycopy(other.elements, 0, elements, size, other.size);
+        size += other.size;
+        return this;
+    }
+
+    /**
+     * @return trimmed copy of the elements
+     */
+    double[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    private int grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("Required array length is too large: " + Integer.toUnsignedString(minCapacity));
+        }
+        return (int) Math.min(Integer.MAX_VALUE - 8, Math.max(minCapacity, elements.length * 3L / 2));
+    }
+}
@@ -0,0 +1,78 @@
+package utils.functions;
+
+import java.util.Objects;
+
+/**
+ * Immutable builder of a {@link ThrowingFunction} from a sequence of stages.
+ * <p>
+ * Unlike a chain of {@link ThrowingFunction#andThen(java.util.function.Function)}
+ * calls, where each call wraps previous function into a new lambda, the built
+ * function keeps it's stages in a flat array and applies them in a single loop,
+ * with a single try/catch around the whole pipeline:
+ * <pre>
+ *   ThrowingFunction&lt;String, User&gt; parse = ThrowingFunction.&lt;String&gt;pipeline()
+ *           .then(String::trim)
+ *           .then(mapper::readTree)
+ *           .then(User::fromJson)
+ *           .build();
+ * </pre>
+ * Each {@link #then(ThrowingFunction)} returns a new builder, so a builder may be
+ * safely shared and extended in different ways.
+ *
+ * @param <T> the type of the input to the pipeline
+ * @param <R> the type of the result of the pipeline
+ * @see ThrowingFunction#pipeline()
+ */
+public final class FunctionPipeline<T, R> {
+
+    private static final FunctionPipeline<?, ?> EMPTY = new FunctionPipeline<>(null, null, 0);
+
+    private final FunctionPipeline<T, ?> previous;
+    private final ThrowingFunction<?, ?> stage;
+    private final int size;
+
+    private FunctionPipeline(FunctionPipeline<T, ?> previous, ThrowingFunction<?, ?> stage, int size) {
+        this.previous = previous;
+        this.stage = stage;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> FunctionPipeline<T, T> empty() {
+        return (FunctionPipeline<T, T>) EMPTY;
+    }
+
+    /**
+     * Returns a builder with {@code next} stage appended.
+     *
+     * @param <V>  the type of the result of the {@code next} stage
+     * @param next the stage to apply to the result of this pipeline
+     * @return new builder with {@code next} stage appended
+     * @throws NullPointerException if {@code next} is null
+     */
+    public <V> FunctionPipeline<T, V> then(ThrowingFunction<? super R, ? extends V> next) {
+        Objects.requireNonNull(next);
+        return new FunctionPipeline<>(this, next, size + (next instanceof FusedFunction
+                ? FusedFunction.stagesOf(next).length
+                : 1));
+    }
+
+    /**
+     * Builds a function that applies all the stages of this pipeline in order.
+     *
+     * @return built function, identity if there is no stages
+     */
+    @SuppressWarnings("unchecked")
+    public ThrowingFunction<T, R> build() {
+        ThrowingFunction<Object, Object>[] stages = (ThrowingFunction<Object, Object>[]) new ThrowingFunction<?, ?>[size];
+        int end = size;
+
+        for (FunctionPipeline<T, ?> node = this; node.stage != null; node = node.previous) {
+            ThrowingFunction<Object, Object>[] nodeStages = FusedFunction.stagesOf(node.stage);
+            end -= nodeStages.length;
+            System.arraycopy(nodeStages, 0, stages, end, nodeStages.length);
+        }
+
+        return new FusedFunction<>(stages);
+    }
+}
@@ -0,0 +1,76 @@
+package utils.functions;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * {@link ThrowingFunction} that applies it's stages one after another in a loop.
+ * <p>
+ * Stages are called through {@link ThrowingFunction#applyThrowing(Object)},
+ * so checked exceptions are caught and sneaky thrown only once, by
+ * {@link #apply(Object)} of the whole function. {@link #andThen(Function)}
+ * and {@link #compose(Function)} return fused functions too, fused
+ * functions used as stages are flattened.
+ *
+ * @param <T> the type of the input to the function
+ * @param <R> the type of the result of the function
+ * @see FunctionPipeline
+ */
+final class FusedFunction<T, R> implements ThrowingFunction<T, R> {
+
+    private final ThrowingFunction<Object, Object>[] stages;
+
+    FusedFunction(ThrowingFunction<Object, Object>[] stages) {
+        this.stages = stages;
+    }
+
+    /**
+     * @return stages of {@code function}, the function itself if it is not fused
+     */
+    @SuppressWarnings("unchecked")
+    static ThrowingFunction<Object, Object>[] stagesOf(Function<?, ?> function) {
+        if (function instanceof FusedFunction) {
+            return ((FusedFunction<?, ?>) function).stages;
+        }
+
+        ThrowingFunction<Object, Object> stage = function instanceof ThrowingFunction
+                ? (ThrowingFunction<Object, Object>) function
+                : ((Function<Object, Object>) function)::apply;
+
+        return (ThrowingFunction<Object, Object>[]) new ThrowingFunction<?, ?>[]{stage};
+    }
+
+    static ThrowingFunction<Object, Object>[] concat(
+            ThrowingFunction<Object, Object>[] first,
+            ThrowingFunction<Object, Object>[] second
+    ) {
+        ThrowingFunction<Object, Object>[] stages = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, stages, first.length, second.length);
+        return stages;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R applyThrowing(T t) throws Exception {
+        Object value = t;
+
+        for (ThrowingFunction<Object, Object> stage : stages) {
+            value = stage.applyThrowing(value);
+        }
+
+        return (R) value;
+    }
+
+    @Override
+    public <V> ThrowingFunction<V, R> compose(Function<? super V, ? extends T> before) {
+        Objects.requireNonNull(before);
+        return new FusedFunction<>(concat(stagesOf(before), stages));
+    }
+
+    @Override
+    public <V> ThrowingFunction<T, V> andThen(Function<? super R, ? extends V> after) {
+        Objects.requireNonNull(after);
+        return new FusedFunction<>(concat(stages, stagesOf(after)));
+    }
+}
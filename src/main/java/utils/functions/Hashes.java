@@ -0,0 +1,21 @@
+package utils.functions;
+
+/**
+ * Hashing of {@code long} keys for the sketches of {@link CollectOperation}, without boxing.
+ */
+final class Hashes {
+
+    private Hashes() {
+    }
+
+    /**
+     * SplitMix64 finalizer of {@code key} plus the golden gamma: a bijection that spreads every
+     * input bit over all output bits, so sequential keys give unrelated hashes.
+     */
+    static long mix(long key) {
+        long z = key + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
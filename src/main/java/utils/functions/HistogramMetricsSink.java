@@ -0,0 +1,54 @@
+package utils.functions;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link MetricsSink} that keeps a latency histogram per name in memory.
+ * <p>
+ * Recording is lock-free and allocation-free: a histogram is split into stripes picked by
+ * the calling thread, see {@link LatencyHistogram}, and a probe is looked up only when
+ * a lambda is instrumented. Take a {@link #snapshot(String)} to read the counts, mean,
+ * maximum and percentiles of the recorded durations.
+ */
+public final class HistogramMetricsSink implements MetricsSink {
+
+    private final ConcurrentHashMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    public MetricsSink.Probe probe(String name) {
+        return histogram(name);
+    }
+
+    LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(Objects.requireNonNull(name), __ -> new LatencyHistogram());
+    }
+
+    /**
+     * @param name name of an instrumented lambda
+     * @return snapshot of the calls recorded as {@code name}, empty if there were none
+     * @throws NullPointerException if {@code name} is null
+     */
+    public LatencySnapshot snapshot(String name) {
+        LatencyHistogram histogram = histograms.get(Objects.requireNonNull(name));
+        return histogram == null
+                ? new LatencySnapshot(new long[LatencyHistogram.BUCKETS], 0, 0, 0)
+                : histogram.snapshot();
+    }
+
+    /**
+     * @return snapshots of all names, sorted by name
+     */
+    public Map<String, LatencySnapshot> snapshots() {
+        Map<String, LatencySnapshot> snapshots = new TreeMap<>();
+        histograms.forEach((name, histogram) -> snapshots.put(name, histogram.snapshot()));
+        return snapshots;
+    }
+
+    @Override
+    public String toString() {
+        return "HistogramMetricsSink" + snapshots();
+    }
+}
@@ -0,0 +1,30 @@
+package utils.functions;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event of one call of an instrumented lambda, see {@link JfrMetricsSink}.
+ */
+@Name("utils.functions.Invocation")
+@Label("Invocation")
+@Category("Function Utils")
+@Description("Call of an instrumented throwing lambda")
+@StackTrace(false)
+final class InvocationEvent extends jdk.jfr.Event {
+
+    @Label("Name")
+    String name;
+
+    @Label("Call Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long callDuration;
+
+    @Label("Exception")
+    @Description("Class of the thrown exception, null if the call returned normally")
+    String exception;
+}
@@ -0,0 +1,43 @@
+package utils.functions;
+
+import java.util.Objects;
+
+/**
+ * {@link MetricsSink} that emits a {@code utils.functions.Invocation} JDK Flight Recorder event
+ * per call with the name, duration and class of the thrown exception, if any.
+ * <p>
+ * Events are recorded only while a recording enables them, e.g. one started with
+ * {@code -XX:StartFlightRecording}, otherwise a call costs an enabled check. Stack traces
+ * are not recorded, use it together with a {@link HistogramMetricsSink} through
+ * {@link MetricsSink#combine(MetricsSink...)} to have aggregates as well.
+ */
+public final class JfrMetricsSink implements MetricsSink {
+
+    @Override
+    public MetricsSink.Probe probe(String name) {
+        Objects.requireNonNull(name);
+
+        return new MetricsSink.Probe() {
+            @Override
+            public void success(long nanos) {
+                commit(name, nanos, null);
+            }
+
+            @Override
+            public void failure(long nanos, Throwable exception) {
+                commit(name, nanos, exception);
+            }
+        };
+    }
+
+    private static void commit(String name, long nanos, Throwable exception) {
+        InvocationEvent event = new InvocationEvent();
+
+        if (event.isEnabled()) {
+            event.name = name;
+            event.callDuration = nanos;
+            event.exception = exception == null ? null : exception.getClass().getName();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package utils.functions;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link MetricsSink} that records calls into latency histograms, see {@link HistogramMetricsSink},
+ * and exposes every name as a {@link LatencyMXBean} named {@code <domain>:type=Latency,name=<name>}.
+ * Each snapshot is taken when an attribute is read, so a monitoring client polling the beans
+ * adds no cost to the recording threads. {@link #close()} unregisters the beans.
+ */
+public final class JmxMetricsSink implements MetricsSink, AutoCloseable {
+
+    private final MBeanServer server;
+    private final String domain;
+    private final HistogramMetricsSink histograms = new HistogramMetricsSink();
+    private final ConcurrentHashMap<String, ObjectName> registered = new ConcurrentHashMap<>();
+
+    /**
+     * @param domain JMX domain to register the beans in
+     * @throws NullPointerException if {@code domain} is null
+     */
+    public JmxMetricsSink(String domain) {
+        this(ManagementFactory.getPlatformMBeanServer(), domain);
+    }
+
+    /**
+     * @param server the server to register the beans in
+     * @param domain JMX domain to register the beans in
+     * @throws NullPointerException if any param is null
+     */
+    public JmxMetricsSink(MBeanServer server, String domain) {
+        this.server = Objects.requireNonNull(server);
+        this.domain = Objects.requireNonNull(domain);
+    }
+
+    /**
+     * Registers the bean of {@code name} when it is asked for the first time.
+     *
+     * @throws IllegalStateException if the bean can not be registered, e.g. another sink registered the same name
+     */
+    @Override
+    public MetricsSink.Probe probe(String name) {
+        LatencyHistogram histogram = histograms.histogram(name);
+        registered.computeIfAbsent(name, this::register);
+        return histogram;
+    }
+
+    private ObjectName register(String name) {
+        try {
+            ObjectName objectName = new ObjectName(domain + ":type=Latency,name=" + ObjectName.quote(name));
+            server.registerMBean(new Latency(histograms, name), objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Can not register metrics of " + name, e);
+        }
+    }
+
+    /**
+     * @see HistogramMetricsSink#snapshot(String)
+     */
+    public LatencySnapshot snapshot(String name) {
+        return histograms.snapshot(name);
+    }
+
+    /**
+     * Unregisters the beans, probes keep recording into the histograms.
+     */
+    @Override
+    public void close() {
+        registered.forEach((name, objectName) -> {
+            try {
+                server.unregisterMBean(objectName);
+            } catch (JMException ignored) {
+                // already unregistered by someone else
+            }
+        });
+        registered.clear();
+    }
+
+    private static final class Latency implements LatencyMXBean {
+
+        private final HistogramMetricsSink histograms;
+        private final String name;
+
+        private Latency(HistogramMetricsSink histograms, String name) {
+            this.histograms = histograms;
+            this.name = name;
+        }
+
+        @Override
+        public long getCount() {
+            return histograms.snapshot(name).count();
+        }
+
+        @Override
+        public long getFailureCount() {
+            return histograms.snapshot(name).failureCount();
+        }
+
+        @Override
+        public long getMeanNanos() {
+            return histograms.snapshot(name).meanNanos();
+        }
+
+        @Override
+        public long getMaxNanos() {
+            return histograms.snapshot(name).maxNanos();
+        }
+
+        @Override
+        public long getP50Nanos() {
+            return histograms.snapshot(name).percentileNanos(50);
+        }
+
+        @Override
+        public long getP99Nanos() {
+            return histograms.snapshot(name).percentileNanos(99);
+        }
+
+        @Override
+        public long getP999Nanos() {
+            return histograms.snapshot(name).percentileNanos(99.9);
+        }
+    }
+}
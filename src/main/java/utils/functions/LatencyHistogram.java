@@ -0,0 +1,107 @@
+package utils.functions;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free striped histogram of call durations, the {@link MetricsSink.Probe} of {@link HistogramMetricsSink}.
+ * <p>
+ * Durations are counted in log-linear buckets: four buckets per power of two, so a bucket
+ * is at most a quarter of it's lower bound wide. Every stripe is a row of one {@link AtomicLongArray}
+ * with failure count, sum and maximum followed by the buckets, a thread records to the row picked
+ * by it's id, so threads on different cores rarely contend and recording allocates nothing.
+ * Rows are merged only when a snapshot is taken.
+ */
+final class LatencyHistogram implements MetricsSink.Probe {
+
+    static final int BUCKETS = 248;
+
+    private static final int FAILURES = 0;
+    private static final int SUM = 1;
+    private static final int MAX = 2;
+    private static final int FIRST_BUCKET = 3;
+
+    /**
+     * Row length, a few unused slots keep the hot head of a row off the tail of the previous one.
+     */
+    private static final int ROW = 256;
+
+    private static final int STRIPES =
+            Math.min(16, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1);
+
+    private final AtomicLongArray cells = new AtomicLongArray(STRIPES * ROW);
+
+    @Override
+    public void success(long nanos) {
+        record(row(), nanos);
+    }
+
+    @Override
+    public void failure(long nanos, Throwable exception) {
+        int row = row();
+        cells.incrementAndGet(row + FAILURES);
+        record(row, nanos);
+    }
+
+    private static int row() {
+        return ((int) Thread.currentThread().getId() & (STRIPES - 1)) * ROW;
+    }
+
+    private void record(int row, long nanos) {
+        long duration = Math.max(0, nanos);
+
+        cells.incrementAndGet(row + FIRST_BUCKET + bucket(duration));
+        cells.addAndGet(row + SUM, duration);
+
+        long max;
+        while (duration > (max = cells.get(row + MAX)) && !cells.compareAndSet(row + MAX, max, duration)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * @return index of the bucket of a non-negative {@code nanos}
+     */
+    static int bucket(long nanos) {
+        if (nanos < 4) {
+            return (int) nanos;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        return ((exponent - 1) << 2) + (int) ((nanos >>> (exponent - 2)) & 3);
+    }
+
+    /**
+     * @return the least duration in bucket {@code index}, {@link Long#MAX_VALUE} past the last bucket
+     */
+    static long lowerBound(int index) {
+        if (index < 4) {
+            return index;
+        }
+        if (index >= BUCKETS) {
+            return Long.MAX_VALUE;
+        }
+        int exponent = (index >> 2) + 1;
+        return (4L + (index & 3)) << (exponent - 2);
+    }
+
+    /**
+     * Merges the stripes, concurrent calls may be counted partially.
+     */
+    LatencySnapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long failures = 0;
+        long sum = 0;
+        long max = 0;
+
+        for (int row = 0; row < STRIPES * ROW; row += ROW) {
+            failures += cells.get(row + FAILURES);
+            sum += cells.get(row + SUM);
+            max = Math.max(max, cells.get(row + MAX));
+
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] += cells.get(row + FIRST_BUCKET + i);
+            }
+        }
+
+        return new LatencySnapshot(counts, failures, sum, max);
+    }
+}
@@ -0,0 +1,22 @@
+package utils.functions;
+
+/**
+ * Management interface of the calls recorded for one name by a {@link JmxMetricsSink}.
+ * Durations are in nanoseconds.
+ */
+public interface LatencyMXBean {
+
+    long getCount();
+
+    long getFailureCount();
+
+    long getMeanNanos();
+
+    long getMaxNanos();
+
+    long getP50Nanos();
+
+    long getP99Nanos();
+
+    long getP999Nanos();
+}
@@ -0,0 +1,109 @@
+package utils.functions;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of the calls recorded for one name by a {@link HistogramMetricsSink}.
+ * Percentiles are approximate: they are upper bounds of histogram buckets, at most
+ * 25% above the exact value.
+ *
+ * @see HistogramMetricsSink#snapshot(String)
+ */
+public final class LatencySnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long failureCount;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    LatencySnapshot(long[] counts, long failureCount, long totalNanos, long maxNanos) {
+        long count = 0;
+        for (long bucket : counts) {
+            count += bucket;
+        }
+
+        this.counts = counts;
+        this.count = count;
+        this.failureCount = failureCount;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * @return number of calls, including failed ones
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return number of calls that threw
+     */
+    public long failureCount() {
+        return failureCount;
+    }
+
+    /**
+     * @return mean duration of a call, zero if there were no calls
+     */
+    public Duration mean() {
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos / count);
+    }
+
+    /**
+     * @return the longest duration of a call
+     */
+    public Duration max() {
+        return Duration.ofNanos(maxNanos);
+    }
+
+    /**
+     * @param percentile from 0 to 100, e.g. 99.9
+     * @return duration that the given percentage of calls did not exceed, zero if there were no calls
+     * @throws IllegalArgumentException if {@code percentile} is not in [0, 100]
+     */
+    public Duration percentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile should be in [0, 100]: " + percentile);
+        }
+        return Duration.ofNanos(percentileNanos(percentile));
+    }
+
+    long percentileNanos(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(maxNanos, LatencyHistogram.lowerBound(i + 1) - 1);
+            }
+        }
+        return maxNanos;
+    }
+
+    long meanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    long maxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencySnapshot{" +
+                "count=" + count +
+                ", failureCount=" + failureCount +
+                ", mean=" + mean() +
+                ", p50=" + percentile(50) +
+                ", p99=" + percentile(99) +
+                ", max=" + max() +
+                '}';
+    }
+}
@@ -0,0 +1,108 @@
+package utils.functions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Binary max-heap that keeps the {@code k} elements with the least {@code long} keys, the primitive
+ * fast path of {@link BoundedHeap}: keys are compared without a comparator call and without boxing.
+ * <p>
+ * {@code int} keys are widened, {@code double} keys are mapped to {@code long}s that compare like
+ * {@link Double#compare(double, double)}, see {@link #sortable(double)}, and greatest keys are kept
+ * by storing {@code ~key}, which reverses the order without overflow.
+ *
+ * @param <T> the type of the elements
+ */
+final class LongKeyedHeap<T> {
+
+    private final int k;
+    private long[] keys;
+    private Object[] items;
+    private int size;
+
+    LongKeyedHeap(int k) {
+        this.k = k;
+        this.keys = new long[Math.min(k, 16)];
+        this.items = new Object[keys.length];
+    }
+
+    /**
+     * @return a {@code long} that compares to others like {@code value} does with {@link Double#compare}
+     */
+    static long sortable(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    void offer(long key, Object t) {
+        if (size < k) {
+            push(key, t);
+        } else if (size > 0 && key < keys[0]) {
+            siftDown(key, t, size);
+        }
+    }
+
+    LongKeyedHeap<T> merge(LongKeyedHeap<T> other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.keys[i], other.items[i]);
+        }
+        return this;
+    }
+
+    /**
+     * @return the kept elements from the least key to the greatest, the heap is not usable after it
+     */
+    @SuppressWarnings("unchecked")
+    List<T> toSortedList() {
+        Object[] sorted = new Object[size];
+        for (int last = size - 1; last >= 0; last--) {
+            sorted[last] = items[0];
+            siftDown(keys[last], items[last], last);
+        }
+        size = 0;
+        return new ArrayList<>((List<T>) Arrays.asList(sorted));
+    }
+
+    private void push(long key, Object t) {
+        if (size == keys.length) {
+            int capacity = (int) Math.min(k, (long) keys.length << 1);
+            keys = Arrays.copyOf(keys, capacity);
+            items = Arrays.copyOf(items, capacity);
+        }
+
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[parent] >= key) {
+                break;
+            }
+            keys[i] = keys[parent];
+            items[i] = items[parent];
+            i = parent;
+        }
+        keys[i] = key;
+        items[i] = t;
+    }
+
+    /**
+     * Puts {@code key} into the root of {@code keys[0, length)} and sifts it down.
+     */
+    private void siftDown(long key, Object t, int length) {
+        int i = 0;
+        for (int child; (child = (i << 1) + 1) < length; i = child) {
+            if (child + 1 < length && keys[child + 1] > keys[child]) {
+                child++;
+            }
+            if (keys[child] <= key) {
+                break;
+            }
+            keys[i] = keys[child];
+            items[i] = items[child];
+        }
+        if (length > 0) {
+            keys[i] = key;
+            items[i] = t;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package utils.functions;
+
+import java.util.concurrent.ExecutionException;
+
+/**
+ * {@link ThrowingSupplier} that calls it's delegate once and then returns the remembered result.
+ * <p>
+ * Once the result is remembered, it is read with a single volatile load and no locking.
+ * The first callers are serialized on this supplier's monitor, so concurrent callers wait
+ * for a single call of the delegate instead of calling it each.
+ *
+ * @param <T> the type of results supplied by this supplier
+ * @see ThrowingSupplier#memoize()
+ * @see ThrowingSupplier#memoizeWithExpiry(java.time.Duration)
+ */
+final class MemoizingSupplier<T> implements ThrowingSupplier<T> {
+
+    private final ThrowingSupplier<? extends T> delegate;
+
+    /**
+     * How long the result is remembered for, {@code 0} to remember it forever.
+     */
+    private final long expiryNanos;
+
+    /**
+     * Whether an {@link Exception} thrown by {@link #delegate} is remembered and rethrown as a result.
+     * Every call throws a new {@link ExecutionException} caused by it, so decorating the thrown
+     * exception, like {@link Throwable#addSuppressed(Throwable)}, does not grow the shared one.
+     */
+    private final boolean cacheFailure;
+
+    private volatile Result<T> result;
+
+    MemoizingSupplier(ThrowingSupplier<? extends T> delegate, long expiryNanos, boolean cacheFailure) {
+        this.delegate = delegate;
+        this.expiryNanos = expiryNanos;
+        this.cacheFailure = cacheFailure;
+    }
+
+    @Override
+    public T getThrowing() throws Exception {
+        Result<T> current = result;
+
+        if (current == null || isExpired(current)) {
+            current = compute();
+        }
+
+        if (current.failure != null) {
+            throw new ExecutionException(current.failure);
+        }
+
+        return current.value;
+    }
+
+    private synchronized Result<T> compute() throws Exception {
+        Result<T> current = result;
+
+        if (current != null && !isExpired(current)) {
+            return current;
+        }
+
+        long expiresAt = expiryNanos == 0 ? 0 : System.nanoTime() + expiryNanos;
+
+        try {
+            current = new Result<>(delegate.getThrowing(), null, expiresAt);
+        } catch (Exception e) {
+            if (!cacheFailure) {
+                throw e;
+            }
+            current = new Result<>(null, e, expiresAt);
+        }
+
+        result = current;
+        return current;
+    }
+
+    private boolean isExpired(Result<T> result) {
+        return expiryNanos != 0 && result.expiresAt - System.nanoTime() <= 0;
+    }
+
+    private static final class Result<T> {
+
+        private final T value;
+        private final Exception failure;
+        private final long expiresAt;
+
+        private Result(T value, Exception failure, long expiresAt) {
+            this.value = value;
+            this.failure = failure;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
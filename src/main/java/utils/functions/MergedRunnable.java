@@ -0,0 +1,183 @@
+package utils.functions;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+
+/**
+ * {@link ThrowingRunnable} that is a sequence of calls of each of it's tasks.
+ * <p>
+ * Tasks are kept in a flat array and run in a loop, merged runnables
+ * that are merged again are flattened, so a merge of any size costs
+ * a single stack frame to run.
+ * <p>
+ * When created with an {@link Executor}, tasks are submitted to it all at
+ * once and the caller waits for all of them. The failure of the first
+ * failed task is rethrown, failures of the others are added as suppressed.
+ *
+ * @see ThrowingRunnable#merge(Runnable...)
+ * @see ThrowingRunnable#throwingMerge(ThrowingRunnable...)
+ * @see ThrowingRunnable#mergeParallel(Executor, Runnable...)
+ */
+final class MergedRunnable implements ThrowingRunnable {
+
+    private final ThrowingRunnable[] tasks;
+
+    /**
+     * Executor to run {@link #tasks} in, {@code null} to run them one after another on the caller thread.
+     */
+    private final Executor executor;
+
+    private MergedRunnable(ThrowingRunnable[] tasks, Executor executor) {
+        this.tasks = tasks;
+        this.executor = executor;
+    }
+
+    static ThrowingRunnable of(Runnable[] mergeUs) {
+        return of(mergeUs, null);
+    }
+
+    static ThrowingRunnable of(Runnable[] mergeUs, Executor executor) {
+        List<ThrowingRunnable> tasks = new ArrayList<>(mergeUs.length);
+
+        for (Runnable task : mergeUs) {
+            add(tasks, task, executor);
+        }
+
+        return of(tasks, executor);
+    }
+
+    static ThrowingRunnable of(Iterable<? extends Runnable> mergeUs) {
+        return of(mergeUs, null);
+    }
+
+    static ThrowingRunnable of(Iterable<? extends Runnable> mergeUs, Executor executor) {
+        List<ThrowingRunnable> tasks = mergeUs instanceof Collection
+                ? new ArrayList<>(((Collection<?>) mergeUs).size())
+                : new ArrayList<>();
+
+        mergeUs.forEach(task -> add(tasks, task, executor));
+
+        return of(tasks, executor);
+    }
+
+    static ThrowingRunnable of(Iterator<? extends Runnable> mergeUs) {
+        List<ThrowingRunnable> tasks = new ArrayList<>();
+
+        mergeUs.forEachRemaining(task -> add(tasks, task, null));
+
+        return of(tasks, null);
+    }
+
+    static ThrowingRunnable of(Spliterator<? extends Runnable> mergeUs) {
+        List<ThrowingRunnable> tasks = new ArrayList<>();
+
+        mergeUs.forEachRemaining(task -> add(tasks, task, null));
+
+        return of(tasks, null);
+    }
+
+    static ThrowingRunnable of(Stream<? extends Runnable> mergeUs) {
+        List<ThrowingRunnable> tasks = new ArrayList<>();
+
+        mergeUs.forEachOrdered(task -> add(tasks, task, null));
+
+        return of(tasks, null);
+    }
+
+    private static ThrowingRunnable of(List<ThrowingRunnable> tasks, Executor executor) {
+        // a single task may run as is only if it does not have to run in the executor
+        return tasks.size() == 1 && executor == null
+                ? tasks.get(0)
+                : new MergedRunnable(tasks.toArray(new ThrowingRunnable[0]), executor);
+    }
+
+    private static void add(List<ThrowingRunnable> tasks, Runnable task, Executor executor) {
+        requireNonNull(task);
+
+        if (task instanceof MergedRunnable && ((MergedRunnable) task).executor == executor) {
+            Collections.addAll(tasks, ((MergedRunnable) task).tasks);
+        } else if (task instanceof ThrowingRunnable) {
+            tasks.add((ThrowingRunnable) task);
+        } else {
+            tasks.add(task::run);
+        }
+    }
+
+    @Override
+    public void runThrowing() throws Exception {
+        if (executor == null) {
+            for (ThrowingRunnable task : tasks) {
+                task.runThrowing();
+            }
+        } else {
+            runInExecutor();
+        }
+    }
+
+    private void runInExecutor() throws Exception {
+        Throwable[] failures = new Throwable[tasks.length];
+        CountDownLatch done = new CountDownLatch(tasks.length);
+
+        for (int i = 0; i < tasks.length; i++) {
+            ThrowingRunnable task = tasks[i];
+            int index = i;
+
+            try {
+                executor.execute(() -> {
+                    try {
+                        task.runThrowing();
+                    } catch (Throwable t) {
+                        failures[index] = t;
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                failures[index] = e;
+                done.countDown();
+            }
+        }
+
+        // compensates a blocked worker when merged runnable is run in a ForkJoinPool itself
+        ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+            @Override
+            public boolean block() throws InterruptedException {
+                done.await();
+                return true;
+            }
+
+            @Override
+            public boolean isReleasable() {
+                return done.getCount() == 0;
+            }
+        });
+
+        Throwable failure = null;
+
+        for (Throwable t : failures) {
+            if (t == null) {
+                continue;
+            }
+            if (failure == null) {
+                failure = t;
+            } else if (failure != t) {
+                failure.addSuppressed(t);
+            }
+        }
+
+        if (failure != null) {//noinspection RedundantTypeArguments
+            throw Functions.<RuntimeException>sneakyThrow(failure);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package utils.functions;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Destination of call metrics recorded by {@code instrumented(name, sink)} decorators
+ * of the {@code Throwing*} interfaces, e.g. {@link ThrowingFunction#instrumented(String, MetricsSink)}.
+ * <p>
+ * A decorator asks the sink for a {@link Probe} by name once, when it is created, and then
+ * passes the duration and outcome of every call to it. Probes are called concurrently from
+ * the calling threads, they should be cheap and should not throw.
+ * <pre>
+ *   HistogramMetricsSink metrics = new HistogramMetricsSink();
+ *   ThrowingFunction&lt;Path, String&gt; read = Files::readString;
+ *   ThrowingFunction&lt;Path, String&gt; timed = read.instrumented("config.read", metrics);
+ *   ...
+ *   LatencySnapshot snapshot = metrics.snapshot("config.read");
+ * </pre>
+ *
+ * @see HistogramMetricsSink
+ * @see JmxMetricsSink
+ * @see JfrMetricsSink
+ */
+@FunctionalInterface
+public interface MetricsSink {
+
+    /**
+     * @param name name of the instrumented lambda
+     * @return probe to record calls of the lambda to, the same one for the same name if the sink aggregates
+     */
+    Probe probe(String name);
+
+    /**
+     * Returns a sink that records every call to all of the {@code sinks}.
+     *
+     * @param sinks the sinks to record to
+     * @return combined sink
+     * @throws NullPointerException if {@code sinks} or any of them is null
+     */
+    static MetricsSink combine(MetricsSink... sinks) {
+        MetricsSink[] copy = Arrays.copyOf(sinks, sinks.length);
+        for (MetricsSink sink : copy) {
+            Objects.requireNonNull(sink, "Sink should not be null!");
+        }
+
+        return name -> {
+            Probe[] probes = new Probe[copy.length];
+            Arrays.setAll(probes, i -> copy[i].probe(name));
+
+            return new Probe() {
+                @Override
+                public void success(long nanos) {
+                    for (Probe probe : probes) {
+                        probe.success(nanos);
+                    }
+                }
+
+                @Override
+                public void failure(long nanos, Throwable exception) {
+                    for (Probe probe : probes) {
+                        probe.failure(nanos, exception);
+                    }
+                }
+            };
+        };
+    }
+
+    /**
+     * Receiver of the calls of a single instrumented lambda.
+     */
+    interface Probe {
+
+        /**
+         * Records a call that returned normally.
+         *
+         * @param nanos duration of the call
+         */
+        void success(long nanos);
+
+        /**
+         * Records a call that threw.
+         *
+         * @param nanos     duration of the call
+         * @param exception what the call threw, it is rethrown after this method returns
+         */
+        void failure(long nanos, Throwable exception);
+    }
+}
@@ -0,0 +1,171 @@
+package utils.functions;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Immutable configuration of a {@link MicroBatcher}: batch size, linger time, buffer capacity,
+ * what producers do when the buffer is full and who is told about failed batches.
+ * <pre>
+ *   MicroBatchPolicy policy = MicroBatchPolicy.batchSize(500)
+ *           .withLinger(Duration.ofMillis(5))
+ *           .withCapacity(65_536)
+ *           .withBackpressure(MicroBatchPolicy.Backpressure.DROP)
+ *           .withErrorHandler(e -&gt; log.warn("Batch dropped", e));
+ * </pre>
+ *
+ * @see BatchOperation#microBatcher(MicroBatchPolicy, ThrowingConsumer)
+ */
+public final class MicroBatchPolicy {
+
+    /**
+     * What {@link MicroBatcher#accept(Object)} does when the buffer is full.
+     */
+    public enum Backpressure {
+
+        /**
+         * Waits until the flusher frees some space.
+         */
+        BLOCK,
+
+        /**
+         * Drops the element and counts it in {@link MicroBatcherStats#droppedCount()}.
+         */
+        DROP,
+
+        /**
+         * Throws {@link java.util.concurrent.RejectedExecutionException}.
+         */
+        REJECT
+    }
+
+    /**
+     * Default error handler, failed batches are counted in {@link MicroBatcherStats#failedBatchCount()} only.
+     */
+    private static final Consumer<Throwable> COUNT_ONLY = e -> {
+    };
+
+    private final int batchSize;
+    private final long lingerNanos;
+    private final int capacity;
+    private final Backpressure backpressure;
+    private final Consumer<? super Throwable> errorHandler;
+
+    private MicroBatchPolicy(
+            int batchSize,
+            long lingerNanos,
+            int capacity,
+            Backpressure backpressure,
+            Consumer<? super Throwable> errorHandler
+    ) {
+        this.batchSize = batchSize;
+        this.lingerNanos = lingerNanos;
+        this.capacity = capacity;
+        this.backpressure = backpressure;
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Returns a policy that flushes batches of {@code batchSize} elements, or smaller ones 10 millis after
+     * the first element of a batch was accepted. The buffer holds 16 batches, but no more than {@code 65536}
+     * elements or a single batch if it is bigger, a full buffer blocks producers. The buffer is allocated
+     * upfront, a bigger one should be asked for explicitly with {@link #withCapacity(int)}.
+     * Failed batches are only counted.
+     *
+     * @param batchSize maximum number of elements in a batch
+     * @return new policy
+     * @throws IllegalArgumentException if {@code batchSize} is not positive
+     */
+    public static MicroBatchPolicy batchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size should be positive: " + batchSize);
+        }
+        int capacity = Math.max(batchSize, Math.min(batchSize, 1 << 12) << 4);
+        return new MicroBatchPolicy(batchSize, Duration.ofMillis(10).toNanos(), capacity, Backpressure.BLOCK, COUNT_ONLY);
+    }
+
+    /**
+     * Returns a copy of this policy that flushes a batch that is not full {@code linger} after
+     * it's first element was accepted.
+     *
+     * @param linger how long an element may wait for the batch to fill
+     * @return new policy
+     * @throws NullPointerException     if {@code linger} is null
+     * @throws IllegalArgumentException if {@code linger} is not positive
+     */
+    public MicroBatchPolicy withLinger(Duration linger) {
+        if (Objects.requireNonNull(linger).isNegative() || linger.isZero()) {
+            throw new IllegalArgumentException("Linger should be positive: " + linger);
+        }
+        return new MicroBatchPolicy(batchSize, linger.toNanos(), capacity, backpressure, errorHandler);
+    }
+
+    /**
+     * Returns a copy of this policy with a buffer of at least {@code capacity} accepted but not flushed elements.
+     *
+     * @param capacity minimum buffer capacity, rounded up to a power of two
+     * @return new policy
+     * @throws IllegalArgumentException if {@code capacity} is less than the batch size or greater than {@code 2^30}
+     */
+    public MicroBatchPolicy withCapacity(int capacity) {
+        if (capacity < batchSize || capacity > 1 << 30) {
+            throw new IllegalArgumentException(
+                    "Capacity should be in [" + batchSize + ", " + (1 << 30) + "]: " + capacity);
+        }
+        return new MicroBatchPolicy(batchSize, lingerNanos, capacity, backpressure, errorHandler);
+    }
+
+    /**
+     * Returns a copy of this policy with given {@code backpressure}.
+     *
+     * @param backpressure what producers do when the buffer is full
+     * @return new policy
+     * @throws NullPointerException if {@code backpressure} is null
+     */
+    public MicroBatchPolicy withBackpressure(Backpressure backpressure) {
+        return new MicroBatchPolicy(batchSize, lingerNanos, capacity, Objects.requireNonNull(backpressure), errorHandler);
+    }
+
+    /**
+     * Returns a copy of this policy that passes what the sink threw on a batch to {@code errorHandler}.
+     * It is called on the flusher thread, exceptions it throws are ignored.
+     *
+     * @param errorHandler handler of sink failures, e.g. one that logs them
+     * @return new policy
+     * @throws NullPointerException if {@code errorHandler} is null
+     */
+    public MicroBatchPolicy withErrorHandler(Consumer<? super Throwable> errorHandler) {
+        return new MicroBatchPolicy(batchSize, lingerNanos, capacity, backpressure, Objects.requireNonNull(errorHandler));
+    }
+
+    int batchSize() {
+        return batchSize;
+    }
+
+    long lingerNanos() {
+        return lingerNanos;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    Backpressure backpressure() {
+        return backpressure;
+    }
+
+    Consumer<? super Throwable> errorHandler() {
+        return errorHandler;
+    }
+
+    @Override
+    public String toString() {
+        return "MicroBatchPolicy{" +
+                "batchSize=" + batchSize +
+                ", linger=" + Duration.ofNanos(lingerNanos) +
+                ", capacity=" + capacity +
+                ", backpressure=" + backpressure +
+                '}';
+    }
+}
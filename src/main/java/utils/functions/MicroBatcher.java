@@ -0,0 +1,285 @@
+package utils.functions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe {@link ThrowingConsumer} that accumulates accepted elements and passes them in batches
+ * to a sink from a background flusher thread, like a producer of a message broker client.
+ * <p>
+ * Producers put elements into a bounded lock-free buffer, see {@link BoundedMpscQueue}, and wake the
+ * flusher only when it sleeps and there is a full batch or the buffer was empty. The flusher passes a
+ * batch once the buffer holds {@code batchSize} elements, or once it lingered for the linger time since
+ * it noticed the first element. When the buffer is full, producers block, drop the element or throw
+ * {@link RejectedExecutionException}, as {@link MicroBatchPolicy.Backpressure} says.
+ * <p>
+ * Batches are a read-only view of one reused buffer, the sink should copy a batch it keeps. When the
+ * sink throws, the batch is dropped, counted as failed and the failure is passed to the error handler of
+ * the policy, see {@link MicroBatchPolicy#withErrorHandler}, the flusher keeps running. {@link #close()} flushes the
+ * remaining elements and stops the flusher, elements accepted concurrently with it may be lost.
+ *
+ * @param <T> the type of the elements
+ * @see BatchOperation#microBatcher(MicroBatchPolicy, ThrowingConsumer)
+ */
+public final class MicroBatcher<T> implements ThrowingConsumer<T>, AutoCloseable {
+
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+    private static final int RUNNING = 0;
+    private static final int IDLE = 1;
+    private static final int LINGERING = 2;
+
+    private static final int MAX_SPINS = 100;
+    private static final long BLOCKED_PARK_NANOS = 100_000;
+
+    private final ThrowingConsumer<? super List<T>> sink;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final MicroBatchPolicy.Backpressure backpressure;
+    private final Consumer<? super Throwable> errorHandler;
+
+    private final BoundedMpscQueue<T> queue;
+    private final ArrayList<T> buffer;
+    private final List<T> batch;
+    private final Thread flusher;
+
+    /**
+     * Whether the flusher is running, {@link #IDLE} waiting for any element or {@link #LINGERING} waiting for a batch.
+     */
+    private final AtomicInteger flusherState = new AtomicInteger(RUNNING);
+    private volatile boolean closed;
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    // written by the flusher thread only
+    private volatile long batchCount;
+    private volatile long failedBatchCount;
+    private volatile long totalFlushNanos;
+    private volatile long maxFlushNanos;
+
+    private MicroBatcher(MicroBatchPolicy policy, ThrowingConsumer<? super List<T>> sink) {
+        this.sink = sink;
+        this.batchSize = policy.batchSize();
+        this.lingerNanos = policy.lingerNanos();
+        this.backpressure = policy.backpressure();
+        this.errorHandler = policy.errorHandler();
+        this.queue = new BoundedMpscQueue<>(policy.capacity());
+        this.buffer = new ArrayList<>(Math.min(batchSize, 1 << 16));
+        this.batch = Collections.unmodifiableList(buffer);
+        this.flusher = new Thread(this::runFlusher, "micro-batcher-" + THREAD_NUMBER.incrementAndGet());
+        this.flusher.setDaemon(true);
+    }
+
+    static <T> MicroBatcher<T> start(MicroBatchPolicy policy, ThrowingConsumer<? super List<T>> sink) {
+        MicroBatcher<T> batcher = new MicroBatcher<>(Objects.requireNonNull(policy), Objects.requireNonNull(sink));
+        batcher.flusher.start();
+        return batcher;
+    }
+
+    /**
+     * Adds {@code t} to the buffer to be passed to the sink in a later batch.
+     *
+     * @param t the element to add
+     * @throws NullPointerException       if {@code t} is null
+     * @throws IllegalStateException      if this batcher is closed
+     * @throws RejectedExecutionException if the buffer is full and the backpressure is
+     *                                    {@link MicroBatchPolicy.Backpressure#REJECT}
+     * @throws InterruptedException       if the thread is interrupted while blocked on a full buffer
+     */
+    @Override
+    public void acceptThrows(T t) throws InterruptedException {
+        Objects.requireNonNull(t);
+
+        if (closed) {
+            throw new IllegalStateException("Micro batcher is closed");
+        }
+
+        if (!queue.offer(t)) {
+            switch (backpressure) {
+                case DROP:
+                    droppedCount.increment();
+                    return;
+                case REJECT:
+                    throw new RejectedExecutionException("Micro batcher buffer is full");
+                default:
+                    offerBlocking(t);
+            }
+        }
+
+        int state = flusherState.get();
+        if ((state == IDLE || state == LINGERING && queue.size() >= batchSize)
+                && flusherState.compareAndSet(state, RUNNING)) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    private void offerBlocking(T t) throws InterruptedException {
+        for (int spins = 0; !queue.offer(t); spins++) {
+            if (closed) {
+                throw new IllegalStateException("Micro batcher is closed");
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+
+            int state = flusherState.get();
+            if (state != RUNNING && flusherState.compareAndSet(state, RUNNING)) {
+                LockSupport.unpark(flusher);
+            }
+
+            if (spins < MAX_SPINS) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(this, BLOCKED_PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * @return number of accepted elements that were not passed to the sink yet
+     */
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * @return snapshot of queue depth, dropped elements, batch and flush latency metrics
+     */
+    public MicroBatcherStats stats() {
+        return new MicroBatcherStats(
+                queue.size(), droppedCount.sum(), batchCount, failedBatchCount, totalFlushNanos, maxFlushNanos);
+    }
+
+    /**
+     * Stops accepting elements, waits until the flusher passes the remaining ones to the sink and stops it.
+     * If the waiting thread is interrupted, it's interrupt flag is restored and the flusher finishes on it's own.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(flusher);
+
+        if (Thread.currentThread() == flusher) {
+            return;
+        }
+
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runFlusher() {
+        boolean lingering = false;
+        long lingerStartNanos = 0;
+
+        for (; ; ) {
+            int depth = queue.size();
+
+            if (depth == 0) {
+                if (closed) {
+                    return;
+                }
+                lingering = false;
+                park(IDLE, 0);
+                continue;
+            }
+
+            long now = System.nanoTime();
+            if (!lingering) {
+                lingering = true;
+                lingerStartNanos = now;
+            }
+
+            long lingered = now - lingerStartNanos;
+
+            if (depth >= batchSize || lingered >= lingerNanos || closed) {
+                flush();
+                lingering = false;
+            } else {
+                park(LINGERING, lingerNanos - lingered);
+            }
+        }
+    }
+
+    /**
+     * Parks the flusher until a producer wakes it up, or for {@code nanos} unless it is zero.
+     * The state is published before the buffer is checked again, so a producer that added an
+     * element after the check sees the state and wakes the flusher up.
+     */
+    private void park(int state, long nanos) {
+        flusherState.set(state);
+
+        int depth = queue.size();
+        boolean ready = state == IDLE ? depth > 0 : depth >= batchSize;
+
+        if (!ready && !closed) {
+            if (nanos == 0) {
+                LockSupport.park(this);
+            } else {
+                LockSupport.parkNanos(this, nanos);
+            }
+        }
+
+        flusherState.set(RUNNING);
+    }
+
+    private void flush() {
+        for (int i = 0; i < batchSize; i++) {
+            T element = queue.poll();
+            if (element == null) {
+                break;
+            }
+            buffer.add(element);
+        }
+
+        if (buffer.isEmpty()) {
+            // claimed but not published yet
+            Thread.onSpinWait();
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+
+        try {
+            sink.acceptThrows(batch);
+        } catch (Throwable e) {
+            failedBatchCount++;
+            handleError(e);
+        } finally {
+            buffer.clear();
+
+            long flushNanos = System.nanoTime() - startNanos;
+            batchCount++;
+            totalFlushNanos += flushNanos;
+            if (flushNanos > maxFlushNanos) {
+                maxFlushNanos = flushNanos;
+            }
+        }
+    }
+
+    private void handleError(Throwable e) {
+        try {
+            errorHandler.accept(e);
+        } catch (Throwable ignored) {
+            // the flusher has to keep running
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MicroBatcher{" +
+                "flusher=" + flusher.getName() +
+                ", closed=" + closed +
+                ", stats=" + stats() +
+                '}';
+    }
+}
@@ -0,0 +1,88 @@
+package utils.functions;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of {@link MicroBatcher} metrics.
+ *
+ * @see MicroBatcher#stats()
+ */
+public final class MicroBatcherStats {
+
+    private final int queueDepth;
+    private final long droppedCount;
+    private final long batchCount;
+    private final long failedBatchCount;
+    private final long totalFlushNanos;
+    private final long maxFlushNanos;
+
+    MicroBatcherStats(
+            int queueDepth,
+            long droppedCount,
+            long batchCount,
+            long failedBatchCount,
+            long totalFlushNanos,
+            long maxFlushNanos
+    ) {
+        this.queueDepth = queueDepth;
+        this.droppedCount = droppedCount;
+        this.batchCount = batchCount;
+        this.failedBatchCount = failedBatchCount;
+        this.totalFlushNanos = totalFlushNanos;
+        this.maxFlushNanos = maxFlushNanos;
+    }
+
+    /**
+     * @return number of accepted elements that were not passed to the sink yet
+     */
+    public int queueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * @return number of elements dropped because the buffer was full
+     */
+    public long droppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * @return number of batches passed to the sink, including failed ones
+     */
+    public long batchCount() {
+        return batchCount;
+    }
+
+    /**
+     * @return number of batches the sink threw on
+     */
+    public long failedBatchCount() {
+        return failedBatchCount;
+    }
+
+    /**
+     * @return mean time the sink took per batch, zero if there were no batches
+     */
+    public Duration averageFlushLatency() {
+        return batchCount == 0 ? Duration.ZERO : Duration.ofNanos(totalFlushNanos / batchCount);
+    }
+
+    /**
+     * @return the longest time the sink took on a batch
+     */
+    public Duration maxFlushLatency() {
+        return Duration.ofNanos(maxFlushNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "MicroBatcherStats{" +
+                "queueDepth=" + queueDepth +
+                ", droppedCount=" + droppedCount +
+                ", batchCount=" + batchCount +
+                ", failedBatchCount=" + failedBatchCount +
+                ", averageFlushLatency=" + averageFlushLatency() +
+                ", maxFlushLatency=" + maxFlushLatency() +
+                '}';
+    }
+}
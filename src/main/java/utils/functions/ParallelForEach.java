@@ -0,0 +1,116 @@
+package utils.functions;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Fork/join task that calls an action with each element of a random access list.
+ * <p>
+ * The list is split by index ranges only while the current worker has few queued tasks,
+ * so the number of chunks adapts to how fast the other workers steal them: busy workers
+ * leave chunks large, idle ones steal and split them further.
+ * Every chunk checks for a failure before each element, the first failure is kept and
+ * the remaining elements are skipped, failures that happened concurrently are added to
+ * it as suppressed.
+ *
+ * @param <T> the type of the list elements
+ * @see BatchOperation#withEachParallel(java.util.concurrent.ForkJoinPool, Iterable, Consumer)
+ */
+final class ParallelForEach<T> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Split while the worker has at most that many queued tasks more than the others may steal.
+     */
+    private static final int MAX_SURPLUS = 3;
+
+    private final Shared<T> shared;
+    private final int from;
+    private final int to;
+
+    /**
+     * Next task forked by the same parent, joined after this one.
+     */
+    private final ParallelForEach<T> next;
+
+    private ParallelForEach(Shared<T> shared, int from, int to, ParallelForEach<T> next) {
+        this.shared = shared;
+        this.from = from;
+        this.to = to;
+        this.next = next;
+    }
+
+    /**
+     * @param list        random access list to call {@code action} with each element of
+     * @param action      the action
+     * @param parallelism number of workers of the pool the task is invoked in
+     * @return root task
+     */
+    static <T> ParallelForEach<T> of(List<? extends T> list, Consumer<? super T> action, int parallelism) {
+        int minChunk = Math.max(1, list.size() / (Math.max(1, parallelism) << 6));
+        return new ParallelForEach<>(new Shared<>(list, action, minChunk), 0, list.size(), null);
+    }
+
+    /**
+     * @return the first failure of an action, {@code null} if there was none
+     */
+    Throwable failure() {
+        return shared.failure.get();
+    }
+
+    @Override
+    protected void compute() {
+        int from = this.from;
+        int to = this.to;
+        ParallelForEach<T> forked = null;
+
+        while (to - from > shared.minChunk && getSurplusQueuedTaskCount() <= MAX_SURPLUS) {
+            int middle = (from + to) >>> 1;
+            forked = new ParallelForEach<>(shared, middle, to, forked);
+            forked.fork();
+            to = middle;
+        }
+
+        shared.run(from, to);
+
+        for (; forked != null; forked = forked.next) {
+            if (forked.tryUnfork()) {
+                forked.compute();
+            } else {
+                forked.join();
+            }
+        }
+    }
+
+    private static final class Shared<T> {
+
+        private final List<? extends T> list;
+        private final Consumer<? super T> action;
+        private final int minChunk;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        private Shared(List<? extends T> list, Consumer<? super T> action, int minChunk) {
+            this.list = list;
+            this.action = action;
+            this.minChunk = minChunk;
+        }
+
+        private void run(int from, int to) {
+            try {
+                for (int i = from; i < to && failure.get() == null; i++) {
+                    action.accept(list.get(i));
+                }
+            } catch (Throwable e) {
+                if (!failure.compareAndSet(null, e)) {
+                    Throwable first = failure.get();
+                    if (first != e) {
+                        first.addSuppressed(e);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package utils.functions;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Uniform in-place shuffle of an array prefix that runs on the common {@link ForkJoinPool} for large arrays.
+ * <p>
+ * A large array is shuffled in two parallel passes after Rao and Sandelius: chunks of the array scatter
+ * their elements into {@link #BUCKETS} buckets picked uniformly at random, then every bucket is shuffled
+ * with Fisher-Yates and the buckets are concatenated, which gives a uniform permutation. Every chunk and
+ * bucket gets it's own split of the random source, split in order before any task runs, so the result
+ * depends only on the source and the size, not on scheduling or the number of cores.
+ */
+final class ParallelShuffle {
+
+    /**
+     * Smaller arrays are shuffled sequentially.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private static final int BUCKETS = 256;
+    private static final int MIN_CHUNK = 1 << 14;
+    private static final int MAX_CHUNKS = 64;
+
+    private ParallelShuffle() {
+    }
+
+    /**
+     * Shuffles {@code array[0, size)} in place.
+     */
+    static void shuffle(Object[] array, int size, SplittableRandom random) {
+        if (size < PARALLEL_THRESHOLD) {
+            shuffle(array, 0, size, random);
+            return;
+        }
+
+        // not derived from the pool parallelism, so the permutation is the same on any machine
+        int chunks = Math.min(size / MIN_CHUNK, MAX_CHUNKS);
+        SplittableRandom[] chunkRandoms = splits(random, chunks);
+        SplittableRandom[] bucketRandoms = splits(random, BUCKETS);
+
+        byte[] buckets = new byte[size];
+        int[][] offsets = new int[chunks][BUCKETS];
+
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            SplittableRandom chunkRandom = chunkRandoms[chunk];
+            int[] counts = offsets[chunk];
+            for (int i = from(chunk, chunks, size), to = from(chunk + 1, chunks, size); i < to; i++) {
+                int bucket = chunkRandom.nextInt(BUCKETS);
+                buckets[i] = (byte) bucket;
+                counts[bucket]++;
+            }
+        });
+
+        // counts to offsets, bucket by bucket, so every bucket is a contiguous range
+        int[] bucketStarts = new int[BUCKETS + 1];
+        int offset = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            bucketStarts[bucket] = offset;
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int count = offsets[chunk][bucket];
+                offsets[chunk][bucket] = offset;
+                offset += count;
+            }
+        }
+        bucketStarts[BUCKETS] = offset;
+
+        Object[] scattered = new Object[size];
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int[] positions = offsets[chunk];
+            for (int i = from(chunk, chunks, size), to = from(chunk + 1, chunks, size); i < to; i++) {
+                scattered[positions[buckets[i] & 0xFF]++] = array[i];
+            }
+        });
+
+        IntStream.range(0, BUCKETS).parallel().forEach(bucket -> {
+            shuffle(scattered, bucketStarts[bucket], bucketStarts[bucket + 1], bucketRandoms[bucket]);
+            System.arraycopy(scattered, bucketStarts[bucket], array, bucketStarts[bucket],
+                    bucketStarts[bucket + 1] - bucketStarts[bucket]);
+        });
+    }
+
+    /**
+     * Fisher-Yates shuffle of {@code array[from, to)}.
+     */
+    private static void shuffle(Object[] array, int from, int to, SplittableRandom random) {
+        for (int i = to - 1; i > from; i--) {
+            int j = from + random.nextInt(i - from + 1);
+            Object swapped = array[i];
+            array[i] = array[j];
+            array[j] = swapped;
+        }
+    }
+
+    private static int from(int chunk, int chunks, int size) {
+        return (int) ((long) size * chunk / chunks);
+    }
+
+    private static SplittableRandom[] splits(SplittableRandom random, int count) {
+        SplittableRandom[] splits = new SplittableRandom[count];
+        for (int i = 0; i < count; i++) {
+            splits[i] = random.split();
+        }
+        return splits;
+    }
+}
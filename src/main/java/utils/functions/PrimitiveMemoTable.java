@@ -0,0 +1,265 @@
+package utils.functions;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Thread-safe, grow-only table of {@code long} keys (int keys are widened) to either
+ * {@code long} or reference values, used by memoizing primitive functions.
+ * <p>
+ * Keys in the optional dense range {@code [denseMin, denseMin + denseLength)} are stored
+ * directly by index in arrays, all the other keys are stored in an open-addressing
+ * hash table with linear probing. Neither keys nor values are boxed.
+ * <p>
+ * Lookups take no lock and allocate nothing: a slot state is read with acquire semantics
+ * and is published with release semantics after the key and value are written. Inserts
+ * are serialized on this table's monitor, a growing hash table is published as a new
+ * {@link Slots} instance, so a reader never sees a partially rehashed table.
+ * <p>
+ * A miss calls the function outside of any lock, so concurrent misses of the same key
+ * may call it more than once, the first stored result is kept.
+ */
+final class PrimitiveMemoTable {
+
+    private static final VarHandle STATES = MethodHandles.arrayElementVarHandle(byte[].class);
+
+    private static final byte EMPTY = 0;
+    private static final byte FULL = 1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final boolean refValues;
+    private final long denseMin;
+    private final long denseLength;
+    private final Slots dense;
+
+    private volatile Slots sparse;
+    private int sparseSize;
+
+    private PrimitiveMemoTable(boolean refValues, long denseMin, long denseLength) {
+        this.refValues = refValues;
+        this.denseMin = denseMin;
+        this.denseLength = denseLength;
+        this.dense = denseLength == 0 ? null : new Slots(null, (int) denseLength, refValues, denseMin);
+        this.sparse = new Slots(new long[INITIAL_CAPACITY], INITIAL_CAPACITY, refValues, 0);
+    }
+
+    /**
+     * @param refValues whether values are references, otherwise they are {@code long}s
+     * @return table that keeps all the keys in a hash table
+     */
+    static PrimitiveMemoTable sparse(boolean refValues) {
+        return new PrimitiveMemoTable(refValues, 0, 0);
+    }
+
+    /**
+     * @param refValues whether values are references, otherwise they are {@code long}s
+     * @param minKey    the lowest key of the dense range, inclusive
+     * @param maxKey    the highest key of the dense range, inclusive
+     * @return table that keeps keys in {@code [minKey, maxKey]} in plain arrays
+     * @throws IllegalArgumentException if {@code minKey > maxKey} or the range is too wide for an array
+     */
+    static PrimitiveMemoTable dense(boolean refValues, long minKey, long maxKey) {
+        if (minKey > maxKey) {
+            throw new IllegalArgumentException("Min key " + minKey + " should not be greater than max key " + maxKey);
+        }
+
+        long length = maxKey - minKey + 1;
+        if (length <= 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Key range [" + minKey + ", " + maxKey + "] is too wide");
+        }
+
+        return new PrimitiveMemoTable(refValues, minKey, length);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <R> ThrowingIntFunction<R> memoizeIntFunction(ThrowingIntFunction<? extends R> function, PrimitiveMemoTable table) {
+        return value -> {
+            Slots slots = table.slots(value);
+            int index = slots.indexOf(value);
+
+            if (index >= 0) {
+                return (R) slots.refs[index];
+            }
+
+            R result = function.applyThrows(value);
+            table.put(value, result);
+            return result;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    static <R> ThrowingLongFunction<R> memoizeLongFunction(ThrowingLongFunction<? extends R> function, PrimitiveMemoTable table) {
+        return value -> {
+            Slots slots = table.slots(value);
+            int index = slots.indexOf(value);
+
+            if (index >= 0) {
+                return (R) slots.refs[index];
+            }
+
+            R result = function.applyThrows(value);
+            table.put(value, result);
+            return result;
+        };
+    }
+
+    static ThrowingIntUnaryOperator memoizeIntOperator(ThrowingIntUnaryOperator operator, PrimitiveMemoTable table) {
+        return operand -> {
+            Slots slots = table.slots(operand);
+            int index = slots.indexOf(operand);
+
+            if (index >= 0) {
+                return (int) slots.longs[index];
+            }
+
+            int result = operator.applyAsIntThrows(operand);
+            table.put(operand, result);
+            return result;
+        };
+    }
+
+    static ThrowingLongUnaryOperator memoizeLongOperator(ThrowingLongUnaryOperator operator, PrimitiveMemoTable table) {
+        return operand -> {
+            Slots slots = table.slots(operand);
+            int index = slots.indexOf(operand);
+
+            if (index >= 0) {
+                return slots.longs[index];
+            }
+
+            long result = operator.applyAsLongThrows(operand);
+            table.put(operand, result);
+            return result;
+        };
+    }
+
+    /**
+     * @return slots where {@code key} may be stored
+     */
+    Slots slots(long key) {
+        return dense != null && Long.compareUnsigned(key - denseMin, denseLength) < 0 ? dense : sparse;
+    }
+
+    void put(long key, long value) {
+        put(key, value, null);
+    }
+
+    void put(long key, Object value) {
+        put(key, 0, value);
+    }
+
+    private synchronized void put(long key, long longValue, Object refValue) {
+        Slots slots = slots(key);
+
+        if (slots.indexOf(key) >= 0) {
+            return;
+        }
+
+        if (slots == dense) {
+            slots.set((int) (key - denseMin), key, longValue, refValue);
+            return;
+        }
+
+        if ((sparseSize + 1) * 4L > slots.capacity * 3L) {
+            slots = slots.grow();
+            sparse = slots;
+        }
+
+        slots.insert(key, longValue, refValue);
+        sparseSize++;
+    }
+
+    @Override
+    public String toString() {
+        return "PrimitiveMemoTable{" +
+                "refValues=" + refValues +
+                ", dense=[" + denseMin + ", " + (denseMin + denseLength) + ")" +
+                ", sparseSize=" + sparseSize +
+                '}';
+    }
+
+    static final class Slots {
+
+        /**
+         * Keys of the hash table, {@code null} for a dense range.
+         */
+        private final long[] keys;
+        private final byte[] states;
+        private final int capacity;
+        private final long offset;
+
+        final long[] longs;
+        final Object[] refs;
+
+        private Slots(long[] keys, int capacity, boolean refValues, long offset) {
+            this.keys = keys;
+            this.capacity = capacity;
+            this.offset = offset;
+            this.states = new byte[capacity];
+            this.longs = refValues ? null : new long[capacity];
+            this.refs = refValues ? new Object[capacity] : null;
+        }
+
+        /**
+         * @return index of {@code key} in {@link #longs} or {@link #refs}, negative if there is no such key
+         */
+        int indexOf(long key) {
+            if (keys == null) {
+                int index = (int) (key - offset);
+                return (byte) STATES.getAcquire(states, index) == FULL ? index : -1;
+            }
+
+            int mask = capacity - 1;
+
+            for (int index = mix(key) & mask; ; index = (index + 1) & mask) {
+                if ((byte) STATES.getAcquire(states, index) == EMPTY) {
+                    return -1;
+                }
+                if (keys[index] == key) {
+                    return index;
+                }
+            }
+        }
+
+        private void insert(long key, long longValue, Object refValue) {
+            int mask = capacity - 1;
+            int index = mix(key) & mask;
+
+            while (states[index] != EMPTY) {
+                index = (index + 1) & mask;
+            }
+
+            set(index, key, longValue, refValue);
+        }
+
+        private void set(int index, long key, long longValue, Object refValue) {
+            if (keys != null) {
+                keys[index] = key;
+            }
+            if (longs != null) {
+                longs[index] = longValue;
+            } else {
+                refs[index] = refValue;
+            }
+            STATES.setRelease(states, index, FULL);
+        }
+
+        private Slots grow() {
+            Slots grown = new Slots(new long[capacity << 1], capacity << 1, refs != null, 0);
+
+            for (int i = 0; i < capacity; i++) {
+                if (states[i] == FULL) {
+                    grown.insert(keys[i], longs == null ? 0 : longs[i], refs == null ? null : refs[i]);
+                }
+            }
+
+            return grown;
+        }
+
+        private static int mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
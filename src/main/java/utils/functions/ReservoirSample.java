@@ -0,0 +1,166 @@
+package utils.functions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Random sample of at most {@code k} elements of a stream of unknown length, the container of
+ * {@link CollectOperation#toSample(int, SplittableRandom)} and
+ * {@link CollectOperation#toWeightedSample(int, ThrowingToDoubleFunction, SplittableRandom)}.
+ * <p>
+ * Every sampled element has a random key, the sample keeps the {@code k} smallest keys in a max-heap,
+ * so merging samples of disjoint parts of a stream is exact: the {@code k} smallest keys of both.
+ * A uniform sample gives keys uniform in {@code (0, 1]} and follows Li's Algorithm L: once the heap
+ * is full, it draws how many elements to skip until one has a key below the largest kept one, so it
+ * calls the random generator {@code O(k log(n / k))} times instead of once per element. A weighted
+ * sample gives an element of weight {@code w} an exponential key with rate {@code w}, which is
+ * Efraimidis and Spirakis' weighted sampling without replacement.
+ *
+ * @param <T> the type of the elements
+ */
+final class ReservoirSample<T> {
+
+    private final int k;
+    private final SplittableRandom random;
+
+    /**
+     * Max-heap of keys, {@code items[i]} is the element of {@code keys[i]}.
+     */
+    private final double[] keys;
+    private final Object[] items;
+    private int size;
+
+    /**
+     * Number of elements passed to {@link #add(Object)}.
+     */
+    private long count;
+
+    /**
+     * Index of the next element {@link #add(Object)} takes into a full sample.
+     */
+    private long next;
+
+    /**
+     * Whether elements are added by {@link #add(Object, double)}, a weighted sample never skips.
+     */
+    private boolean weighted;
+
+    ReservoirSample(int k, SplittableRandom random) {
+        this.k = k;
+        this.random = random;
+        this.keys = new double[k];
+        this.items = new Object[k];
+        this.next = k == 0 ? Long.MAX_VALUE : 0;
+    }
+
+    /**
+     * Adds an element of a uniform sample.
+     */
+    void add(T t) {
+        if (size < k) {
+            push(uniform(), t);
+            if (size == k) {
+                skip(count);
+            }
+        } else if (count == next) {
+            // the key is uniform below the largest one, as it is known to be smaller
+            replaceTop(keys[0] * uniform(), t);
+            skip(count);
+        }
+        count++;
+    }
+
+    /**
+     * Adds an element of a weighted sample, an element of zero weight is never sampled.
+     *
+     * @throws IllegalArgumentException if {@code weight} is negative, infinite or NaN
+     */
+    void add(T t, double weight) {
+        if (!(weight >= 0 && weight < Double.POSITIVE_INFINITY)) {
+            throw new IllegalArgumentException("Weight should be finite and not negative: " + weight);
+        }
+        weighted = true;
+        if (weight > 0) {
+            offer(-Math.log(uniform()) / weight, t);
+        }
+    }
+
+    /**
+     * Draws the index of the next element to take after the element at {@code last}.
+     */
+    private void skip(long last) {
+        double skipped = Math.floor(Math.log(uniform()) / Math.log1p(-keys[0]));
+        next = skipped < Long.MAX_VALUE - last - 1 ? last + 1 + (long) skipped : Long.MAX_VALUE;
+    }
+
+    /**
+     * @return uniform random in (0, 1]
+     */
+    private double uniform() {
+        return 1.0 - random.nextDouble();
+    }
+
+    ReservoirSample<T> merge(ReservoirSample<T> other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.keys[i], other.items[i]);
+        }
+        count += other.count;
+        weighted |= other.weighted;
+        if (!weighted && size == k && k > 0) {
+            skip(count - 1);
+        }
+        return this;
+    }
+
+    private void offer(double key, Object item) {
+        if (size < k) {
+            push(key, item);
+        } else if (size > 0 && key < keys[0]) {
+            replaceTop(key, item);
+        }
+    }
+
+    private void push(double key, Object item) {
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[parent] >= key) {
+                break;
+            }
+            keys[i] = keys[parent];
+            items[i] = items[parent];
+            i = parent;
+        }
+        keys[i] = key;
+        items[i] = item;
+    }
+
+    private void replaceTop(double key, Object item) {
+        int i = 0;
+        for (int child; (child = (i << 1) + 1) < size; i = child) {
+            if (child + 1 < size && keys[child + 1] > keys[child]) {
+                child++;
+            }
+            if (keys[child] <= key) {
+                break;
+            }
+            keys[i] = keys[child];
+            items[i] = items[child];
+        }
+        keys[i] = key;
+        items[i] = item;
+    }
+
+    /**
+     * @return the sampled elements in no particular order
+     */
+    @SuppressWarnings("unchecked")
+    List<T> toList() {
+        List<T> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add((T) items[i]);
+        }
+        return list;
+    }
+}
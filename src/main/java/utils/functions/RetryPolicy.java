@@ -0,0 +1,208 @@
+package utils.functions;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * Immutable configuration of {@link TryCatch#retry(ThrowingSupplier, RetryPolicy)}: number of attempts,
+ * delays between them, which exceptions are retried and how long all the attempts may take.
+ * <pre>
+ *   RetryPolicy policy = RetryPolicy.maxAttempts(5)
+ *           .withBackoff(Duration.ofMillis(50), Duration.ofSeconds(2))
+ *           .withJitter(RetryPolicy.Jitter.FULL)
+ *           .withRetryOn(IOException.class::isInstance)
+ *           .withTimeBudget(Duration.ofSeconds(10));
+ * </pre>
+ *
+ * @see TryCatch#retry(ThrowingSupplier, RetryPolicy)
+ * @see TryCatch#retryAsync(ThrowingSupplier, RetryPolicy, java.util.concurrent.ScheduledExecutorService)
+ */
+public final class RetryPolicy {
+
+    /**
+     * How a delay between attempts is randomized, so clients that failed
+     * together do not retry together.
+     */
+    public enum Jitter {
+
+        /**
+         * Delay is the exponential backoff itself: {@code min(maxDelay, initialDelay * 2^(attempt - 1))}.
+         */
+        NONE,
+
+        /**
+         * Delay is a random value between zero and the exponential backoff.
+         */
+        FULL,
+
+        /**
+         * Delay is a random value between the initial delay and three times the
+         * previous delay, but not more than the max delay.
+         */
+        DECORRELATED
+    }
+
+    private static final Predicate<Exception> ANY_EXCEPTION = e -> true;
+
+    private final int maxAttempts;
+    private final long initialDelayNanos;
+    private final long maxDelayNanos;
+    private final Jitter jitter;
+    private final Predicate<? super Exception> retryOn;
+    private final long timeBudgetNanos;
+
+    private RetryPolicy(
+            int maxAttempts,
+            long initialDelayNanos,
+            long maxDelayNanos,
+            Jitter jitter,
+            Predicate<? super Exception> retryOn,
+            long timeBudgetNanos
+    ) {
+        this.maxAttempts = maxAttempts;
+        this.initialDelayNanos = initialDelayNanos;
+        this.maxDelayNanos = maxDelayNanos;
+        this.jitter = jitter;
+        this.retryOn = retryOn;
+        this.timeBudgetNanos = timeBudgetNanos;
+    }
+
+    /**
+     * Returns a policy that makes at most {@code maxAttempts} attempts without delays between them,
+     * retries on any exception and has no time budget.
+     *
+     * @param maxAttempts maximum number of attempts, including the first one
+     * @return new policy
+     * @throws IllegalArgumentException if {@code maxAttempts} is less than one
+     */
+    public static RetryPolicy maxAttempts(int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts should be positive: " + maxAttempts);
+        }
+        return new RetryPolicy(maxAttempts, 0, 0, Jitter.NONE, ANY_EXCEPTION, 0);
+    }
+
+    /**
+     * Returns a copy of this policy with exponential backoff: a delay before the second attempt is
+     * {@code initialDelay}, each next one is twice as long but not longer than {@code maxDelay}.
+     *
+     * @param initialDelay delay before the second attempt
+     * @param maxDelay     the longest delay
+     * @return new policy
+     * @throws NullPointerException     if {@code initialDelay} or {@code maxDelay} is null
+     * @throws IllegalArgumentException if {@code initialDelay} is negative or greater than {@code maxDelay}
+     */
+    public RetryPolicy withBackoff(Duration initialDelay, Duration maxDelay) {
+        if (Objects.requireNonNull(initialDelay).isNegative()) {
+            throw new IllegalArgumentException("Initial delay should not be negative: " + initialDelay);
+        }
+        if (Objects.requireNonNull(maxDelay).compareTo(initialDelay) < 0) {
+            throw new IllegalArgumentException(
+                    "Max delay " + maxDelay + " should not be less than initial delay " + initialDelay);
+        }
+        return new RetryPolicy(
+                maxAttempts, initialDelay.toNanos(), maxDelay.toNanos(), jitter, retryOn, timeBudgetNanos);
+    }
+
+    /**
+     * Returns a copy of this policy with given {@code jitter}.
+     *
+     * @param jitter how delays are randomized
+     * @return new policy
+     * @throws NullPointerException if {@code jitter} is null
+     */
+    public RetryPolicy withJitter(Jitter jitter) {
+        return new RetryPolicy(
+                maxAttempts, initialDelayNanos, maxDelayNanos, Objects.requireNonNull(jitter), retryOn, timeBudgetNanos);
+    }
+
+    /**
+     * Returns a copy of this policy that retries only exceptions matching {@code retryOn},
+     * any other exception is thrown at once.
+     *
+     * @param retryOn tells whether an exception should be retried, e.g. {@code IOException.class::isInstance}
+     * @return new policy
+     * @throws NullPointerException if {@code retryOn} is null
+     */
+    public RetryPolicy withRetryOn(Predicate<? super Exception> retryOn) {
+        return new RetryPolicy(
+                maxAttempts, initialDelayNanos, maxDelayNanos, jitter, Objects.requireNonNull(retryOn), timeBudgetNanos);
+    }
+
+    /**
+     * Returns a copy of this policy that gives up once the next attempt would start later than
+     * {@code timeBudget} after the first one, the last failure is thrown then.
+     *
+     * @param timeBudget how long all the attempts and delays may take
+     * @return new policy
+     * @throws NullPointerException     if {@code timeBudget} is null
+     * @throws IllegalArgumentException if {@code timeBudget} is not positive
+     */
+    public RetryPolicy withTimeBudget(Duration timeBudget) {
+        if (Objects.requireNonNull(timeBudget).isNegative() || timeBudget.isZero()) {
+            throw new IllegalArgumentException("Time budget should be positive: " + timeBudget);
+        }
+        return new RetryPolicy(
+                maxAttempts, initialDelayNanos, maxDelayNanos, jitter, retryOn, timeBudget.toNanos());
+    }
+
+    /**
+     * Decides whether to make one more attempt after {@code failure}.
+     *
+     * @param failure            the exception thrown by the last attempt
+     * @param attempt            number of the failed attempt, starting from one
+     * @param previousDelayNanos delay before the failed attempt, {@code 0} after the first one
+     * @param elapsedNanos       time since the first attempt started
+     * @return delay before the next attempt in nanos, negative to give up
+     */
+    long nextDelayNanos(Exception failure, int attempt, long previousDelayNanos, long elapsedNanos) {
+        if (attempt >= maxAttempts || !retryOn.test(failure)) {
+            return -1;
+        }
+
+        long delay = delayNanos(attempt, previousDelayNanos);
+
+        if (timeBudgetNanos != 0 && elapsedNanos > timeBudgetNanos - delay) {
+            return -1;
+        }
+
+        return delay;
+    }
+
+    private long delayNanos(int attempt, long previousDelayNanos) {
+        if (maxDelayNanos == 0) {
+            return 0;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        switch (jitter) {
+            case FULL:
+                return random.nextLong(backoffNanos(attempt) + 1);
+            case DECORRELATED:
+                long previous = Math.max(previousDelayNanos, initialDelayNanos);
+                long upper = previous > maxDelayNanos / 3 ? maxDelayNanos : previous * 3;
+                return upper <= initialDelayNanos ? initialDelayNanos : random.nextLong(initialDelayNanos, upper + 1);
+            default:
+                return backoffNanos(attempt);
+        }
+    }
+
+    private long backoffNanos(int attempt) {
+        int shift = Math.min(attempt - 1, 62);
+        return initialDelayNanos > maxDelayNanos >> shift ? maxDelayNanos : initialDelayNanos << shift;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{" +
+                "maxAttempts=" + maxAttempts +
+                ", initialDelay=" + Duration.ofNanos(initialDelayNanos) +
+                ", maxDelay=" + Duration.ofNanos(maxDelayNanos) +
+                ", jitter=" + jitter +
+                ", timeBudget=" + (timeBudgetNanos == 0 ? null : Duration.ofNanos(timeBudgetNanos)) +
+                '}';
+    }
+}
@@ -0,0 +1,344 @@
+package utils.functions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Space-Saving summary of the most frequent {@code long} keys.
+ * <p>
+ * Keeps at most {@code capacity} counters. A key with a counter increments it, a new key takes
+ * a free counter or, when all are taken, the least one, inheriting it's count as the error. So
+ * every key more frequent than {@code total / capacity} has a counter, and a counter overestimates
+ * the frequency of it's key by at most it's {@link Counter#error()}.
+ * <p>
+ * Counters are looked up in an open addressing table of {@code long} keys and the least one is
+ * the root of a min-heap, so neither adding nor looking up boxes the key. Summaries are merged
+ * after Cafaro et al.: a key missing from a full summary is counted with that summary's least
+ * count, then the {@code capacity} greatest counters are kept.
+ *
+ * @see CollectOperation#toHeavyHitters(int, ThrowingToLongFunction)
+ */
+public final class SpaceSaving {
+
+    private final int capacity;
+    private final long[] keys;
+    private final long[] counts;
+    private final long[] errors;
+    private int size;
+    private long total;
+
+    /**
+     * Min-heap of counter indexes ordered by count, and the heap position of every counter.
+     */
+    private final int[] heap;
+    private final int[] positions;
+
+    /**
+     * Linear probing table of counter indexes plus one, zero is a free slot.
+     */
+    private final int[] table;
+    private final int mask;
+
+    /**
+     * @param capacity maximum number of counters
+     * @throws IllegalArgumentException if {@code capacity} is not positive or greater than {@code 2^28}
+     */
+    public SpaceSaving(int capacity) {
+        this.capacity = checkCapacity(capacity);
+        this.keys = new long[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.table = new int[Integer.highestOneBit(capacity) << 2];
+        this.mask = table.length - 1;
+    }
+
+    static int checkCapacity(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 28) {
+            throw new IllegalArgumentException("Capacity should be in [1, " + (1 << 28) + "]: " + capacity);
+        }
+        return capacity;
+    }
+
+    public void add(long key) {
+        add(key, 1);
+    }
+
+    /**
+     * @param key   the key
+     * @param count how many times to count it
+     * @throws IllegalArgumentException if {@code count} is negative
+     */
+    public void add(long key, long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count should not be negative: " + count);
+        }
+        total += count;
+
+        int counter = find(key);
+
+        if (counter < 0 && size < capacity) {
+            // a new counter is a leaf and may be smaller than its parent
+            counter = size++;
+            keys[counter] = key;
+            counts[counter] = count;
+            errors[counter] = 0;
+            insert(key, counter);
+            siftUp(counter, counter);
+            return;
+        }
+
+        if (counter < 0) {
+            counter = heap[0];
+            remove(keys[counter]);
+            errors[counter] = counts[counter];
+            keys[counter] = key;
+            insert(key, counter);
+        }
+
+        counts[counter] += count;
+        siftDown(positions[counter]);
+    }
+
+    /**
+     * @return upper bound of the frequency of {@code key}
+     */
+    public long estimate(long key) {
+        int counter = find(key);
+        return counter >= 0 ? counts[counter] : minCount();
+    }
+
+    /**
+     * @return counters of at most {@code n} most frequent keys, from the most frequent one
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    public List<Counter> top(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Size should not be negative: " + n);
+        }
+
+        Integer[] indexes = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        Arrays.sort(indexes, (a, b) -> Long.compare(counts[b], counts[a]));
+
+        List<Counter> top = new ArrayList<>(Math.min(n, size));
+        for (int i = 0; i < Math.min(n, size); i++) {
+            int counter = indexes[i];
+            top.add(new Counter(keys[counter], counts[counter], errors[counter]));
+        }
+        return Collections.unmodifiableList(top);
+    }
+
+    /**
+     * Adds the counts of {@code other} to this summary.
+     *
+     * @return this summary
+     * @throws IllegalArgumentException if the capacities differ
+     */
+    public SpaceSaving merge(SpaceSaving other) {
+        if (other.capacity != capacity) {
+            throw new IllegalArgumentException("Capacities should be equal: " + capacity + " and " + other.capacity);
+        }
+
+        long thisMin = minCount();
+        long otherMin = other.minCount();
+
+        int merged = 0;
+        long[] mergedKeys = new long[size + other.size];
+        long[] mergedCounts = new long[mergedKeys.length];
+        long[] mergedErrors = new long[mergedKeys.length];
+
+        for (int i = 0; i < size; i++) {
+            int counter = other.find(keys[i]);
+            mergedKeys[merged] = keys[i];
+            mergedCounts[merged] = counts[i] + (counter >= 0 ? other.counts[counter] : otherMin);
+            mergedErrors[merged] = errors[i] + (counter >= 0 ? other.errors[counter] : otherMin);
+            merged++;
+        }
+        for (int i = 0; i < other.size; i++) {
+            if (find(other.keys[i]) < 0) {
+                mergedKeys[merged] = other.keys[i];
+                mergedCounts[merged] = other.counts[i] + thisMin;
+                mergedErrors[merged] = other.errors[i] + thisMin;
+                merged++;
+            }
+        }
+
+        Integer[] indexes = new Integer[merged];
+        for (int i = 0; i < merged; i++) {
+            indexes[i] = i;
+        }
+        Arrays.sort(indexes, (a, b) -> Long.compare(mergedCounts[b], mergedCounts[a]));
+
+        Arrays.fill(table, 0);
+        size = Math.min(merged, capacity);
+        for (int i = 0; i < size; i++) {
+            int index = indexes[i];
+            keys[i] = mergedKeys[index];
+            counts[i] = mergedCounts[index];
+            errors[i] = mergedErrors[index];
+            insert(keys[i], i);
+        }
+        // counters are in descending order, so the reversed order is a valid min-heap
+        for (int i = 0; i < size; i++) {
+            heap[i] = size - 1 - i;
+            positions[size - 1 - i] = i;
+        }
+        total += other.total;
+        return this;
+    }
+
+    /**
+     * @return sum of all added counts
+     */
+    public long total() {
+        return total;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the least count, or zero if there are free counters
+     */
+    private long minCount() {
+        return size < capacity ? 0 : counts[heap[0]];
+    }
+
+    private void siftUp(int position, int counter) {
+        long count = counts[counter];
+
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (counts[heap[parent]] <= count) {
+                break;
+            }
+            heap[position] = heap[parent];
+            positions[heap[position]] = position;
+            position = parent;
+        }
+        heap[position] = counter;
+        positions[counter] = position;
+    }
+
+    private void siftDown(int position) {
+        int counter = heap[position];
+        long count = counts[counter];
+
+        for (int child; (child = 2 * position + 1) < size; position = child) {
+            if (child + 1 < size && counts[heap[child + 1]] < counts[heap[child]]) {
+                child++;
+            }
+            if (count <= counts[heap[child]]) {
+                break;
+            }
+            heap[position] = heap[child];
+            positions[heap[position]] = position;
+        }
+        heap[position] = counter;
+        positions[counter] = position;
+    }
+
+    private int find(long key) {
+        for (int slot = (int) Hashes.mix(key) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int counter = table[slot] - 1;
+            if (keys[counter] == key) {
+                return counter;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(long key, int counter) {
+        int slot = (int) Hashes.mix(key) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = counter + 1;
+    }
+
+    /**
+     * Removes {@code key} and shifts back the keys after it that would not be found otherwise.
+     */
+    private void remove(long key) {
+        int slot = (int) Hashes.mix(key) & mask;
+        while (keys[table[slot] - 1] != key) {
+            slot = (slot + 1) & mask;
+        }
+
+        for (int next = (slot + 1) & mask; table[next] != 0; next = (next + 1) & mask) {
+            int home = (int) Hashes.mix(keys[table[next] - 1]) & mask;
+            // move the entry at next unless it's home is cyclically in (slot, next]
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                table[slot] = table[next];
+                slot = next;
+            }
+        }
+        table[slot] = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "SpaceSaving{" +
+                "capacity=" + capacity +
+                ", size=" + size +
+                ", total=" + total +
+                '}';
+    }
+
+    /**
+     * Counter of a key: it's estimated frequency and the most it may be overestimated by.
+     */
+    public static final class Counter {
+
+        private final long key;
+        private final long count;
+        private final long error;
+
+        Counter(long key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+
+        public long key() {
+            return key;
+        }
+
+        /**
+         * @return upper bound of the frequency of the key
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * @return the most {@link #count()} exceeds the frequency of the key by
+         */
+        public long error() {
+            return error;
+        }
+
+        /**
+         * @return lower bound of the frequency of the key
+         */
+        public long guaranteedCount() {
+            return count - error;
+        }
+
+        @Override
+        public String toString() {
+            return "Counter{" +
+                    "key=" + key +
+                    ", count=" + count +
+                    ", error=" + error +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package utils.functions;
+
+/**
+ * Unchecked exception that does not fill in a stack trace, for expected failures handled
+ * right away, e.g. a cache miss or a parse error turned into a fallback value with
+ * {@link TryCatch#tryCatchFallback(ThrowingSupplier, ThrowingFunction)}.
+ * <p>
+ * Filling in a stack trace walks the whole thread stack and usually costs far more than
+ * the rest of creating, throwing and catching an exception, so it dominates fallback-heavy
+ * paths. Subclass it to tell such failures apart. Suppressed exceptions are still recorded,
+ * so a failed fallback is not lost. Do not use it for failures somebody has to debug.
+ * <pre>
+ *   int port = TryCatch.tryCatchFallback(() -&gt; parsePort(value), e -&gt; DEFAULT_PORT);
+ *
+ *   int parsePort(String value) {
+ *       if (value == null || value.isEmpty()) {
+ *           throw new StacklessException("No port");
+ *       }
+ *       ...
+ *   }
+ * </pre>
+ */
+public class StacklessException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public StacklessException() {
+        this(null, null);
+    }
+
+    public StacklessException(String message) {
+        this(message, null);
+    }
+
+    public StacklessException(Throwable cause) {
+        this(cause == null ? null : cause.toString(), cause);
+    }
+
+    public StacklessException(String message, Throwable cause) {
+        super(message, cause, true, false);
+    }
+}
@@ -10,15 +10,94 @@ import java.util.stream.StreamSupport;
 public class Streams {
 
     public static <T> Stream<T> toStream(Iterable<T> iterable) {
-        return toStream(Objects.requireNonNull(iterable).spliterator());
+        return toStream(iterable, false);
+    }
+
+    /**
+     * @param parallel whether the stream is parallel
+     * @see #toStream(Spliterator, boolean)
+     */
+    public static <T> Stream<T> toStream(Iterable<T> iterable, boolean parallel) {
+        return toStream(Objects.requireNonNull(iterable).spliterator(), parallel);
     }
 
     public static <T> Stream<T> toStream(Spliterator<T> spliterator) {
-        return StreamSupport.stream(Objects.requireNonNull(spliterator), false);
+        return toStream(spliterator, false);
+    }
+
+    /**
+     * @param parallel whether the stream is parallel
+     */
+    public static <T> Stream<T> toStream(Spliterator<T> spliterator, boolean parallel) {
+        return StreamSupport.stream(Objects.requireNonNull(spliterator), parallel);
     }
 
     public static <T> Stream<T> toStream(Iterator<T> iterator) {
         return toStream(Spliterators.spliteratorUnknownSize(iterator, 0));
     }
 
+    /**
+     * Sequential stream of an {@link Iterator} of unknown size.
+     *
+     * @param characteristics {@link Spliterator} characteristics of the source, e.g.
+     *                        {@code Spliterator.ORDERED | Spliterator.NONNULL}
+     * @see #toStream(Iterator, long, int)
+     */
+    public static <T> Stream<T> toStream(Iterator<T> iterator, int characteristics) {
+        return toStream(Spliterators.spliteratorUnknownSize(Objects.requireNonNull(iterator), characteristics));
+    }
+
+    /**
+     * Sequential stream of an {@link Iterator} of {@code size} elements, {@code SIZED} and {@code SUBSIZED} are added
+     * to the {@code characteristics}, so {@code toArray} and {@code count} need no resizing or iteration.
+     *
+     * @param size            exact number of elements of the iterator
+     * @param characteristics {@link Spliterator} characteristics of the source, e.g.
+     *                        {@code Spliterator.ORDERED | Spliterator.IMMUTABLE}
+     * @throws IllegalArgumentException if {@code size} is negative
+     * @see #toParallelStream(Iterator, long, int, int)
+     */
+    public static <T> Stream<T> toStream(Iterator<T> iterator, long size, int characteristics) {
+        checkSize(size);
+        return toStream(Spliterators.spliterator(Objects.requireNonNull(iterator), size, characteristics));
+    }
+
+    /**
+     * Parallel stream of an {@link Iterator} of unknown size. Other threads get batches of {@code batchSize} elements
+     * copied from the iterator, use a small batch size for expensive elements and a large one for cheap elements.
+     *
+     * @param characteristics {@link Spliterator} characteristics of the source
+     * @param batchSize       number of elements copied from the iterator for another thread
+     * @throws IllegalArgumentException if {@code batchSize} is not positive
+     * @see #toParallelStream(Iterator, long, int, int)
+     */
+    public static <T> Stream<T> toParallelStream(Iterator<T> iterator, int characteristics, int batchSize) {
+        return toParallelStream(iterator, Long.MAX_VALUE, characteristics, batchSize);
+    }
+
+    /**
+     * Parallel stream of an {@link Iterator} of {@code size} elements. Other threads get batches of {@code batchSize}
+     * elements copied from the iterator, {@code SIZED} and {@code SUBSIZED} are added to the {@code characteristics}.
+     *
+     * @param size            exact number of elements of the iterator
+     * @param characteristics {@link Spliterator} characteristics of the source
+     * @param batchSize       number of elements copied from the iterator for another thread
+     * @throws IllegalArgumentException if {@code size} is negative or {@code batchSize} is not positive
+     * @see #toParallelStream(Iterator, int, int)
+     */
+    public static <T> Stream<T> toParallelStream(Iterator<T> iterator, long size, int characteristics, int batchSize) {
+        checkSize(size);
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size should be positive: " + batchSize);
+        }
+        return toStream(new BatchIteratorSpliterator<>(
+                Objects.requireNonNull(iterator), size, characteristics, batchSize), true);
+    }
+
+    private static void checkSize(long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size should not be negative: " + size);
+        }
+    }
+
 }
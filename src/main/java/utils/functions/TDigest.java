@@ -0,0 +1,217 @@
+package utils.functions;
+
+import java.util.Arrays;
+
+/**
+ * Merging t-digest of {@code double} values, after Ted Dunning, for estimating quantiles.
+ * <p>
+ * Values are buffered and, once the buffer is full, merged with the sorted centroids. Adjacent
+ * centroids are combined while their quantile range spans at most one unit of the scale function
+ * {@code k(q) = compression / (2 pi) * asin(2q - 1)}, so centroids near the tails stay small and
+ * extreme quantiles stay accurate. A digest keeps about {@code compression} centroids, no matter
+ * how many values are added. Digests are merged by merging their centroids.
+ *
+ * @see CollectOperation#toTDigest(double, ThrowingToDoubleFunction)
+ */
+public final class TDigest {
+
+    private final double compression;
+
+    private double[] means;
+    private double[] weights;
+    private int centroids;
+    private double totalWeight;
+
+    private final double[] buffer;
+    private int buffered;
+
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * @param compression accuracy, 100 is typical, the digest keeps about that many centroids
+     * @throws IllegalArgumentException if {@code compression} is less than 10 or greater than {@code 10^6}
+     */
+    public TDigest(double compression) {
+        this.compression = checkCompression(compression);
+        int capacity = (int) Math.ceil(compression) * 2 + 10;
+        this.means = new double[capacity];
+        this.weights = new double[capacity];
+        this.buffer = new double[capacity * 4];
+    }
+
+    static double checkCompression(double compression) {
+        if (!(compression >= 10 && compression <= 1e6)) {
+            throw new IllegalArgumentException("Compression should be in [10, 1000000]: " + compression);
+        }
+        return compression;
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code value} is NaN
+     */
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("Value should not be NaN");
+        }
+        if (buffered == buffer.length) {
+            compress();
+        }
+        buffer[buffered++] = value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds the values of {@code other} to this digest.
+     *
+     * @return this digest
+     */
+    public TDigest merge(TDigest other) {
+        other.compress();
+        compress();
+
+        if (other.centroids > 0) {
+            merge(other.means, other.weights, other.centroids);
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+        return this;
+    }
+
+    /**
+     * @param q the quantile, from 0 to 1
+     * @return estimated value of quantile {@code q}, NaN if the digest is empty
+     * @throws IllegalArgumentException if {@code q} is out of range
+     */
+    public double quantile(double q) {
+        if (!(q >= 0 && q <= 1)) {
+            throw new IllegalArgumentException("Quantile should be in [0, 1]: " + q);
+        }
+        compress();
+
+        if (centroids == 0) {
+            return Double.NaN;
+        }
+        if (centroids == 1 || q == 0) {
+            return q == 0 ? min : q == 1 ? max : means[0];
+        }
+
+        double index = q * totalWeight;
+        double center = weights[0] / 2;
+
+        if (index < center) {
+            return min + (means[0] - min) * index / center;
+        }
+        for (int i = 0; i < centroids - 1; i++) {
+            double next = center + (weights[i] + weights[i + 1]) / 2;
+            if (index <= next) {
+                return means[i] + (means[i + 1] - means[i]) * (index - center) / (next - center);
+            }
+            center = next;
+        }
+
+        int last = centroids - 1;
+        return means[last] + (max - means[last]) * Math.min(1, (index - center) / (totalWeight - center));
+    }
+
+    /**
+     * @return number of added values
+     */
+    public long count() {
+        return Math.round(totalWeight) + buffered;
+    }
+
+    /**
+     * @return the least added value, positive infinity if the digest is empty
+     */
+    public double min() {
+        return min;
+    }
+
+    /**
+     * @return the greatest added value, negative infinity if the digest is empty
+     */
+    public double max() {
+        return max;
+    }
+
+    /**
+     * Merges the buffered values into the centroids.
+     */
+    private void compress() {
+        if (buffered == 0) {
+            return;
+        }
+        Arrays.sort(buffer, 0, buffered);
+
+        double[] ones = new double[buffered];
+        Arrays.fill(ones, 1);
+        int count = buffered;
+        buffered = 0;
+        merge(buffer, ones, count);
+    }
+
+    /**
+     * Merges {@code count} centroids, sorted by mean, into the centroids of this digest.
+     */
+    private void merge(double[] otherMeans, double[] otherWeights, int count) {
+        double total = totalWeight;
+        for (int i = 0; i < count; i++) {
+            total += otherWeights[i];
+        }
+
+        double[] mergedMeans = new double[means.length];
+        double[] mergedWeights = new double[weights.length];
+        int merged = -1;
+        double before = 0;
+        double kLeft = 0;
+
+        for (int i = 0, j = 0; i < centroids || j < count; ) {
+            double mean;
+            double weight;
+            if (j == count || i < centroids && means[i] <= otherMeans[j]) {
+                mean = means[i];
+                weight = weights[i++];
+            } else {
+                mean = otherMeans[j];
+                weight = otherWeights[j++];
+            }
+
+            if (merged >= 0 && scale((before + mergedWeights[merged] + weight) / total) - kLeft <= 1) {
+                mergedWeights[merged] += weight;
+                mergedMeans[merged] += (mean - mergedMeans[merged]) * weight / mergedWeights[merged];
+            } else {
+                if (merged >= 0) {
+                    before += mergedWeights[merged];
+                }
+                if (++merged == mergedMeans.length) {
+                    mergedMeans = Arrays.copyOf(mergedMeans, merged * 2);
+                    mergedWeights = Arrays.copyOf(mergedWeights, merged * 2);
+                }
+                kLeft = scale(before / total);
+                mergedMeans[merged] = mean;
+                mergedWeights[merged] = weight;
+            }
+        }
+
+        means = mergedMeans;
+        weights = mergedWeights;
+        centroids = merged + 1;
+        totalWeight = total;
+    }
+
+    private double scale(double q) {
+        return compression / (2 * Math.PI) * Math.asin(2 * Math.min(1, q) - 1);
+    }
+
+    @Override
+    public String toString() {
+        return "TDigest{" +
+                "compression=" + compression +
+                ", count=" + count() +
+                ", min=" + min +
+                ", max=" + max +
+                '}';
+    }
+}
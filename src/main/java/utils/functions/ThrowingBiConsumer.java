@@ -143,6 +143,29 @@ public interface ThrowingBiConsumer<T, U> extends BiConsumer<T, U> {
         return wrap((BiConsumer<T, U>) before).andThen(this);
     }
 
+    /**
+     * Returns a {@link ThrowingBiConsumer} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingBiConsumer}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingBiConsumer<T, U> instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return (t, u) -> {
+            long start = System.nanoTime();
+            try {
+                acceptThrows(t, u);
+                probe.success(System.nanoTime() - start);
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingBiConsumer}.
      *
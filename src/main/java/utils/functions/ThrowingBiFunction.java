@@ -115,6 +115,30 @@ public interface ThrowingBiFunction<T, U, R> extends BiFunction<T, U, R> {
         return (T t, U u) -> after.apply(apply(t, u));
     }
 
+    /**
+     * Returns a {@link ThrowingBiFunction} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingBiFunction}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingBiFunction<T, U, R> instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return (t, u) -> {
+            long start = System.nanoTime();
+            try {
+                R result = applyThrows(t, u);
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingBiFunction}.
      *
@@ -85,12 +85,19 @@ public interface ThrowingBiPredicate<T, U> extends BiPredicate<T, U> {
      * @param other a predicate that will be logically-ANDed with this
      *              predicate
      * @return a composed predicate that represents the short-circuiting logical
-     * AND of this predicate and the {@code other} predicate
+     * AND of this predicate and the {@code other} predicate, {@code this} if {@code other} is an
+     * {@link AlwaysTrueBiPredicate}, an {@link AlwaysFalseBiPredicate} without testing this one if it is that
      * @throws NullPointerException if other is null
      */
     @Override
     default ThrowingBiPredicate<T, U> and(BiPredicate<? super T, ? super U> other) {
         Objects.requireNonNull(other);
+        if (other instanceof AlwaysTrueBiPredicate) {
+            return this;
+        }
+        if (other instanceof AlwaysFalseBiPredicate) {
+            return AlwaysFalseBiPredicate.instance();
+        }
         return (T t, U u) -> test(t, u) && other.test(t, u);
     }
 
@@ -119,12 +126,19 @@ public interface ThrowingBiPredicate<T, U> extends BiPredicate<T, U> {
      * @param other a predicate that will be logically-ORed with this
      *              predicate
      * @return a composed predicate that represents the short-circuiting logical
-     * OR of this predicate and the {@code other} predicate
+     * OR of this predicate and the {@code other} predicate, {@code this} if {@code other} is an
+     * {@link AlwaysFalseBiPredicate}, an {@link AlwaysTrueBiPredicate} without testing this one if it is that
      * @throws NullPointerException if other is null
      */
     @Override
     default ThrowingBiPredicate<T, U> or(BiPredicate<? super T, ? super U> other) {
         Objects.requireNonNull(other);
+        if (other instanceof AlwaysFalseBiPredicate) {
+            return this;
+        }
+        if (other instanceof AlwaysTrueBiPredicate) {
+            return AlwaysTrueBiPredicate.instance();
+        }
         return (T t, U u) -> test(t, u) || other.test(t, u);
     }
 
@@ -168,6 +182,30 @@ public interface ThrowingBiPredicate<T, U> extends BiPredicate<T, U> {
         return or(other);
     }
 
+    /**
+     * Returns a {@link ThrowingBiPredicate} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingBiPredicate}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingBiPredicate<T, U> instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return (t, u) -> {
+            long start = System.nanoTime();
+            try {
+                boolean result = testThrowing(t, u);
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingBiPredicate}.
      *
@@ -101,6 +101,30 @@ public interface ThrowingBinaryOperator<T> extends BinaryOperator<T>, ThrowingBi
         }
     }
 
+    /**
+     * Returns a {@link ThrowingBinaryOperator} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingBinaryOperator}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingBinaryOperator<T> instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return (t1, t2) -> {
+            long start = System.nanoTime();
+            try {
+                T result = applyThrows(t1, t2);
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingBinaryOperator}.
      *
@@ -64,6 +64,30 @@ public interface ThrowingBooleanSupplier extends BooleanSupplier {
         }
     }
 
+    /**
+     * Returns a {@link ThrowingBooleanSupplier} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingBooleanSupplier}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingBooleanSupplier instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                boolean result = getAsBooleanThrowing();
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingBooleanSupplier}.
      *
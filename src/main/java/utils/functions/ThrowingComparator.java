@@ -0,0 +1,120 @@
+package utils.functions;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * {@link Comparator} that can throw checked {@link Exception}.
+ *
+ * <p>This is a functional interface whose functional method
+ * is {@link #compareThrows(Object, Object)}.
+ *
+ * @param <T> the type of objects that may be compared by this comparator
+ * @see Comparator
+ */
+@FunctionalInterface
+public interface ThrowingComparator<T> extends Comparator<T> {
+
+    /**
+     * Unwrap {@link ThrowingComparator}.
+     *
+     * @param comparator the one to be unwrapped
+     * @return unwrapped {@link Comparator}
+     */
+    @SuppressWarnings("unchecked")
+    static <T1> Comparator<T1> unthrow(ThrowingComparator<? super T1> comparator) {
+        return (ThrowingComparator<T1>) comparator;
+    }
+
+    /**
+     * Wrap input {@code comparator} as a throwing one.
+     *
+     * @param comparator the one to be wrapped
+     * @return wrapped {@link ThrowingComparator}
+     * @throws NullPointerException if {@code comparator} is null
+     */
+    static <T1> ThrowingComparator<T1> wrap(Comparator<? super T1> comparator) {
+        return Objects.requireNonNull(comparator)::compare;
+    }
+
+    /**
+     * Use it when you don't want to cast lambda by yourself.
+     *
+     * @param comparator the one to map and return
+     * @return the same comparator
+     */
+    @SuppressWarnings("unchecked")
+    static <T1> ThrowingComparator<T1> map(ThrowingComparator<? super T1> comparator) {
+        return (ThrowingComparator<T1>) comparator;
+    }
+
+    /**
+     * Returns a comparator that compares by a key extracted with a function that may throw.
+     *
+     * @param keyExtractor the function to extract the key with
+     * @return comparator by the extracted key
+     * @throws NullPointerException if {@code keyExtractor} is null
+     * @see Comparator#comparing(java.util.function.Function)
+     */
+    static <T1, U extends Comparable<? super U>> ThrowingComparator<T1> comparing(
+            ThrowingFunction<? super T1, ? extends U> keyExtractor
+    ) {
+        Objects.requireNonNull(keyExtractor);
+        return (a, b) -> keyExtractor.applyThrowing(a).compareTo(keyExtractor.applyThrowing(b));
+    }
+
+
+    /**
+     * Compares its two arguments for order,
+     * may throw checked {@link Exception}.
+     *
+     * @param o1 the first object to be compared
+     * @param o2 the second object to be compared
+     * @return a negative integer, zero, or a positive integer as the first argument
+     * is less than, equal to, or greater than the second
+     */
+    int compareThrows(T o1, T o2) throws Exception;
+
+
+    @Override
+    default int compare(T o1, T o2) {
+        try {
+            return compareThrows(o1, o2);
+        } catch (Exception e) {//noinspection RedundantTypeArguments
+            throw Functions.<RuntimeException>sneakyThrow(e);
+        }
+    }
+
+    /**
+     * Returns a {@link ThrowingComparator} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingComparator}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingComparator<T> instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return (o1, o2) -> {
+            long start = System.nanoTime();
+            try {
+                int result = compareThrows(o1, o2);
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * Unwrap this {@link ThrowingComparator}.
+     *
+     * @return this unwrapped {@link Comparator}
+     */
+    default Comparator<T> unthrow() {
+        return this;
+    }
+}
@@ -141,6 +141,29 @@ public interface ThrowingConsumer<T> extends Consumer<T> {
         return Objects.requireNonNull((ThrowingConsumer<T>) before).andThen(this);
     }
 
+    /**
+     * Returns a {@link ThrowingConsumer} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingConsumer}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingConsumer<T> instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return t -> {
+            long start = System.nanoTime();
+            try {
+                acceptThrows(t);
+                probe.success(System.nanoTime() - start);
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingConsumer}.
      *
@@ -102,6 +102,29 @@ public interface ThrowingDoubleConsumer extends DoubleConsumer {
         return andThen(after);
     }
 
+    /**
+     * Returns a {@link ThrowingDoubleConsumer} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingDoubleConsumer}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingDoubleConsumer instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return value -> {
+            long start = System.nanoTime();
+            try {
+                acceptThrows(value);
+                probe.success(System.nanoTime() - start);
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingDoubleConsumer}.
      *
@@ -69,6 +69,30 @@ public interface ThrowingDoubleFunction<R> extends DoubleFunction<R> {
         }
     }
 
+    /**
+     * Returns a {@link ThrowingDoubleFunction} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingDoubleFunction}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingDoubleFunction<R> instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return value -> {
+            long start = System.nanoTime();
+            try {
+                R result = applyThrows(value);
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingDoubleFunction}.
      *
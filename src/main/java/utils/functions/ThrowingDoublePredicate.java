@@ -67,6 +67,84 @@ public interface ThrowingDoublePredicate extends DoublePredicate {
         }
     }
 
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical
+     * AND of this predicate and another, see {@link DoublePredicate#and(DoublePredicate)}.
+     * Constant operands are folded: {@link AlwaysTrueDoublePredicate} is dropped
+     * and {@link AlwaysFalseDoublePredicate} is returned, this predicate is not tested then.
+     *
+     * @param other a predicate that will be logically-ANDed with this predicate
+     * @return the composed predicate
+     * @throws NullPointerException if other is null
+     */
+    @Override
+    default ThrowingDoublePredicate and(DoublePredicate other) {
+        Objects.requireNonNull(other);
+        if (other instanceof AlwaysTrueDoublePredicate) {
+            return this;
+        }
+        if (other instanceof AlwaysFalseDoublePredicate) {
+            return AlwaysFalseDoublePredicate.instance();
+        }
+        return value -> testThrows(value) && other.test(value);
+    }
+
+    /**
+     * Returns a predicate that represents the logical negation of this predicate.
+     *
+     * @return the negated predicate
+     */
+    @Override
+    default ThrowingDoublePredicate negate() {
+        return value -> !testThrows(value);
+    }
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical
+     * OR of this predicate and another, see {@link DoublePredicate#or(DoublePredicate)}.
+     * Constant operands are folded: {@link AlwaysFalseDoublePredicate} is dropped
+     * and {@link AlwaysTrueDoublePredicate} is returned, this predicate is not tested then.
+     *
+     * @param other a predicate that will be logically-ORed with this predicate
+     * @return the composed predicate
+     * @throws NullPointerException if other is null
+     */
+    @Override
+    default ThrowingDoublePredicate or(DoublePredicate other) {
+        Objects.requireNonNull(other);
+        if (other instanceof AlwaysFalseDoublePredicate) {
+            return this;
+        }
+        if (other instanceof AlwaysTrueDoublePredicate) {
+            return AlwaysTrueDoublePredicate.instance();
+        }
+        return value -> testThrows(value) || other.test(value);
+    }
+
+    /**
+     * Returns a {@link ThrowingDoublePredicate} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingDoublePredicate}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingDoublePredicate instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return value -> {
+            long start = System.nanoTime();
+            try {
+                boolean result = testThrows(value);
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingDoublePredicate}.
      *
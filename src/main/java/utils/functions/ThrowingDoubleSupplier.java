@@ -65,6 +65,30 @@ public interface ThrowingDoubleSupplier extends DoubleSupplier {
         }
     }
 
+    /**
+     * Returns a {@link ThrowingDoubleSupplier} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingDoubleSupplier}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingDoubleSupplier instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                double result = getAsDoubleThrows();
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingDoubleSupplier}.
      *
@@ -66,6 +66,30 @@ public interface ThrowingDoubleToIntFunction extends DoubleToIntFunction {
         }
     }
 
+    /**
+     * Returns a {@link ThrowingDoubleToIntFunction} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingDoubleToIntFunction}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingDoubleToIntFunction instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return value -> {
+            long start = System.nanoTime();
+            try {
+                int result = applyAsIntThrows(value);
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingDoubleToIntFunction}.
      *
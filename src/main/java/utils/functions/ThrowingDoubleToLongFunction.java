@@ -67,6 +67,30 @@ public interface ThrowingDoubleToLongFunction extends DoubleToLongFunction {
         }
     }
 
+    /**
+     * Returns a {@link ThrowingDoubleToLongFunction} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingDoubleToLongFunction}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingDoubleToLongFunction instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return value -> {
+            long start = System.nanoTime();
+            try {
+                long result = applyAsLongThrows(value);
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingDoubleToLongFunction}.
      *
@@ -151,6 +151,30 @@ public interface ThrowingDoubleUnaryOperator extends DoubleUnaryOperator {
         return andThen(after);
     }
 
+    /**
+     * Returns a {@link ThrowingDoubleUnaryOperator} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingDoubleUnaryOperator}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingDoubleUnaryOperator instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return operand -> {
+            long start = System.nanoTime();
+            try {
+                double result = applyAsDoubleThrows(operand);
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingDoubleUnaryOperator}.
      *
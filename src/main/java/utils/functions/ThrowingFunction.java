@@ -50,6 +50,32 @@ public interface ThrowingFunction<T, R> extends Function<T, R> {
         return (ThrowingFunction<T1, U1>) function;
     }
 
+    /**
+     * Starts an empty {@link FunctionPipeline}, a builder of a function
+     * that applies all it's stages in a single loop.
+     * <p>
+     * Use it instead of long {@link #andThen(Function)} chains.
+     *
+     * @return empty pipeline
+     * @see #pipeline(ThrowingFunction)
+     */
+    static <T1> FunctionPipeline<T1, T1> pipeline() {
+        return FunctionPipeline.empty();
+    }
+
+    /**
+     * Starts a {@link FunctionPipeline} with {@code first} stage, a builder
+     * of a function that applies all it's stages in a single loop.
+     *
+     * @param first the first stage of the pipeline
+     * @return pipeline with {@code first} stage
+     * @throws NullPointerException if {@code first} is null
+     * @see #pipeline()
+     */
+    static <T1, R1> FunctionPipeline<T1, R1> pipeline(ThrowingFunction<? super T1, ? extends R1> first) {
+        return FunctionPipeline.<T1>empty().then(first);
+    }
+
 
     /**
      * Applies this function to the given argument,
@@ -154,6 +180,72 @@ public interface ThrowingFunction<T, R> extends Function<T, R> {
         return (T t) -> after.apply(apply(t));
     }
 
+    /**
+     * Returns a function that caches results of this one, keeping
+     * at most {@code maximumSize} least recently used of them.
+     *
+     * @param maximumSize maximum number of cached results
+     * @return caching function
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive
+     * @see #cached(CachePolicy)
+     */
+    default CachingFunction<T, R> cached(long maximumSize) {
+        return cached(CachePolicy.maximumSize(maximumSize));
+    }
+
+    /**
+     * Returns a function that caches results of this one according
+     * to the {@code policy}. Use it for pure functions only.
+     * <p>
+     * Concurrent calls with the same missing argument call this function
+     * once, the others wait for it's result. Thrown exceptions are not cached.
+     *
+     * @param policy maximum size, eviction and expiration of the cache
+     * @return caching function
+     * @throws NullPointerException if {@code policy} is null
+     * @see #cached(long)
+     */
+    default CachingFunction<T, R> cached(CachePolicy policy) {
+        return new CachingFunction<>(this, Objects.requireNonNull(policy));
+    }
+
+    /**
+     * Returns a function that calls this one only while {@code circuitBreaker}
+     * permits it, and throws {@link CallNotPermittedException} otherwise.
+     *
+     * @param circuitBreaker the breaker to record outcomes of calls to
+     * @return protected function
+     * @throws NullPointerException if {@code circuitBreaker} is null
+     * @see CircuitBreaker#decorate(ThrowingFunction)
+     */
+    default ThrowingFunction<T, R> withCircuitBreaker(CircuitBreaker circuitBreaker) {
+        return circuitBreaker.decorate(this);
+    }
+
+    /**
+     * Returns a {@link ThrowingFunction} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingFunction}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingFunction<T, R> instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return t -> {
+            long start = System.nanoTime();
+            try {
+                R result = applyThrowing(t);
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingFunction}.
      *
@@ -67,6 +67,30 @@ public interface ThrowingIntBinaryOperator extends IntBinaryOperator {
         }
     }
 
+    /**
+     * Returns a {@link ThrowingIntBinaryOperator} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingIntBinaryOperator}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingIntBinaryOperator instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return (left, right) -> {
+            long start = System.nanoTime();
+            try {
+                int result = applyAsIntThrows(left, right);
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingIntBinaryOperator}.
      *
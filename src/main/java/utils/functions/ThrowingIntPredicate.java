@@ -67,6 +67,84 @@ public interface ThrowingIntPredicate extends IntPredicate {
         }
     }
 
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical
+     * AND of this predicate and another, see {@link IntPredicate#and(IntPredicate)}.
+     * Constant operands are folded: {@link AlwaysTrueIntPredicate} is dropped
+     * and {@link AlwaysFalseIntPredicate} is returned, this predicate is not tested then.
+     *
+     * @param other a predicate that will be logically-ANDed with this predicate
+     * @return the composed predicate
+     * @throws NullPointerException if other is null
+     */
+    @Override
+    default ThrowingIntPredicate and(IntPredicate other) {
+        Objects.requireNonNull(other);
+        if (other instanceof AlwaysTrueIntPredicate) {
+            return this;
+        }
+        if (other instanceof AlwaysFalseIntPredicate) {
+            return AlwaysFalseIntPredicate.instance();
+        }
+        return value -> testThrows(value) && other.test(value);
+    }
+
+    /**
+     * Returns a predicate that represents the logical negation of this predicate.
+     *
+     * @return the negated predicate
+     */
+    @Override
+    default ThrowingIntPredicate negate() {
+        return value -> !testThrows(value);
+    }
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical
+     * OR of this predicate and another, see {@link IntPredicate#or(IntPredicate)}.
+     * Constant operands are folded: {@link AlwaysFalseIntPredicate} is dropped
+     * and {@link AlwaysTrueIntPredicate} is returned, this predicate is not tested then.
+     *
+     * @param other a predicate that will be logically-ORed with this predicate
+     * @return the composed predicate
+     * @throws NullPointerException if other is null
+     */
+    @Override
+    default ThrowingIntPredicate or(IntPredicate other) {
+        Objects.requireNonNull(other);
+        if (other instanceof AlwaysFalseIntPredicate) {
+            return this;
+        }
+        if (other instanceof AlwaysTrueIntPredicate) {
+            return AlwaysTrueIntPredicate.instance();
+        }
+        return value -> testThrows(value) || other.test(value);
+    }
+
+    /**
+     * Returns a {@link ThrowingIntPredicate} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingIntPredicate}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingIntPredicate instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return value -> {
+            long start = System.nanoTime();
+            try {
+                boolean result = testThrows(value);
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingIntPredicate}.
      *
@@ -64,6 +64,30 @@ public interface ThrowingIntSupplier extends IntSupplier {
         }
     }
 
+    /**
+     * Returns a {@link ThrowingIntSupplier} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingIntSupplier}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingIntSupplier instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                int result = getAsIntThrows();
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingIntSupplier}.
      *
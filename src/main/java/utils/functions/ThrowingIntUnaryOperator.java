@@ -151,6 +151,63 @@ public interface ThrowingIntUnaryOperator extends IntUnaryOperator {
         return andThen(after);
     }
 
+    /**
+     * Returns {@link ThrowingIntUnaryOperator} that remembers results of this one
+     * for every argument it was called with. Use it for pure functions only.
+     * <p>
+     * Results are kept in a primitive-keyed open-addressing table, arguments are
+     * never boxed and a call with a remembered argument allocates nothing and
+     * takes no lock. Thrown exceptions are not remembered.
+     *
+     * @return memoizing {@link ThrowingIntUnaryOperator}
+     * @see #memoize(int, int)
+     */
+    default ThrowingIntUnaryOperator memoize() {
+        return PrimitiveMemoTable.memoizeIntOperator(this, PrimitiveMemoTable.sparse(false));
+    }
+
+    /**
+     * Returns {@link ThrowingIntUnaryOperator} that remembers results of this one
+     * for every argument it was called with. Use it for pure functions only.
+     * <p>
+     * Results for arguments in {@code [minKey, maxKey]} are kept in plain arrays
+     * indexed by argument, so it fits small known ranges best. Results for other
+     * arguments are kept as in {@link #memoize()}. Thrown exceptions are not remembered.
+     *
+     * @param minKey the lowest argument of the dense range, inclusive
+     * @param maxKey the highest argument of the dense range, inclusive
+     * @return memoizing {@link ThrowingIntUnaryOperator}
+     * @throws IllegalArgumentException if {@code minKey > maxKey} or the range is too wide for an array
+     * @see #memoize()
+     */
+    default ThrowingIntUnaryOperator memoize(int minKey, int maxKey) {
+        return PrimitiveMemoTable.memoizeIntOperator(this, PrimitiveMemoTable.dense(false, minKey, maxKey));
+    }
+
+    /**
+     * Returns a {@link ThrowingIntUnaryOperator} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingIntUnaryOperator}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingIntUnaryOperator instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return operand -> {
+            long start = System.nanoTime();
+            try {
+                int result = applyAsIntThrows(operand);
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingIntUnaryOperator}.
      *
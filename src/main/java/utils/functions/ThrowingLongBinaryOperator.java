@@ -68,6 +68,30 @@ public interface ThrowingLongBinaryOperator extends LongBinaryOperator {
         }
     }
 
+    /**
+     * Returns a {@link ThrowingLongBinaryOperator} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingLongBinaryOperator}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingLongBinaryOperator instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return (left, right) -> {
+            long start = System.nanoTime();
+            try {
+                long result = applyAsLongThrows(left, right);
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingLongBinaryOperator}.
      *
@@ -69,6 +69,63 @@ public interface ThrowingLongFunction<R> extends LongFunction<R> {
         }
     }
 
+    /**
+     * Returns {@link ThrowingLongFunction} that remembers results of this one
+     * for every argument it was called with. Use it for pure functions only.
+     * <p>
+     * Results are kept in a primitive-keyed open-addressing table, arguments are
+     * never boxed and a call with a remembered argument allocates nothing and
+     * takes no lock. Thrown exceptions are not remembered.
+     *
+     * @return memoizing {@link ThrowingLongFunction}
+     * @see #memoize(long, long)
+     */
+    default ThrowingLongFunction<R> memoize() {
+        return PrimitiveMemoTable.memoizeLongFunction(this, PrimitiveMemoTable.sparse(true));
+    }
+
+    /**
+     * Returns {@link ThrowingLongFunction} that remembers results of this one
+     * for every argument it was called with. Use it for pure functions only.
+     * <p>
+     * Results for arguments in {@code [minKey, maxKey]} are kept in plain arrays
+     * indexed by argument, so it fits small known ranges best. Results for other
+     * arguments are kept as in {@link #memoize()}. Thrown exceptions are not remembered.
+     *
+     * @param minKey the lowest argument of the dense range, inclusive
+     * @param maxKey the highest argument of the dense range, inclusive
+     * @return memoizing {@link ThrowingLongFunction}
+     * @throws IllegalArgumentException if {@code minKey > maxKey} or the range is too wide for an array
+     * @see #memoize()
+     */
+    default ThrowingLongFunction<R> memoize(long minKey, long maxKey) {
+        return PrimitiveMemoTable.memoizeLongFunction(this, PrimitiveMemoTable.dense(true, minKey, maxKey));
+    }
+
+    /**
+     * Returns a {@link ThrowingLongFunction} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingLongFunction}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingLongFunction<R> instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return value -> {
+            long start = System.nanoTime();
+            try {
+                R result = applyThrows(value);
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingLongFunction}.
      *
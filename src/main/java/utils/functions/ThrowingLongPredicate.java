@@ -67,6 +67,84 @@ public interface ThrowingLongPredicate extends LongPredicate {
         }
     }
 
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical
+     * AND of this predicate and another, see {@link LongPredicate#and(LongPredicate)}.
+     * Constant operands are folded: {@link AlwaysTrueLongPredicate} is dropped
+     * and {@link AlwaysFalseLongPredicate} is returned, this predicate is not tested then.
+     *
+     * @param other a predicate that will be logically-ANDed with this predicate
+     * @return the composed predicate
+     * @throws NullPointerException if other is null
+     */
+    @Override
+    default ThrowingLongPredicate and(LongPredicate other) {
+        Objects.requireNonNull(other);
+        if (other instanceof AlwaysTrueLongPredicate) {
+            return this;
+        }
+        if (other instanceof AlwaysFalseLongPredicate) {
+            return AlwaysFalseLongPredicate.instance();
+        }
+        return value -> testThrows(value) && other.test(value);
+    }
+
+    /**
+     * Returns a predicate that represents the logical negation of this predicate.
+     *
+     * @return the negated predicate
+     */
+    @Override
+    default ThrowingLongPredicate negate() {
+        return value -> !testThrows(value);
+    }
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical
+     * OR of this predicate and another, see {@link LongPredicate#or(LongPredicate)}.
+     * Constant operands are folded: {@link AlwaysFalseLongPredicate} is dropped
+     * and {@link AlwaysTrueLongPredicate} is returned, this predicate is not tested then.
+     *
+     * @param other a predicate that will be logically-ORed with this predicate
+     * @return the composed predicate
+     * @throws NullPointerException if other is null
+     */
+    @Override
+    default ThrowingLongPredicate or(LongPredicate other) {
+        Objects.requireNonNull(other);
+        if (other instanceof AlwaysFalseLongPredicate) {
+            return this;
+        }
+        if (other instanceof AlwaysTrueLongPredicate) {
+            return AlwaysTrueLongPredicate.instance();
+        }
+        return value -> testThrows(value) || other.test(value);
+    }
+
+    /**
+     * Returns a {@link ThrowingLongPredicate} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingLongPredicate}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingLongPredicate instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return value -> {
+            long start = System.nanoTime();
+            try {
+                boolean result = testThrows(value);
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingLongPredicate}.
      *
@@ -64,6 +64,30 @@ public interface ThrowingLongSupplier extends LongSupplier {
         }
     }
 
+    /**
+     * Returns a {@link ThrowingLongSupplier} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingLongSupplier}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingLongSupplier instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                long result = getAsLongThrows();
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingLongSupplier}.
      *
@@ -151,6 +151,63 @@ public interface ThrowingLongUnaryOperator extends LongUnaryOperator {
         return andThen(after);
     }
 
+    /**
+     * Returns {@link ThrowingLongUnaryOperator} that remembers results of this one
+     * for every argument it was called with. Use it for pure functions only.
+     * <p>
+     * Results are kept in a primitive-keyed open-addressing table, arguments are
+     * never boxed and a call with a remembered argument allocates nothing and
+     * takes no lock. Thrown exceptions are not remembered.
+     *
+     * @return memoizing {@link ThrowingLongUnaryOperator}
+     * @see #memoize(long, long)
+     */
+    default ThrowingLongUnaryOperator memoize() {
+        return PrimitiveMemoTable.memoizeLongOperator(this, PrimitiveMemoTable.sparse(false));
+    }
+
+    /**
+     * Returns {@link ThrowingLongUnaryOperator} that remembers results of this one
+     * for every argument it was called with. Use it for pure functions only.
+     * <p>
+     * Results for arguments in {@code [minKey, maxKey]} are kept in plain arrays
+     * indexed by argument, so it fits small known ranges best. Results for other
+     * arguments are kept as in {@link #memoize()}. Thrown exceptions are not remembered.
+     *
+     * @param minKey the lowest argument of the dense range, inclusive
+     * @param maxKey the highest argument of the dense range, inclusive
+     * @return memoizing {@link ThrowingLongUnaryOperator}
+     * @throws IllegalArgumentException if {@code minKey > maxKey} or the range is too wide for an array
+     * @see #memoize()
+     */
+    default ThrowingLongUnaryOperator memoize(long minKey, long maxKey) {
+        return PrimitiveMemoTable.memoizeLongOperator(this, PrimitiveMemoTable.dense(false, minKey, maxKey));
+    }
+
+    /**
+     * Returns a {@link ThrowingLongUnaryOperator} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingLongUnaryOperator}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingLongUnaryOperator instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return operand -> {
+            long start = System.nanoTime();
+            try {
+                long result = applyAsLongThrows(operand);
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingLongUnaryOperator}.
      *
@@ -70,6 +70,29 @@ public interface ThrowingObjDoubleConsumer<T> extends ObjDoubleConsumer<T> {
         }
     }
 
+    /**
+     * Returns a {@link ThrowingObjDoubleConsumer} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingObjDoubleConsumer}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingObjDoubleConsumer<T> instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return (t, value) -> {
+            long start = System.nanoTime();
+            try {
+                acceptThrows(t, value);
+                probe.success(System.nanoTime() - start);
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingObjDoubleConsumer}.
      *
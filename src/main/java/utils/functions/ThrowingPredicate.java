@@ -1,5 +1,7 @@
 package utils.functions;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.function.Predicate;
 
@@ -80,6 +82,129 @@ public interface ThrowingPredicate<T> extends Predicate<T> {
     }
 
 
+    /**
+     * Returns a predicate that represents a short-circuiting logical AND of the
+     * {@code predicates}, tested in the given order in a flat loop. Nested
+     * {@code allOf} predicates are flattened, {@link AlwaysTruePredicate}s are
+     * dropped and an {@link AlwaysFalsePredicate} makes the result always false.
+     *
+     * @param predicates the predicates to combine, none means always true
+     * @return the combined predicate
+     * @throws NullPointerException if {@code predicates} or any of them is null
+     * @see #allOf(Collection)
+     * @see #anyOf(ThrowingPredicate[])
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs") // the array is only read, it is not stored or exposed
+    static <T> ThrowingPredicate<T> allOf(ThrowingPredicate<? super T>... predicates) {
+        return CompositePredicate.<T>of(true, Arrays.asList(Objects.requireNonNull(predicates)));
+    }
+
+    /**
+     * Returns a predicate that represents a short-circuiting logical AND of the {@code predicates}.
+     *
+     * @param predicates the predicates to combine in iteration order, none means always true
+     * @return the combined predicate
+     * @throws NullPointerException if {@code predicates} or any of them is null
+     * @see #allOf(ThrowingPredicate[])
+     */
+    static <T> ThrowingPredicate<T> allOf(Collection<? extends ThrowingPredicate<? super T>> predicates) {
+        return CompositePredicate.<T>of(true, Objects.requireNonNull(predicates));
+    }
+
+    /**
+     * Returns a predicate that represents a short-circuiting logical OR of the
+     * {@code predicates}, tested in the given order in a flat loop. Nested
+     * {@code anyOf} predicates are flattened, {@link AlwaysFalsePredicate}s are
+     * dropped and an {@link AlwaysTruePredicate} makes the result always true.
+     *
+     * @param predicates the predicates to combine, none means always false
+     * @return the combined predicate
+     * @throws NullPointerException if {@code predicates} or any of them is null
+     * @see #anyOf(Collection)
+     * @see #allOf(ThrowingPredicate[])
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs") // the array is only read, it is not stored or exposed
+    static <T> ThrowingPredicate<T> anyOf(ThrowingPredicate<? super T>... predicates) {
+        return CompositePredicate.<T>of(false, Arrays.asList(Objects.requireNonNull(predicates)));
+    }
+
+    /**
+     * Returns a predicate that represents a short-circuiting logical OR of the {@code predicates}.
+     *
+     * @param predicates the predicates to combine in iteration order, none means always false
+     * @return the combined predicate
+     * @throws NullPointerException if {@code predicates} or any of them is null
+     * @see #anyOf(ThrowingPredicate[])
+     */
+    static <T> ThrowingPredicate<T> anyOf(Collection<? extends ThrowingPredicate<? super T>> predicates) {
+        return CompositePredicate.<T>of(false, Objects.requireNonNull(predicates));
+    }
+
+    /**
+     * Returns a predicate that represents a short-circuiting logical AND of the {@code predicates}
+     * and tests them in the order that is the cheapest for the observed inputs, see {@link #allOf(ThrowingPredicate[])}
+     * for flattening and folding. A sample of calls measures how long each predicate takes and how often
+     * it passes, the predicates are reordered from time to time without locks, so the cheap and selective
+     * ones are tested first.
+     * <p>
+     * The result is the same as of {@code allOf} only if the predicates are pure and do not rely on each other,
+     * e.g. a null check should not guard another predicate.
+     *
+     * @param predicates the predicates to combine, none means always true
+     * @return the combined predicate
+     * @throws NullPointerException if {@code predicates} or any of them is null
+     * @see #adaptiveAllOf(Collection)
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs") // the array is only read, it is not stored or exposed
+    static <T> ThrowingPredicate<T> adaptiveAllOf(ThrowingPredicate<? super T>... predicates) {
+        return AdaptivePredicate.<T>of(true, Arrays.asList(Objects.requireNonNull(predicates)));
+    }
+
+    /**
+     * Returns a predicate that represents a short-circuiting logical AND of the {@code predicates}
+     * and tests them in the order that is the cheapest for the observed inputs.
+     *
+     * @param predicates the predicates to combine, none means always true
+     * @return the combined predicate
+     * @throws NullPointerException if {@code predicates} or any of them is null
+     * @see #adaptiveAllOf(ThrowingPredicate[])
+     */
+    static <T> ThrowingPredicate<T> adaptiveAllOf(Collection<? extends ThrowingPredicate<? super T>> predicates) {
+        return AdaptivePredicate.<T>of(true, Objects.requireNonNull(predicates));
+    }
+
+    /**
+     * Returns a predicate that represents a short-circuiting logical OR of the {@code predicates}
+     * and tests them in the order that is the cheapest for the observed inputs, see {@link #anyOf(ThrowingPredicate[])}
+     * for flattening and folding and {@link #adaptiveAllOf(ThrowingPredicate[])} for the reordering.
+     *
+     * @param predicates the predicates to combine, none means always false
+     * @return the combined predicate
+     * @throws NullPointerException if {@code predicates} or any of them is null
+     * @see #adaptiveAnyOf(Collection)
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs") // the array is only read, it is not stored or exposed
+    static <T> ThrowingPredicate<T> adaptiveAnyOf(ThrowingPredicate<? super T>... predicates) {
+        return AdaptivePredicate.<T>of(false, Arrays.asList(Objects.requireNonNull(predicates)));
+    }
+
+    /**
+     * Returns a predicate that represents a short-circuiting logical OR of the {@code predicates}
+     * and tests them in the order that is the cheapest for the observed inputs.
+     *
+     * @param predicates the predicates to combine, none means always false
+     * @return the combined predicate
+     * @throws NullPointerException if {@code predicates} or any of them is null
+     * @see #adaptiveAnyOf(ThrowingPredicate[])
+     */
+    static <T> ThrowingPredicate<T> adaptiveAnyOf(Collection<? extends ThrowingPredicate<? super T>> predicates) {
+        return AdaptivePredicate.<T>of(false, Objects.requireNonNull(predicates));
+    }
+
     /**
      * Evaluates this predicate on the given argument,
      * may throw checked {@link Exception}.
@@ -100,6 +225,30 @@ public interface ThrowingPredicate<T> extends Predicate<T> {
         }
     }
 
+    /**
+     * Returns a {@link ThrowingPredicate} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingPredicate}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingPredicate<T> instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return t -> {
+            long start = System.nanoTime();
+            try {
+                boolean result = testThrowing(t);
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingPredicate}.
      *
@@ -124,10 +273,23 @@ public interface ThrowingPredicate<T> extends Predicate<T> {
      * @return a composed predicate that represents the short-circuiting logical
      * AND of this predicate and the {@code other} predicate
      * @throws NullPointerException if other is null
+     * @see #allOf(ThrowingPredicate[]) to combine many predicates into a flat loop, chained {@code and} calls
+     * are not flattened, so building a chain stays linear
      */
     @Override
+    @SuppressWarnings("unchecked")
     default ThrowingPredicate<T> and(Predicate<? super T> other) {
         Objects.requireNonNull(other);
+
+        if (this instanceof AlwaysFalsePredicate || other instanceof AlwaysTruePredicate) {
+            return this;
+        }
+        if (other instanceof AlwaysFalsePredicate) {
+            return (ThrowingPredicate<T>) other;
+        }
+        if (this instanceof AlwaysTruePredicate) {
+            return other instanceof ThrowingPredicate ? (ThrowingPredicate<T>) other : wrap(other);
+        }
         return (t) -> test(t) && other.test(t);
     }
 
@@ -178,10 +340,23 @@ public interface ThrowingPredicate<T> extends Predicate<T> {
      * @return a composed predicate that represents the short-circuiting logical
      * OR of this predicate and the {@code other} predicate
      * @throws NullPointerException if other is null
+     * @see #anyOf(ThrowingPredicate[]) to combine many predicates into a flat loop, chained {@code or} calls
+     * are not flattened, so building a chain stays linear
      */
     @Override
+    @SuppressWarnings("unchecked")
     default ThrowingPredicate<T> or(Predicate<? super T> other) {
         Objects.requireNonNull(other);
+
+        if (this instanceof AlwaysTruePredicate || other instanceof AlwaysFalsePredicate) {
+            return this;
+        }
+        if (other instanceof AlwaysTruePredicate) {
+            return (ThrowingPredicate<T>) other;
+        }
+        if (this instanceof AlwaysFalsePredicate) {
+            return other instanceof ThrowingPredicate ? (ThrowingPredicate<T>) other : wrap(other);
+        }
         return (t) -> test(t) || other.test(t);
     }
 
@@ -2,10 +2,10 @@ package utils.functions;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Arrays;
 import java.util.Iterator;
-import java.util.Objects;
 import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 /**
@@ -45,6 +45,8 @@ public interface ThrowingRunnable extends Runnable {
      * Returns merged {@link ThrowingRunnable} that is a
      * sequence of calls of each {@link ThrowingRunnable}
      * in {@code mergeUs}.
+     * <p>
+     * Tasks are run in a loop, already merged ones are flattened.
      *
      * @param mergeUs an array of tasks
      * @return merged {@link ThrowingRunnable} that is a
@@ -62,13 +64,15 @@ public interface ThrowingRunnable extends Runnable {
      * @see #throwingMerge(Spliterator)
      */
     static ThrowingRunnable throwingMerge(ThrowingRunnable... mergeUs) {
-        return throwingMerge(Stream.of(requireNonNull(mergeUs, "Array should not be null!")));
+        return MergedRunnable.of(requireNonNull(mergeUs, "Array should not be null!"));
     }
 
     /**
      * Returns merged {@link ThrowingRunnable} that is a
      * sequence of calls of each {@link ThrowingRunnable}
      * in {@code mergeUs}.
+     * <p>
+     * Tasks are run in a loop, already merged ones are flattened.
      *
      * @param mergeUs a stream of tasks
      * @return merged {@link ThrowingRunnable} that is a
@@ -87,9 +91,7 @@ public interface ThrowingRunnable extends Runnable {
      * @see #throwingMerge(Spliterator)
      */
     static ThrowingRunnable throwingMerge(Stream<ThrowingRunnable> mergeUs) {
-        return requireNonNull(mergeUs, "Stream should not be null!")
-                .map(Objects::requireNonNull)
-                .reduce(empty(), ThrowingRunnable::andThen);
+        return MergedRunnable.of(requireNonNull(mergeUs, "Stream should not be null!"));
     }
 
     /**
@@ -135,6 +137,8 @@ public interface ThrowingRunnable extends Runnable {
     /**
      * Returns merged {@link ThrowingRunnable} that is a
      * sequence of calls of each {@link Runnable} in {@code mergeUs}.
+     * <p>
+     * Tasks are run in a loop, already merged ones are flattened.
      *
      * @param mergeUs an array of tasks
      * @return merged {@link ThrowingRunnable} that is a
@@ -151,12 +155,14 @@ public interface ThrowingRunnable extends Runnable {
      * @see #throwingMerge(Spliterator)
      */
     static ThrowingRunnable merge(Runnable... mergeUs) {
-        return merge(Arrays.stream(requireNonNull(mergeUs, "Array should not be null!")));
+        return MergedRunnable.of(requireNonNull(mergeUs, "Array should not be null!"));
     }
 
     /**
      * Returns merged {@link ThrowingRunnable} that is a
      * sequence of calls of each {@link Runnable} in {@code mergeUs}.
+     * <p>
+     * Tasks are run in a loop, already merged ones are flattened.
      *
      * @param mergeUs a stream of tasks
      * @return merged {@link ThrowingRunnable} that is a
@@ -173,7 +179,7 @@ public interface ThrowingRunnable extends Runnable {
      * @see #throwingMerge(Spliterator)
      */
     static ThrowingRunnable merge(Stream<Runnable> mergeUs) {
-        return throwingMerge(requireNonNull(mergeUs, "Stream should not be null!").map(ThrowingRunnable::wrap));
+        return MergedRunnable.of(requireNonNull(mergeUs, "Stream should not be null!"));
     }
 
     /**
@@ -191,6 +197,8 @@ public interface ThrowingRunnable extends Runnable {
     /**
      * Returns merged {@link ThrowingRunnable} that is a
      * sequence of calls of each {@link Runnable} in {@code mergeUs}.
+     * <p>
+     * Tasks are run in a loop, already merged ones are flattened.
      *
      * @param mergeUs an iterable of tasks
      * @return merged {@link ThrowingRunnable} that is a
@@ -207,13 +215,15 @@ public interface ThrowingRunnable extends Runnable {
      * @see #throwingMerge(Spliterator)
      */
     static ThrowingRunnable merge(Iterable<Runnable> mergeUs) {
-        return merge(Streams.toStream(mergeUs));
+        return MergedRunnable.of(requireNonNull(mergeUs, "Iterable should not be null!"));
     }
 
     /**
      * Returns merged {@link ThrowingRunnable} that is a
      * sequence of calls of each {@link ThrowingRunnable}
      * in {@code mergeUs}.
+     * <p>
+     * Tasks are run in a loop, already merged ones are flattened.
      *
      * @param mergeUs an iterable of tasks
      * @return merged {@link ThrowingRunnable} that is a
@@ -232,12 +242,14 @@ public interface ThrowingRunnable extends Runnable {
      * @see #throwingMerge(Spliterator)
      */
     static ThrowingRunnable throwingMerge(Iterable<ThrowingRunnable> mergeUs) {
-        return throwingMerge(Streams.toStream(mergeUs));
+        return MergedRunnable.of(requireNonNull(mergeUs, "Iterable should not be null!"));
     }
 
     /**
      * Returns merged {@link ThrowingRunnable} that is a
      * sequence of calls of each {@link Runnable} in {@code mergeUs}.
+     * <p>
+     * Tasks are run in a loop, already merged ones are flattened.
      *
      * @param mergeUs an iterator of tasks
      * @return merged {@link ThrowingRunnable} that is a
@@ -254,13 +266,15 @@ public interface ThrowingRunnable extends Runnable {
      * @see #throwingMerge(Spliterator)
      */
     static ThrowingRunnable merge(Iterator<Runnable> mergeUs) {
-        return merge(Streams.toStream(mergeUs));
+        return MergedRunnable.of(requireNonNull(mergeUs, "Iterator should not be null!"));
     }
 
     /**
      * Returns merged {@link ThrowingRunnable} that is a
      * sequence of calls of each {@link ThrowingRunnable}
      * in {@code mergeUs}.
+     * <p>
+     * Tasks are run in a loop, already merged ones are flattened.
      *
      * @param mergeUs an iterator of tasks
      * @return merged {@link ThrowingRunnable} that is a
@@ -279,12 +293,14 @@ public interface ThrowingRunnable extends Runnable {
      * @see #throwingMerge(Spliterator)
      */
     static ThrowingRunnable throwingMerge(Iterator<ThrowingRunnable> mergeUs) {
-        return throwingMerge(Streams.toStream(mergeUs));
+        return MergedRunnable.of(requireNonNull(mergeUs, "Iterator should not be null!"));
     }
 
     /**
      * Returns merged {@link ThrowingRunnable} that is a
      * sequence of calls of each {@link Runnable} in {@code mergeUs}.
+     * <p>
+     * Tasks are run in a loop, already merged ones are flattened.
      *
      * @param mergeUs a spliterator of tasks
      * @return merged {@link ThrowingRunnable} that is a
@@ -301,13 +317,15 @@ public interface ThrowingRunnable extends Runnable {
      * @see #throwingMerge(Spliterator)
      */
     static ThrowingRunnable merge(Spliterator<Runnable> mergeUs) {
-        return merge(Streams.toStream(mergeUs));
+        return MergedRunnable.of(requireNonNull(mergeUs, "Spliterator should not be null!"));
     }
 
     /**
      * Returns merged {@link ThrowingRunnable} that is a
      * sequence of calls of each {@link ThrowingRunnable}
      * in {@code mergeUs}.
+     * <p>
+     * Tasks are run in a loop, already merged ones are flattened.
      *
      * @param mergeUs a spliterator of tasks
      * @return merged {@link ThrowingRunnable} that is a
@@ -326,7 +344,223 @@ public interface ThrowingRunnable extends Runnable {
      * @see #throwingMerge(Iterable)
      */
     static ThrowingRunnable throwingMerge(Spliterator<ThrowingRunnable> mergeUs) {
-        return throwingMerge(Streams.toStream(mergeUs));
+        return MergedRunnable.of(requireNonNull(mergeUs, "Spliterator should not be null!"));
+    }
+
+    /**
+     * Returns merged {@link ThrowingRunnable} that runs each
+     * {@link Runnable} in {@code mergeUs} in the {@link ForkJoinPool#commonPool() common pool} and
+     * waits for all of them to complete.
+     * <p>
+     * If any task fails, the failure of the first failed one in
+     * {@code mergeUs} order is rethrown, failures of the others
+     * are added to it as suppressed.
+     *
+     * @param mergeUs an array of tasks
+     * @return merged {@link ThrowingRunnable} that runs each
+     * {@link Runnable} in {@code mergeUs} in parallel
+     * @throws NullPointerException if {@code mergeUs} or any it's element is null
+     * @see #mergeParallel(Iterable)
+     * @see #mergeParallel(Executor, Runnable...)
+     * @see #mergeParallel(Executor, Iterable)
+     * @see #throwingMergeParallel(ThrowingRunnable...)
+     * @see #throwingMergeParallel(Iterable)
+     * @see #throwingMergeParallel(Executor, ThrowingRunnable...)
+     * @see #throwingMergeParallel(Executor, Iterable)
+     */
+    static ThrowingRunnable mergeParallel(Runnable... mergeUs) {
+        return MergedRunnable.of(requireNonNull(mergeUs, "Array should not be null!"), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns merged {@link ThrowingRunnable} that runs each
+     * {@link Runnable} in {@code mergeUs} in the {@link ForkJoinPool#commonPool() common pool} and
+     * waits for all of them to complete.
+     * <p>
+     * If any task fails, the failure of the first failed one in
+     * {@code mergeUs} order is rethrown, failures of the others
+     * are added to it as suppressed.
+     *
+     * @param mergeUs an iterable of tasks
+     * @return merged {@link ThrowingRunnable} that runs each
+     * {@link Runnable} in {@code mergeUs} in parallel
+     * @throws NullPointerException if {@code mergeUs} or any it's element is null
+     * @see #mergeParallel(Runnable...)
+     * @see #mergeParallel(Executor, Runnable...)
+     * @see #mergeParallel(Executor, Iterable)
+     * @see #throwingMergeParallel(ThrowingRunnable...)
+     * @see #throwingMergeParallel(Iterable)
+     * @see #throwingMergeParallel(Executor, ThrowingRunnable...)
+     * @see #throwingMergeParallel(Executor, Iterable)
+     */
+    static ThrowingRunnable mergeParallel(Iterable<Runnable> mergeUs) {
+        return MergedRunnable.of(requireNonNull(mergeUs, "Iterable should not be null!"), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns merged {@link ThrowingRunnable} that runs each
+     * {@link ThrowingRunnable} in {@code mergeUs} in the {@link ForkJoinPool#commonPool() common pool} and
+     * waits for all of them to complete.
+     * <p>
+     * If any task fails, the failure of the first failed one in
+     * {@code mergeUs} order is rethrown, failures of the others
+     * are added to it as suppressed.
+     *
+     * @param mergeUs an array of tasks
+     * @return merged {@link ThrowingRunnable} that runs each
+     * {@link ThrowingRunnable} in {@code mergeUs} in parallel
+     * @throws NullPointerException if {@code mergeUs} or any it's element is null
+     * @see #mergeParallel(Runnable...)
+     * @see #mergeParallel(Iterable)
+     * @see #mergeParallel(Executor, Runnable...)
+     * @see #mergeParallel(Executor, Iterable)
+     * @see #throwingMergeParallel(Iterable)
+     * @see #throwingMergeParallel(Executor, ThrowingRunnable...)
+     * @see #throwingMergeParallel(Executor, Iterable)
+     */
+    static ThrowingRunnable throwingMergeParallel(ThrowingRunnable... mergeUs) {
+        return MergedRunnable.of(requireNonNull(mergeUs, "Array should not be null!"), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns merged {@link ThrowingRunnable} that runs each
+     * {@link ThrowingRunnable} in {@code mergeUs} in the {@link ForkJoinPool#commonPool() common pool} and
+     * waits for all of them to complete.
+     * <p>
+     * If any task fails, the failure of the first failed one in
+     * {@code mergeUs} order is rethrown, failures of the others
+     * are added to it as suppressed.
+     *
+     * @param mergeUs an iterable of tasks
+     * @return merged {@link ThrowingRunnable} that runs each
+     * {@link ThrowingRunnable} in {@code mergeUs} in parallel
+     * @throws NullPointerException if {@code mergeUs} or any it's element is null
+     * @see #mergeParallel(Runnable...)
+     * @see #mergeParallel(Iterable)
+     * @see #mergeParallel(Executor, Runnable...)
+     * @see #mergeParallel(Executor, Iterable)
+     * @see #throwingMergeParallel(ThrowingRunnable...)
+     * @see #throwingMergeParallel(Executor, ThrowingRunnable...)
+     * @see #throwingMergeParallel(Executor, Iterable)
+     */
+    static ThrowingRunnable throwingMergeParallel(Iterable<ThrowingRunnable> mergeUs) {
+        return MergedRunnable.of(requireNonNull(mergeUs, "Iterable should not be null!"), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns merged {@link ThrowingRunnable} that runs each
+     * {@link Runnable} in {@code mergeUs} in {@code executor} and
+     * waits for all of them to complete.
+     * <p>
+     * If any task fails, the failure of the first failed one in
+     * {@code mergeUs} order is rethrown, failures of the others
+     * are added to it as suppressed.
+     * <p>
+     * Pass {@code Executors.newVirtualThreadPerTaskExecutor()} on Java 21+
+     * to run each task in it's own virtual thread.
+     *
+     * @param executor executor to run tasks in
+     * @param mergeUs an array of tasks
+     * @return merged {@link ThrowingRunnable} that runs each
+     * {@link Runnable} in {@code mergeUs} in parallel
+     * @throws NullPointerException if {@code executor}, {@code mergeUs} or any it's element is null
+     * @see #mergeParallel(Runnable...)
+     * @see #mergeParallel(Iterable)
+     * @see #mergeParallel(Executor, Iterable)
+     * @see #throwingMergeParallel(ThrowingRunnable...)
+     * @see #throwingMergeParallel(Iterable)
+     * @see #throwingMergeParallel(Executor, ThrowingRunnable...)
+     * @see #throwingMergeParallel(Executor, Iterable)
+     */
+    static ThrowingRunnable mergeParallel(Executor executor, Runnable... mergeUs) {
+        return MergedRunnable.of(requireNonNull(mergeUs, "Array should not be null!"), requireNonNull(executor, "Executor should not be null!"));
+    }
+
+    /**
+     * Returns merged {@link ThrowingRunnable} that runs each
+     * {@link Runnable} in {@code mergeUs} in {@code executor} and
+     * waits for all of them to complete.
+     * <p>
+     * If any task fails, the failure of the first failed one in
+     * {@code mergeUs} order is rethrown, failures of the others
+     * are added to it as suppressed.
+     * <p>
+     * Pass {@code Executors.newVirtualThreadPerTaskExecutor()} on Java 21+
+     * to run each task in it's own virtual thread.
+     *
+     * @param executor executor to run tasks in
+     * @param mergeUs an iterable of tasks
+     * @return merged {@link ThrowingRunnable} that runs each
+     * {@link Runnable} in {@code mergeUs} in parallel
+     * @throws NullPointerException if {@code executor}, {@code mergeUs} or any it's element is null
+     * @see #mergeParallel(Runnable...)
+     * @see #mergeParallel(Iterable)
+     * @see #mergeParallel(Executor, Runnable...)
+     * @see #throwingMergeParallel(ThrowingRunnable...)
+     * @see #throwingMergeParallel(Iterable)
+     * @see #throwingMergeParallel(Executor, ThrowingRunnable...)
+     * @see #throwingMergeParallel(Executor, Iterable)
+     */
+    static ThrowingRunnable mergeParallel(Executor executor, Iterable<Runnable> mergeUs) {
+        return MergedRunnable.of(requireNonNull(mergeUs, "Iterable should not be null!"), requireNonNull(executor, "Executor should not be null!"));
+    }
+
+    /**
+     * Returns merged {@link ThrowingRunnable} that runs each
+     * {@link ThrowingRunnable} in {@code mergeUs} in {@code executor} and
+     * waits for all of them to complete.
+     * <p>
+     * If any task fails, the failure of the first failed one in
+     * {@code mergeUs} order is rethrown, failures of the others
+     * are added to it as suppressed.
+     * <p>
+     * Pass {@code Executors.newVirtualThreadPerTaskExecutor()} on Java 21+
+     * to run each task in it's own virtual thread.
+     *
+     * @param executor executor to run tasks in
+     * @param mergeUs an array of tasks
+     * @return merged {@link ThrowingRunnable} that runs each
+     * {@link ThrowingRunnable} in {@code mergeUs} in parallel
+     * @throws NullPointerException if {@code executor}, {@code mergeUs} or any it's element is null
+     * @see #mergeParallel(Runnable...)
+     * @see #mergeParallel(Iterable)
+     * @see #mergeParallel(Executor, Runnable...)
+     * @see #mergeParallel(Executor, Iterable)
+     * @see #throwingMergeParallel(ThrowingRunnable...)
+     * @see #throwingMergeParallel(Iterable)
+     * @see #throwingMergeParallel(Executor, Iterable)
+     */
+    static ThrowingRunnable throwingMergeParallel(Executor executor, ThrowingRunnable... mergeUs) {
+        return MergedRunnable.of(requireNonNull(mergeUs, "Array should not be null!"), requireNonNull(executor, "Executor should not be null!"));
+    }
+
+    /**
+     * Returns merged {@link ThrowingRunnable} that runs each
+     * {@link ThrowingRunnable} in {@code mergeUs} in {@code executor} and
+     * waits for all of them to complete.
+     * <p>
+     * If any task fails, the failure of the first failed one in
+     * {@code mergeUs} order is rethrown, failures of the others
+     * are added to it as suppressed.
+     * <p>
+     * Pass {@code Executors.newVirtualThreadPerTaskExecutor()} on Java 21+
+     * to run each task in it's own virtual thread.
+     *
+     * @param executor executor to run tasks in
+     * @param mergeUs an iterable of tasks
+     * @return merged {@link ThrowingRunnable} that runs each
+     * {@link ThrowingRunnable} in {@code mergeUs} in parallel
+     * @throws NullPointerException if {@code executor}, {@code mergeUs} or any it's element is null
+     * @see #mergeParallel(Runnable...)
+     * @see #mergeParallel(Iterable)
+     * @see #mergeParallel(Executor, Runnable...)
+     * @see #mergeParallel(Executor, Iterable)
+     * @see #throwingMergeParallel(ThrowingRunnable...)
+     * @see #throwingMergeParallel(Iterable)
+     * @see #throwingMergeParallel(Executor, ThrowingRunnable...)
+     */
+    static ThrowingRunnable throwingMergeParallel(Executor executor, Iterable<ThrowingRunnable> mergeUs) {
+        return MergedRunnable.of(requireNonNull(mergeUs, "Iterable should not be null!"), requireNonNull(executor, "Executor should not be null!"));
     }
 
     /**
@@ -334,6 +568,29 @@ public interface ThrowingRunnable extends Runnable {
      */
     void runThrowing() throws Exception;
 
+    /**
+     * Returns a {@link ThrowingRunnable} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingRunnable}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingRunnable instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(requireNonNull(name));
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                runThrowing();
+                probe.success(System.nanoTime() - start);
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingRunnable}.
      *
@@ -0,0 +1,393 @@
+package utils.functions;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Stream facade that takes {@code Throwing*} lambdas directly and runs consecutive
+ * {@link #map}, {@link #filter} and {@link #peek} stages as one fused loop body.
+ * <p>
+ * Passing {@link ThrowingFunction}s to {@link Stream#map} makes every element go through
+ * {@link ThrowingFunction#apply} of every stage. Here the stages call each other's throwing
+ * methods directly, an element enters the fused body through a single exception boundary,
+ * and checked exceptions are sneaky thrown from there. Stateful operations, such as
+ * {@link #sorted()} or {@link #limit(long)}, fall back to {@link java.util.stream}, the
+ * stages after them are fused again.
+ * <p>
+ * Sources and results are {@link Spliterator}s, so a parallel stream splits the source
+ * as {@link Streams#toStream(Spliterator, boolean)} does and every split runs the fused body.
+ * Like a {@link Stream}, an instance may be consumed only once.
+ * <pre>
+ *   List&lt;Config&gt; configs = ThrowingStream.of(paths)
+ *           .filter(Files::isReadable)
+ *           .map(Files::readString)
+ *           .map(Config::parse)
+ *           .toList();
+ * </pre>
+ *
+ * @param <T> the type of the stream elements
+ */
+public final class ThrowingStream<T> implements AutoCloseable {
+
+    /**
+     * Spliterator over the elements the fused stages are applied to.
+     */
+    private final Spliterator<Object> source;
+
+    /**
+     * Fused stateless stages, {@code null} if there are none.
+     */
+    private final Stage<Object, T> stage;
+
+    /**
+     * {@link Spliterator} characteristics the stages clear.
+     */
+    private final int clearedCharacteristics;
+
+    private final boolean parallel;
+    private final Runnable closeHandler;
+
+    private ThrowingStream(
+            Spliterator<Object> source,
+            Stage<Object, T> stage,
+            int clearedCharacteristics,
+            boolean parallel,
+            Runnable closeHandler
+    ) {
+        this.source = source;
+        this.stage = stage;
+        this.clearedCharacteristics = clearedCharacteristics;
+        this.parallel = parallel;
+        this.closeHandler = closeHandler;
+    }
+
+    /**
+     * @param spliterator the source of elements
+     * @param parallel    whether the stream is parallel
+     * @return stream over the elements of {@code spliterator}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ThrowingStream<T> of(Spliterator<? extends T> spliterator, boolean parallel) {
+        return new ThrowingStream<>(
+                (Spliterator<Object>) Objects.requireNonNull(spliterator), null, 0, parallel, null);
+    }
+
+    /**
+     * @return sequential stream over the elements of {@code iterable}
+     */
+    public static <T> ThrowingStream<T> of(Iterable<? extends T> iterable) {
+        return of(Objects.requireNonNull(iterable).spliterator(), false);
+    }
+
+    /**
+     * @return sequential stream over {@code elements}
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs") // the array is only read through the spliterator, never written
+    public static <T> ThrowingStream<T> of(T... elements) {
+        return of(Arrays.spliterator(elements), false);
+    }
+
+    /**
+     * Stream over the elements of {@code stream}, closing the returned one closes {@code stream}.
+     *
+     * @return stream over the elements of {@code stream}, parallel if it is parallel
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ThrowingStream<T> of(Stream<? extends T> stream) {
+        return new ThrowingStream<>(
+                (Spliterator<Object>) stream.spliterator(), null, 0, stream.isParallel(), stream::close);
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public ThrowingStream<T> parallel() {
+        return parallel ? this : new ThrowingStream<>(source, stage, clearedCharacteristics, true, closeHandler);
+    }
+
+    public ThrowingStream<T> sequential() {
+        return parallel ? new ThrowingStream<>(source, stage, clearedCharacteristics, false, closeHandler) : this;
+    }
+
+    /**
+     * Fused stage that maps each element with {@code mapper}.
+     */
+    public <R> ThrowingStream<R> map(ThrowingFunction<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return then(downstream -> t -> downstream.acceptThrows(mapper.applyThrowing(t)),
+                Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    /**
+     * Fused stage that keeps only elements matching {@code predicate}.
+     */
+    public ThrowingStream<T> filter(ThrowingPredicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return then(downstream -> t -> {
+            if (predicate.testThrowing(t)) {
+                downstream.acceptThrows(t);
+            }
+        }, Spliterator.SIZED | Spliterator.SUBSIZED);
+    }
+
+    /**
+     * Fused stage that passes each element to {@code action} before the next stages.
+     */
+    public ThrowingStream<T> peek(ThrowingConsumer<? super T> action) {
+        Objects.requireNonNull(action);
+        return then(downstream -> t -> {
+            action.acceptThrows(t);
+            downstream.acceptThrows(t);
+        }, 0);
+    }
+
+    /**
+     * Runs in {@link java.util.stream}.
+     *
+     * @see Stream#flatMap
+     */
+    public <R> ThrowingStream<R> flatMap(ThrowingFunction<? super T, ? extends Stream<? extends R>> mapper) {
+        Objects.requireNonNull(mapper);
+        return of(toStream().flatMap(mapper));
+    }
+
+    /**
+     * Stateful, runs in {@link java.util.stream}.
+     *
+     * @see Stream#distinct()
+     */
+    public ThrowingStream<T> distinct() {
+        return of(toStream().distinct());
+    }
+
+    /**
+     * Stateful, runs in {@link java.util.stream}.
+     *
+     * @see Stream#sorted()
+     */
+    public ThrowingStream<T> sorted() {
+        return of(toStream().sorted());
+    }
+
+    /**
+     * Stateful, runs in {@link java.util.stream}.
+     *
+     * @see Stream#sorted(Comparator)
+     */
+    public ThrowingStream<T> sorted(Comparator<? super T> comparator) {
+        return of(toStream().sorted(comparator));
+    }
+
+    /**
+     * Stateful, runs in {@link java.util.stream}.
+     *
+     * @see Stream#limit(long)
+     */
+    public ThrowingStream<T> limit(long maxSize) {
+        return of(toStream().limit(maxSize));
+    }
+
+    /**
+     * Stateful, runs in {@link java.util.stream}.
+     *
+     * @see Stream#skip(long)
+     */
+    public ThrowingStream<T> skip(long n) {
+        return of(toStream().skip(n));
+    }
+
+    /**
+     * Passes each element to {@code action}. A sequential stream runs the fused stages and
+     * {@code action} in one loop over the source, a parallel one does not keep the order.
+     */
+    public void forEach(ThrowingConsumer<? super T> action) {
+        Objects.requireNonNull(action);
+
+        if (parallel) {
+            toStream().forEach(action);
+        } else {
+            source.forEachRemaining(sink(action));
+        }
+    }
+
+    public <R, A> R collect(Collector<? super T, A, R> collector) {
+        return toStream().collect(collector);
+    }
+
+    public List<T> toList() {
+        return collect(Collectors.toList());
+    }
+
+    public T reduce(T identity, ThrowingBinaryOperator<T> accumulator) {
+        return toStream().reduce(identity, accumulator);
+    }
+
+    public Optional<T> reduce(ThrowingBinaryOperator<T> accumulator) {
+        return toStream().reduce(accumulator);
+    }
+
+    public long count() {
+        return toStream().count();
+    }
+
+    public boolean anyMatch(ThrowingPredicate<? super T> predicate) {
+        return toStream().anyMatch(predicate);
+    }
+
+    public boolean allMatch(ThrowingPredicate<? super T> predicate) {
+        return toStream().allMatch(predicate);
+    }
+
+    public Optional<T> findFirst() {
+        return toStream().findFirst();
+    }
+
+    /**
+     * @return {@link Stream} over the results of the fused stages, closing it closes this stream's source
+     */
+    public Stream<T> toStream() {
+        Stream<T> stream = Streams.toStream(spliterator(), parallel);
+        return closeHandler == null ? stream : stream.onClose(closeHandler);
+    }
+
+    /**
+     * @return {@link Spliterator} over the results of the fused stages
+     */
+    @SuppressWarnings("unchecked")
+    public Spliterator<T> spliterator() {
+        return stage == null
+                ? (Spliterator<T>) source
+                : new FusedSpliterator<>(source, stage, clearedCharacteristics);
+    }
+
+    @Override
+    public void close() {
+        if (closeHandler != null) {
+            closeHandler.run();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> ThrowingStream<R> then(Stage<T, R> next, int cleared) {
+        Stage<Object, T> current = stage;
+        Stage<Object, R> fused = current == null
+                ? (Stage<Object, R>) (Stage<?, R>) next
+                : downstream -> current.wrap(next.wrap(downstream));
+
+        return new ThrowingStream<>(source, fused, clearedCharacteristics | cleared, parallel, closeHandler);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ThrowingConsumer<Object> sink(ThrowingConsumer<? super T> action) {
+        return stage == null ? (ThrowingConsumer<Object>) action : stage.wrap(action);
+    }
+
+    /**
+     * Fused stateless stages from {@code I} to {@code O}: wraps a downstream consumer of results
+     * into a consumer of inputs.
+     */
+    @FunctionalInterface
+    private interface Stage<I, O> {
+
+        ThrowingConsumer<I> wrap(ThrowingConsumer<? super O> downstream);
+    }
+
+    /**
+     * {@link Spliterator} that applies fused stages to the elements of a source spliterator.
+     * Every split gets it's own copy of the stages.
+     */
+    private static final class FusedSpliterator<S, T> implements Spliterator<T>, ThrowingConsumer<T> {
+
+        private final Spliterator<S> source;
+        private final Stage<S, T> stage;
+        private final int clearedCharacteristics;
+
+        /**
+         * Stages that pass results to {@link #acceptThrows}, made on the first {@link #tryAdvance}.
+         */
+        private ThrowingConsumer<S> advancing;
+        private T next;
+        private boolean hasNext;
+
+        private FusedSpliterator(Spliterator<S> source, Stage<S, T> stage, int clearedCharacteristics) {
+            this.source = source;
+            this.stage = stage;
+            this.clearedCharacteristics = clearedCharacteristics;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (advancing == null) {
+                advancing = stage.wrap(this);
+            }
+
+            while (!hasNext) {
+                if (!source.tryAdvance(advancing)) {
+                    return false;
+                }
+            }
+
+            T element = next;
+            next = null;
+            hasNext = false;
+            action.accept(element);
+            return true;
+        }
+
+        @Override
+        public void acceptThrows(T t) {
+            next = t;
+            hasNext = true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (hasNext) {
+                T element = next;
+                next = null;
+                hasNext = false;
+                action.accept(element);
+            }
+
+            source.forEachRemaining(stage.wrap(action instanceof ThrowingConsumer
+                    ? (ThrowingConsumer<? super T>) action
+                    : action::accept));
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<S> prefix = source.trySplit();
+            return prefix == null ? null : new FusedSpliterator<>(prefix, stage, clearedCharacteristics);
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics() & ~clearedCharacteristics;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Comparator<? super T> getComparator() {
+            if ((clearedCharacteristics & Spliterator.SORTED) != 0) {
+                throw new IllegalStateException("Mapped elements are not sorted");
+            }
+            return (Comparator<? super T>) source.getComparator();
+        }
+    }
+}
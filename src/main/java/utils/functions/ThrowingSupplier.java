@@ -1,5 +1,6 @@
 package utils.functions;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.function.Supplier;
 
@@ -66,6 +67,122 @@ public interface ThrowingSupplier<T> extends Supplier<T> {
         }
     }
 
+    /**
+     * Returns a supplier that calls this one on the first call only and
+     * remembers it's result for all the subsequent calls.
+     * <p>
+     * Reads of the remembered result take no lock. Concurrent first
+     * callers wait for a single call of this supplier. A thrown
+     * {@link Exception} is not remembered, next call will try again.
+     *
+     * @return memoizing supplier
+     * @see #memoize(boolean)
+     * @see #memoizeWithExpiry(Duration)
+     */
+    default ThrowingSupplier<T> memoize() {
+        return memoize(false);
+    }
+
+    /**
+     * Returns a supplier that calls this one on the first call only and
+     * remembers it's result for all the subsequent calls.
+     * <p>
+     * Reads of the remembered result take no lock. Concurrent first
+     * callers wait for a single call of this supplier.
+     *
+     * @param cacheFailure if {@code true}, a thrown {@link Exception} is
+     *                     remembered and every call, the first one too,
+     *                     throws a new {@link java.util.concurrent.ExecutionException}
+     *                     caused by it, otherwise next call will try again
+     * @return memoizing supplier
+     * @see #memoize()
+     * @see #memoizeWithExpiry(Duration, boolean)
+     */
+    default ThrowingSupplier<T> memoize(boolean cacheFailure) {
+        return new MemoizingSupplier<>(this, 0, cacheFailure);
+    }
+
+    /**
+     * Returns a supplier that calls this one and remembers it's result for
+     * {@code expiry}, the first call after that calls this one again.
+     * <p>
+     * Reads of the remembered result take no lock. Concurrent callers of an
+     * expired supplier wait for a single call of this supplier. A thrown
+     * {@link Exception} is not remembered, next call will try again.
+     *
+     * @param expiry how long the result is remembered for
+     * @return memoizing supplier
+     * @throws NullPointerException     if {@code expiry} is null
+     * @throws IllegalArgumentException if {@code expiry} is not positive
+     * @see #memoize()
+     * @see #memoizeWithExpiry(Duration, boolean)
+     */
+    default ThrowingSupplier<T> memoizeWithExpiry(Duration expiry) {
+        return memoizeWithExpiry(expiry, false);
+    }
+
+    /**
+     * Returns a supplier that calls this one and remembers it's result for
+     * {@code expiry}, the first call after that calls this one again.
+     * <p>
+     * Reads of the remembered result take no lock. Concurrent callers of an
+     * expired supplier wait for a single call of this supplier.
+     *
+     * @param expiry       how long the result is remembered for
+     * @param cacheFailure if {@code true}, a thrown {@link Exception} is
+     *                     remembered for {@code expiry} too and rethrown
+     *                     as in {@link #memoize(boolean)}, otherwise
+     *                     next call will try again
+     * @return memoizing supplier
+     * @throws NullPointerException     if {@code expiry} is null
+     * @throws IllegalArgumentException if {@code expiry} is not positive
+     * @see #memoize(boolean)
+     * @see #memoizeWithExpiry(Duration)
+     */
+    default ThrowingSupplier<T> memoizeWithExpiry(Duration expiry, boolean cacheFailure) {
+        if (Objects.requireNonNull(expiry).isNegative() || expiry.isZero()) {
+            throw new IllegalArgumentException("Expiry should be positive: " + expiry);
+        }
+        return new MemoizingSupplier<>(this, expiry.toNanos(), cacheFailure);
+    }
+
+    /**
+     * Returns a supplier that calls this one only while {@code circuitBreaker}
+     * permits it, and throws {@link CallNotPermittedException} otherwise.
+     *
+     * @param circuitBreaker the breaker to record outcomes of calls to
+     * @return protected supplier
+     * @throws NullPointerException if {@code circuitBreaker} is null
+     * @see CircuitBreaker#decorate(ThrowingSupplier)
+     */
+    default ThrowingSupplier<T> withCircuitBreaker(CircuitBreaker circuitBreaker) {
+        return circuitBreaker.decorate(this);
+    }
+
+    /**
+     * Returns a {@link ThrowingSupplier} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingSupplier}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingSupplier<T> instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                T result = getThrowing();
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingSupplier}.
      *
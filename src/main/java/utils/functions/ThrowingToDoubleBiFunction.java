@@ -73,6 +73,30 @@ public interface ThrowingToDoubleBiFunction<T, U> extends ToDoubleBiFunction<T,
         }
     }
 
+    /**
+     * Returns a {@link ThrowingToDoubleBiFunction} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingToDoubleBiFunction}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingToDoubleBiFunction<T, U> instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return (t, u) -> {
+            long start = System.nanoTime();
+            try {
+                double result = applyAsDoubleThrows(t, u);
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingToDoubleBiFunction}.
      *
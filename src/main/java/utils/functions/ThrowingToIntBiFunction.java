@@ -73,6 +73,30 @@ public interface ThrowingToIntBiFunction<T, U> extends ToIntBiFunction<T, U> {
         }
     }
 
+    /**
+     * Returns a {@link ThrowingToIntBiFunction} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingToIntBiFunction}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingToIntBiFunction<T, U> instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return (t, u) -> {
+            long start = System.nanoTime();
+            try {
+                int result = applyAsIntThrows(t, u);
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingToIntBiFunction}.
      *
@@ -78,6 +78,30 @@ public interface ThrowingUnaryOperator<T> extends UnaryOperator<T>, ThrowingFunc
         }
     }
 
+    /**
+     * Returns a {@link ThrowingUnaryOperator} that records the duration and outcome of every
+     * call to this one in the {@code sink}, see {@link MetricsSink}.
+     *
+     * @param name the name to record calls as
+     * @param sink where to record calls
+     * @return instrumented {@link ThrowingUnaryOperator}
+     * @throws NullPointerException if {@code name} or {@code sink} is null
+     */
+    default ThrowingUnaryOperator<T> instrumented(String name, MetricsSink sink) {
+        MetricsSink.Probe probe = sink.probe(Objects.requireNonNull(name));
+        return t -> {
+            long start = System.nanoTime();
+            try {
+                T result = applyThrowing(t);
+                probe.success(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                probe.failure(System.nanoTime() - start, e);
+                throw e;
+            }
+        };
+    }
+
     /**
      * Unwrap this {@link ThrowingUnaryOperator}.
      *
@@ -1,5 +1,19 @@
 package utils.functions;
 
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Functional replacements of try/catch blocks.
+ * <p>
+ * Called fallbacks, sneaky rethrows and exceptions added as suppressed are reported as JDK Flight
+ * Recorder events {@code utils.functions.Fallback}, {@code utils.functions.SneakyRethrow} and
+ * {@code utils.functions.SuppressedException} with the exception type, duration of the failed call
+ * and the call site. The events are disabled unless a recording enables them and cost close to
+ * nothing while disabled.
+ */
 @SuppressWarnings("WeakerAccess")
 public final class TryCatch {
 
@@ -11,9 +25,12 @@ public final class TryCatch {
      * @see #rethrowOnException(ThrowingSupplier, ThrowingConsumer)
      */
     public static <T> T rethrowOnException(ThrowingSupplier<? extends T> supplier) {
+        long start = TryCatchEvents.start();
         try {
             return supplier.get();
-        } catch (Exception e) {//noinspection RedundantTypeArguments
+        } catch (Exception e) {
+            TryCatchEvents.sneakyRethrow(e, start);
+            //noinspection RedundantTypeArguments
             throw Functions.<RuntimeException>sneakyThrow(e);
         }
     }
@@ -28,14 +45,16 @@ public final class TryCatch {
             ThrowingSupplier<? extends T> supplier,
             ThrowingConsumer<Exception> onException
     ) {
+        long start = TryCatchEvents.start();
         try {
             return supplier.get();
         } catch (Exception e) {
             try {
                 onException.accept(e);
             } catch (Exception e1) {
-                e.addSuppressed(e1);
+                TryCatchEvents.addSuppressed(e, e1);
             }
+            TryCatchEvents.sneakyRethrow(e, start);
             throw e;
         }
     }
@@ -46,7 +65,13 @@ public final class TryCatch {
      * @see #rethrowOnException(ThrowingSupplier)
      */
     public static void rethrowOnException(ThrowingRunnable runnable) {
-        runnable.run();
+        long start = TryCatchEvents.start();
+        try {
+            runnable.run();
+        } catch (Exception e) {
+            TryCatchEvents.sneakyRethrow(e, start);
+            throw e;
+        }
     }
 
     /**
@@ -56,18 +81,21 @@ public final class TryCatch {
      * @return the {@code supplier} or {@code fallback} result
      * @see #tryCatch(ThrowingRunnable, ThrowingConsumer)
      * @see #tryCatchFallback(ThrowingSupplier, ThrowingConsumer, ThrowingSupplier)
+     * @see StacklessException
      */
     public static <T> T tryCatchFallback(
             ThrowingSupplier<? extends T> supplier,
             ThrowingFunction<Exception, ? extends T> fallback
     ) {
+        long start = TryCatchEvents.start();
         try {
             return supplier.get();
         } catch (Exception e) {
+            TryCatchEvents.fallback(e, start);
             try {
                 return fallback.apply(e);
             } catch (Exception e1) {
-                e.addSuppressed(e1);
+                TryCatchEvents.addSuppressed(e, e1);
                 throw e;
             }
         }
@@ -79,25 +107,28 @@ public final class TryCatch {
      *
      * @return the {@code supplier} or {@code fallback} result
      * @see #tryCatchFallback(ThrowingSupplier, ThrowingFunction)
+     * @see StacklessException
      */
     public static <T> T tryCatchFallback(
             ThrowingSupplier<? extends T> supplier,
             ThrowingConsumer<Exception> onError,
             ThrowingSupplier<? extends T> fallback
     ) {
+        long start = TryCatchEvents.start();
         try {
             return supplier.get();
         } catch (Exception e) {
+            TryCatchEvents.fallback(e, start);
             try {
                 onError.accept(e);
             } catch (Exception e1) {
-                e.addSuppressed(e1);
+                TryCatchEvents.addSuppressed(e, e1);
                 throw e;
             }
             try {
                 return fallback.get();
             } catch (Exception e2) {
-                e.addSuppressed(e2);
+                TryCatchEvents.addSuppressed(e, e2);
                 throw e;
             }
         }
@@ -109,16 +140,81 @@ public final class TryCatch {
      * @see #tryCatchFallback(ThrowingSupplier, ThrowingFunction)
      */
     public static void tryCatch(ThrowingRunnable runnable, ThrowingConsumer<Exception> onException) {
+        long start = TryCatchEvents.start();
         try {
             runnable.run();
         } catch (Exception e) {
+            TryCatchEvents.fallback(e, start);
             try {
                 onException.accept(e);
             } catch (Exception e1) {
-                e.addSuppressed(e1);
+                TryCatchEvents.addSuppressed(e, e1);
                 throw e;
             }
         }
     }
 
+    /**
+     * Will call {@code supplier} until it returns a value or {@code policy} gives up, sleeping between
+     * attempts as the policy says. When the policy gives up, the last caught exception is rethrown.
+     * If the thread is interrupted while sleeping, the interrupt flag is restored and the last caught
+     * exception is rethrown with {@link InterruptedException} as suppressed.
+     *
+     * @return the supplier result
+     * @see RetryPolicy
+     * @see #retryAsync(ThrowingSupplier, RetryPolicy, ScheduledExecutorService)
+     */
+    public static <T> T retry(ThrowingSupplier<? extends T> supplier, RetryPolicy policy) {
+        Objects.requireNonNull(supplier);
+        Objects.requireNonNull(policy);
+
+        long startNanos = System.nanoTime();
+        long delayNanos = 0;
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return supplier.getThrowing();
+            } catch (Exception e) {
+                delayNanos = policy.nextDelayNanos(e, attempt, delayNanos, System.nanoTime() - startNanos);
+
+                if (delayNanos < 0) {
+                    TryCatchEvents.sneakyRethrow(e, startNanos);
+                    //noinspection RedundantTypeArguments
+                    throw Functions.<RuntimeException>sneakyThrow(e);
+                }
+
+                try {
+                    TimeUnit.NANOSECONDS.sleep(delayNanos);
+                } catch (InterruptedException e1) {
+                    Thread.currentThread().interrupt();
+                    TryCatchEvents.addSuppressed(e, e1);
+                    //noinspection RedundantTypeArguments
+                    throw Functions.<RuntimeException>sneakyThrow(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Will call {@code supplier} on {@code scheduler} until it returns a value or {@code policy} gives up.
+     * Next attempts are scheduled with delays the policy says, so no thread is blocked between attempts.
+     * When the policy gives up, the returned future completes with the last caught exception. Cancelling
+     * the returned future stops further attempts.
+     *
+     * @return future of the supplier result
+     * @see RetryPolicy
+     * @see #retry(ThrowingSupplier, RetryPolicy)
+     */
+    public static <T> CompletableFuture<T> retryAsync(
+            ThrowingSupplier<? extends T> supplier,
+            RetryPolicy policy,
+            ScheduledExecutorService scheduler
+    ) {
+        return new AsyncRetry<T>(
+                Objects.requireNonNull(supplier),
+                Objects.requireNonNull(policy),
+                Objects.requireNonNull(scheduler)
+        ).start();
+    }
+
 }
@@ -0,0 +1,85 @@
+package utils.functions;
+
+/**
+ * Opt-in JDK Flight Recorder events of {@link TryCatch}: a fallback was called, an exception was
+ * added as suppressed, or a caught exception was sneaky rethrown.
+ * <p>
+ * The events are disabled by default, enable them in a recording by name, e.g. with
+ * {@code jfr configure utils.functions.Fallback#enabled=true} or {@code Recording.enable(name)}.
+ * The call site is the first frame outside of {@link TryCatch}, it is looked up only for an enabled
+ * event, so full stack traces are not recorded.
+ * <p>
+ * This class does not refer to {@code jdk.jfr}, the events live in {@link TryCatchJfrEvents}, which is
+ * loaded on the first failure only and only if the {@code jdk.jfr} module is present. So calls that do
+ * not fail never touch the Flight Recorder, and {@link TryCatch} works on runtimes without it. The
+ * failed call is timed only when an event that records durations is enabled, calls started before the
+ * first failure are not timed.
+ */
+final class TryCatchEvents {
+
+    static final String FALLBACK = "utils.functions.Fallback";
+    static final String SUPPRESSED = "utils.functions.SuppressedException";
+    static final String SNEAKY_RETHROW = "utils.functions.SneakyRethrow";
+
+    private static final int UNKNOWN = 0;
+    private static final int AVAILABLE = 1;
+    private static final int MISSING = 2;
+
+    /**
+     * Whether the {@code jdk.jfr} module is present, looked up on the first failure.
+     */
+    private static volatile int jfr = UNKNOWN;
+
+    private TryCatchEvents() {
+    }
+
+    /**
+     * @return start of a call to time, zero if the events that record durations are disabled
+     */
+    static long start() {
+        return jfr == AVAILABLE && TryCatchJfrEvents.timed() ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records that {@code exception} thrown by a call started at {@code start} is passed to a fallback.
+     */
+    static void fallback(Exception exception, long start) {
+        if (jfrAvailable()) {
+            TryCatchJfrEvents.fallback(exception, since(start));
+        }
+    }
+
+    /**
+     * Records that {@code exception} thrown by a call started at {@code start} is rethrown.
+     */
+    static void sneakyRethrow(Exception exception, long start) {
+        if (jfrAvailable()) {
+            TryCatchJfrEvents.sneakyRethrow(exception, since(start));
+        }
+    }
+
+    /**
+     * Adds {@code suppressed} to {@code exception} and records it.
+     */
+    static void addSuppressed(Exception exception, Exception suppressed) {
+        exception.addSuppressed(suppressed);
+
+        if (jfrAvailable()) {
+            TryCatchJfrEvents.addSuppressed(exception, suppressed);
+        }
+    }
+
+    private static boolean jfrAvailable() {
+        int state = jfr;
+
+        if (state == UNKNOWN) {
+            state = ModuleLayer.boot().findModule("jdk.jfr").isPresent() ? AVAILABLE : MISSING;
+            jfr = state;
+        }
+        return state == AVAILABLE;
+    }
+
+    private static long since(long start) {
+        return start == 0 ? 0 : System.nanoTime() - start;
+    }
+}
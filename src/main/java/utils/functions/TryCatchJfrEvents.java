@@ -0,0 +1,155 @@
+package utils.functions;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.util.Set;
+
+/**
+ * Flight Recorder side of {@link TryCatchEvents}, the only place {@link TryCatch} refers to {@code jdk.jfr}.
+ * <p>
+ * Loading the first event class boots the Flight Recorder metadata, so no event is created until
+ * the recorder is {@link FlightRecorder#isInitialized() initialized} by a recording, then events are
+ * created and checked with {@link Event#isEnabled()} as the JFR documentation recommends.
+ */
+final class TryCatchJfrEvents {
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final Set<String> INTERNAL_CLASSES = Set.of(
+            TryCatch.class.getName(), TryCatchEvents.class.getName(), TryCatchJfrEvents.class.getName());
+
+    private TryCatchJfrEvents() {
+    }
+
+    /**
+     * @return whether an event that records the duration of a failed call is enabled
+     */
+    static boolean timed() {
+        return FlightRecorder.isInitialized()
+                && (new FallbackEvent().isEnabled() || new SneakyRethrowEvent().isEnabled());
+    }
+
+    static void fallback(Exception exception, long duration) {
+        if (!FlightRecorder.isInitialized()) {
+            return;
+        }
+        FallbackEvent event = new FallbackEvent();
+
+        if (event.isEnabled()) {
+            event.exceptionClass = exception.getClass();
+            event.exceptionMessage = exception.getMessage();
+            event.failedCallDuration = duration;
+            event.callSite = callSite();
+            event.commit();
+        }
+    }
+
+    static void sneakyRethrow(Exception exception, long duration) {
+        if (!FlightRecorder.isInitialized()) {
+            return;
+        }
+        SneakyRethrowEvent event = new SneakyRethrowEvent();
+
+        if (event.isEnabled()) {
+            event.exceptionClass = exception.getClass();
+            event.exceptionMessage = exception.getMessage();
+            event.failedCallDuration = duration;
+            event.callSite = callSite();
+            event.commit();
+        }
+    }
+
+    static void addSuppressed(Exception exception, Exception suppressed) {
+        if (!FlightRecorder.isInitialized()) {
+            return;
+        }
+        SuppressedExceptionEvent event = new SuppressedExceptionEvent();
+
+        if (event.isEnabled()) {
+            event.exceptionClass = exception.getClass();
+            event.suppressedClass = suppressed.getClass();
+            event.callSite = callSite();
+            event.commit();
+        }
+    }
+
+    private static String callSite() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> !INTERNAL_CLASSES.contains(frame.getClassName()))
+                .findFirst()
+                .map(StackWalker.StackFrame::toStackTraceElement)
+                .map(StackTraceElement::toString)
+                .orElse(null));
+    }
+
+    @Name(TryCatchEvents.FALLBACK)
+    @Label("Fallback")
+    @Category("Function Utils")
+    @Description("A TryCatch fallback or exception handler was called")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class FallbackEvent extends Event {
+
+        @Label("Exception Class")
+        Class<?> exceptionClass;
+
+        @Label("Exception Message")
+        String exceptionMessage;
+
+        @Label("Failed Call Duration")
+        @Description("Zero if the recording started during the call")
+        @Timespan(Timespan.NANOSECONDS)
+        long failedCallDuration;
+
+        @Label("Call Site")
+        String callSite;
+    }
+
+    @Name(TryCatchEvents.SUPPRESSED)
+    @Label("Suppressed Exception")
+    @Category("Function Utils")
+    @Description("TryCatch added an exception of a fallback or handler as suppressed")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class SuppressedExceptionEvent extends Event {
+
+        @Label("Exception Class")
+        Class<?> exceptionClass;
+
+        @Label("Suppressed Class")
+        Class<?> suppressedClass;
+
+        @Label("Call Site")
+        String callSite;
+    }
+
+    @Name(TryCatchEvents.SNEAKY_RETHROW)
+    @Label("Sneaky Rethrow")
+    @Category("Function Utils")
+    @Description("TryCatch rethrew a caught exception without declaring it")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class SneakyRethrowEvent extends Event {
+
+        @Label("Exception Class")
+        Class<?> exceptionClass;
+
+        @Label("Exception Message")
+        String exceptionMessage;
+
+        @Label("Failed Call Duration")
+        @Description("Zero if the recording started during the call")
+        @Timespan(Timespan.NANOSECONDS)
+        long failedCallDuration;
+
+        @Label("Call Site")
+        String callSite;
+    }
+}
@@ -2,12 +2,22 @@ package utils.functions;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class BatchOperationTest {
 
@@ -34,4 +44,122 @@ class BatchOperationTest {
 
         assertEquals(TEST_WORD, stringBuilder.toString());
     }
+
+    @Test
+    void withEachParallel_When_LargeList_Expect_EachElementVisitedOnce() {
+        int size = 100_000;
+        List<Integer> list = IntStream.range(0, size).boxed().collect(Collectors.toList());
+        AtomicIntegerArray visits = new AtomicIntegerArray(size);
+
+        BatchOperation.withEachParallel(list, visits::incrementAndGet, 4);
+
+        for (int i = 0; i < size; i++) {
+            assertEquals(1, visits.get(i));
+        }
+    }
+
+    @Test
+    void withEachParallel_When_NotRandomAccess_Expect_EachElementVisitedOnce() {
+        List<Integer> list = new LinkedList<>(IntStream.range(0, 1_000).boxed().collect(Collectors.toList()));
+        AtomicInteger sum = new AtomicInteger();
+
+        BatchOperation.withEachParallel(ForkJoinPool.commonPool(), list, sum::addAndGet);
+
+        assertEquals(999 * 1_000 / 2, sum.get());
+    }
+
+    @Test
+    void withEachParallel_When_ActionThrows_Expect_FirstFailureRethrownAndRestSkipped() {
+        List<Integer> list = new ArrayList<>(Collections.nCopies(1_000_000, 1));
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(TestCheckedException.class, () -> BatchOperation.withEachParallel(
+                list,
+                (ThrowingConsumer<Integer>) i -> {
+                    if (calls.incrementAndGet() == 10) {
+                        throw new TestCheckedException();
+                    }
+                }
+        ));
+
+        assertTrue(calls.get() < list.size());
+    }
+
+    @Test
+    void withEachParallel_When_NotPositiveParallelism_Expect_IAE() {
+        assertThrows(IllegalArgumentException.class, () -> BatchOperation.withEachParallel(characters, c -> {
+        }, 0));
+    }
+
+    @Test
+    void inBatches_When_Iterable_Expect_FixedSizeBatchesAndSmallerLast() {
+        List<List<Integer>> batches = new ArrayList<>();
+
+        BatchOperation.inBatches(IntStream.range(0, 7).boxed().collect(Collectors.toList()), 3,
+                batch -> batches.add(new ArrayList<>(batch)));
+
+        assertEquals(Arrays.asList(Arrays.asList(0, 1, 2), Arrays.asList(3, 4, 5), Collections.singletonList(6)), batches);
+    }
+
+    @Test
+    void inBatches_When_StreamAndArray_Expect_SameBatches() {
+        List<String> fromStream = new ArrayList<>();
+        List<String> fromArray = new ArrayList<>();
+
+        BatchOperation.inBatches(characters.stream(), 3, batch -> fromStream.add(batch.toString()));
+        BatchOperation.inBatches(characters.toArray(new Character[0]), 3, batch -> fromArray.add(batch.toString()));
+
+        assertEquals(3, fromStream.size());
+        assertEquals(fromStream, fromArray);
+    }
+
+    @Test
+    void inBatches_When_Batches_Expect_OneBufferReused() {
+        List<List<Integer>> batches = new ArrayList<>();
+
+        BatchOperation.inBatches(Arrays.asList(1, 2, 3, 4), 2, batches::add);
+
+        assertEquals(2, batches.size());
+        assertSame(batches.get(0), batches.get(1));
+        assertThrows(UnsupportedOperationException.class, () -> batches.get(0).add(5));
+    }
+
+    @Test
+    void batcher_When_MaxAgePassed_Expect_SmallerBatch() throws InterruptedException {
+        List<Integer> sizes = new ArrayList<>();
+
+        try (Batcher<Integer> batcher = BatchOperation.batcher(100, Duration.ofMillis(10), batch -> sizes.add(batch.size()))) {
+            batcher.add(1);
+            Thread.sleep(20);
+            batcher.add(2);
+            batcher.add(3);
+        }
+
+        assertEquals(Arrays.asList(2, 1), sizes);
+    }
+
+    @Test
+    void batcher_When_Closed_Expect_RemainingFlushedAndAddFails() {
+        List<Integer> sizes = new ArrayList<>();
+        Batcher<Integer> batcher = BatchOperation.batcher(10, batch -> sizes.add(batch.size()));
+
+        batcher.add(1);
+        batcher.close();
+        batcher.close();
+
+        assertEquals(Collections.singletonList(1), sizes);
+        assertThrows(IllegalStateException.class, () -> batcher.add(2));
+    }
+
+    @Test
+    void batcher_When_SinkThrows_Expect_FailureRethrownAndBatchDropped() {
+        Batcher<Integer> batcher = BatchOperation.batcher(2, batch -> {
+            throw new TestCheckedException();
+        });
+
+        batcher.add(1);
+        assertThrows(TestCheckedException.class, () -> batcher.add(2));
+        assertThrows(IllegalArgumentException.class, () -> BatchOperation.batcher(0, batch -> {
+        }));
+    }
 }
@@ -0,0 +1,157 @@
+package utils.functions;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class CachingFunctionTest {
+
+    @Test
+    void cached_When_SameKey_Expect_FunctionCalledOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        CachingFunction<Integer, Integer> cached = ThrowingFunction.<Integer, Integer>map(i -> {
+            calls.incrementAndGet();
+            return i * 2;
+        }).cached(10);
+
+        assertEquals(4, cached.apply(2));
+        assertEquals(4, cached.apply(2));
+        assertEquals(1, calls.get());
+
+        CacheStats stats = cached.stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+    }
+
+    @Test
+    void cached_When_Full_Expect_LeastRecentlyUsedEvicted() {
+        AtomicInteger calls = new AtomicInteger();
+        CachingFunction<Integer, Integer> cached = ThrowingFunction.<Integer, Integer>map(i -> {
+            calls.incrementAndGet();
+            return i;
+        }).cached(2);
+
+        cached.apply(1);
+        cached.apply(2);
+        cached.apply(1);
+        cached.apply(3);
+
+        assertEquals(2, cached.size());
+        assertEquals(1, cached.stats().evictionCount());
+
+        cached.apply(1);
+        assertEquals(3, calls.get());
+        cached.apply(2);
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void cached_When_TinyLfuAndScan_Expect_FrequentKeyKept() {
+        AtomicInteger calls = new AtomicInteger();
+        CachingFunction<Integer, Integer> cached = ThrowingFunction.<Integer, Integer>map(i -> {
+            if (i == 0) {
+                calls.incrementAndGet();
+            }
+            return i;
+        }).cached(CachePolicy.maximumSize(100).withEviction(CachePolicy.Eviction.TINY_LFU));
+
+        for (int i = 0; i < 10; i++) {
+            cached.apply(0);
+        }
+        for (int i = 1; i < 1_000; i++) {
+            cached.apply(i);
+        }
+        cached.apply(0);
+
+        assertEquals(1, calls.get());
+        assertTrue(cached.size() <= 100);
+    }
+
+    @Test
+    void cached_When_Expired_Expect_FunctionCalledAgain() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        CachingFunction<Integer, Integer> cached = ThrowingFunction.<Integer, Integer>map(i -> calls.incrementAndGet())
+                .cached(CachePolicy.maximumSize(10).withExpireAfterWrite(Duration.ofMillis(10)));
+
+        assertEquals(1, cached.apply(0));
+        Thread.sleep(20);
+        assertEquals(2, cached.apply(0));
+    }
+
+    @Test
+    void cached_When_FunctionThrows_Expect_FailureNotCached() {
+        AtomicInteger calls = new AtomicInteger();
+        CachingFunction<Integer, Integer> cached = ThrowingFunction.<Integer, Integer>map(i -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new TestCheckedException();
+            }
+            return i;
+        }).cached(10);
+
+        assertThrows(TestCheckedException.class, () -> cached.apply(1));
+        assertEquals(1, cached.apply(1));
+        assertEquals(1, cached.size());
+    }
+
+    @Test
+    void cached_When_Invalidated_Expect_FunctionCalledAgain() {
+        AtomicInteger calls = new AtomicInteger();
+        CachingFunction<Integer, Integer> cached = ThrowingFunction.<Integer, Integer>map(i -> calls.incrementAndGet())
+                .cached(10);
+
+        cached.apply(1);
+        cached.invalidate(1);
+        cached.apply(1);
+        cached.invalidateAll();
+        cached.apply(1);
+
+        assertEquals(3, calls.get());
+        assertEquals(1, cached.size());
+    }
+
+    @Test
+    void cached_When_ConcurrentMisses_Expect_FunctionCalledOnce() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CachingFunction<Integer, Integer> cached = ThrowingFunction.<Integer, Integer>map(i -> {
+            Thread.sleep(10);
+            return calls.incrementAndGet();
+        }).cached(10);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return cached.apply(1);
+                }));
+            }
+            start.countDown();
+
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, calls.get());
+        assertEquals(4, cached.stats().hitCount() + cached.stats().missCount());
+    }
+
+    @Test
+    void cachePolicy_When_NotPositiveSize_Expect_IAE() {
+        assertThrows(IllegalArgumentException.class, () -> CachePolicy.maximumSize(0));
+    }
+}
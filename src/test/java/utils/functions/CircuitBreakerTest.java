@@ -0,0 +1,184 @@
+package utils.functions;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    @Test
+    void circuitBreaker_When_FailureRateReached_Expect_OpenAndFailFast() {
+        CircuitBreaker breaker = CircuitBreaker.of(CircuitBreakerPolicy.slidingWindow(4).withFailureRateThreshold(0.5));
+        AtomicInteger calls = new AtomicInteger();
+        AtomicBoolean fail = new AtomicBoolean();
+        ThrowingSupplier<String> supplier = ThrowingSupplier.<String>map(() -> {
+            calls.incrementAndGet();
+            if (fail.get()) {
+                throw new TestCheckedException();
+            }
+            return "ok";
+        }).withCircuitBreaker(breaker);
+
+        supplier.get();
+        supplier.get();
+        fail.set(true);
+        assertThrows(TestCheckedException.class, supplier::get);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertThrows(TestCheckedException.class, supplier::get);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        CallNotPermittedException rejected = assertThrows(CallNotPermittedException.class, supplier::get);
+        assertEquals(CircuitBreaker.State.OPEN, rejected.getState());
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void circuitBreaker_When_Open_Expect_FallbackUsed() {
+        CircuitBreaker breaker = CircuitBreaker.of(CircuitBreakerPolicy.slidingWindow(1));
+        ThrowingFunction<String, String> function = ThrowingFunction.<String, String>map(s -> {
+            throw new TestCheckedException();
+        }).withCircuitBreaker(breaker);
+
+        assertThrows(TestCheckedException.class, () -> function.apply("a"));
+
+        assertEquals("fallback", TryCatch.tryCatchFallback(
+                () -> function.apply("a"),
+                e -> e instanceof CallNotPermittedException ? "fallback" : null
+        ));
+    }
+
+    @Test
+    void circuitBreaker_When_OpenDurationPassedAndTrialsSucceed_Expect_Closed() throws InterruptedException {
+        CircuitBreaker breaker = CircuitBreaker.of(CircuitBreakerPolicy.slidingWindow(2)
+                .withOpenDuration(Duration.ofMillis(20))
+                .withHalfOpenCalls(2));
+        AtomicBoolean fail = new AtomicBoolean(true);
+        ThrowingSupplier<String> supplier = breaker.decorate(() -> {
+            if (fail.get()) {
+                throw new TestCheckedException();
+            }
+            return "ok";
+        });
+
+        assertThrows(TestCheckedException.class, supplier::get);
+        assertThrows(TestCheckedException.class, supplier::get);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        Thread.sleep(30);
+        fail.set(false);
+
+        assertEquals("ok", supplier.get());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertEquals("ok", supplier.get());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void circuitBreaker_When_TrialFails_Expect_OpenAgain() throws InterruptedException {
+        CircuitBreaker breaker = CircuitBreaker.of(CircuitBreakerPolicy.slidingWindow(1)
+                .withOpenDuration(Duration.ofMillis(20))
+                .withHalfOpenCalls(1));
+        ThrowingSupplier<String> supplier = breaker.decorate(() -> {
+            throw new TestCheckedException();
+        });
+
+        assertThrows(TestCheckedException.class, supplier::get);
+        Thread.sleep(30);
+        assertThrows(TestCheckedException.class, supplier::get);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertThrows(CallNotPermittedException.class, supplier::get);
+    }
+
+    @Test
+    void circuitBreaker_When_TrialDoesNotComplete_Expect_OpenAfterHalfOpenTimeout() throws InterruptedException {
+        CircuitBreaker breaker = CircuitBreaker.of(CircuitBreakerPolicy.slidingWindow(1)
+                .withOpenDuration(Duration.ofMillis(20))
+                .withHalfOpenCalls(1)
+                .withHalfOpenTimeout(Duration.ofMillis(20)));
+        AtomicBoolean fail = new AtomicBoolean(true);
+        ThrowingSupplier<String> supplier = breaker.decorate(() -> {
+            if (fail.get()) {
+                throw new TestCheckedException();
+            }
+            return "ok";
+        });
+        CallNotPermittedException[] rejected = new CallNotPermittedException[2];
+        // the trial stays in flight while the nested calls are made
+        ThrowingSupplier<String> hangingTrial = breaker.decorate(() -> {
+            rejected[0] = assertThrows(CallNotPermittedException.class, supplier::get);
+            Thread.sleep(30);
+            rejected[1] = assertThrows(CallNotPermittedException.class, supplier::get);
+            return "late";
+        });
+
+        assertThrows(TestCheckedException.class, supplier::get);
+        Thread.sleep(30);
+        assertEquals("late", hangingTrial.get());
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, rejected[0].getState());
+        assertEquals(CircuitBreaker.State.OPEN, rejected[1].getState());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        Thread.sleep(30);
+        fail.set(false);
+        assertEquals("ok", supplier.get());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void circuitBreaker_When_SlowCallRateReached_Expect_Open() {
+        CircuitBreaker breaker = CircuitBreaker.of(CircuitBreakerPolicy.slidingWindow(2)
+                .withSlowCallRateThreshold(1.0, Duration.ofMillis(5)));
+        ThrowingSupplier<String> supplier = breaker.decorate(() -> {
+            Thread.sleep(10);
+            return "slow";
+        });
+
+        supplier.get();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        supplier.get();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void circuitBreaker_When_ConcurrentSuccessfulCalls_Expect_Closed() throws InterruptedException {
+        CircuitBreaker breaker = CircuitBreaker.of(CircuitBreakerPolicy.slidingWindow(16));
+        ThrowingFunction<Integer, Integer> function = breaker.decorate((ThrowingFunction<Integer, Integer>) i -> i + 1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            for (int i = 0; i < 4; i++) {
+                executor.execute(() -> {
+                    for (int j = 0; j < 10_000; j++) {
+                        assertEquals(j + 1, function.apply(j));
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void circuitBreakerPolicy_When_InvalidArguments_Expect_IAE() {
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreakerPolicy.slidingWindow(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> CircuitBreakerPolicy.slidingWindow(1).withFailureRateThreshold(1.5));
+        assertThrows(IllegalArgumentException.class,
+                () -> CircuitBreakerPolicy.slidingWindow(1).withOpenDuration(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreakerPolicy.slidingWindow(1).withHalfOpenCalls(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> CircuitBreakerPolicy.slidingWindow(1).withHalfOpenTimeout(Duration.ZERO));
+    }
+}
@@ -0,0 +1,403 @@
+package utils.functions;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.DoubleSummaryStatistics;
+import java.util.HashSet;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollectOperationTest {
+
+    @Test
+    void toSample_When_FewerElementsThanK_Expect_AllOfThem() {
+        List<Integer> sample = Stream.of(1, 2, 3).collect(CollectOperation.toSample(5, new SplittableRandom(1)));
+
+        assertEquals(new HashSet<>(List.of(1, 2, 3)), new HashSet<>(sample));
+        assertTrue(Stream.of(1).collect(CollectOperation.toSample(0, new SplittableRandom(1))).isEmpty());
+        assertTrue(Stream.of("a", "b").parallel()
+                .collect(CollectOperation.toWeightedSample(0, s -> 1.0, new SplittableRandom(1))).isEmpty());
+    }
+
+    @Test
+    void toSample_When_SameSeed_Expect_SameSample() {
+        List<Integer> first = IntStream.range(0, 100_000).boxed()
+                .collect(CollectOperation.toSample(10, new SplittableRandom(42)));
+        List<Integer> second = IntStream.range(0, 100_000).boxed()
+                .collect(CollectOperation.toSample(10, new SplittableRandom(42)));
+
+        assertEquals(10, first.size());
+        assertEquals(10, new HashSet<>(first).size());
+        assertEquals(first, second);
+    }
+
+    @Test
+    void toSample_When_ManyRuns_Expect_Uniform() {
+        SplittableRandom random = new SplittableRandom(7);
+        int[] hits = new int[20];
+
+        for (int run = 0; run < 20_000; run++) {
+            for (int i : IntStream.range(0, 20).boxed().collect(CollectOperation.toSample(3, random))) {
+                hits[i]++;
+            }
+        }
+
+        // each element is expected 3_000 times
+        for (int hit : hits) {
+            assertTrue(hit > 2_700 && hit < 3_300, "hits " + hit);
+        }
+    }
+
+    @Test
+    void toSample_When_Parallel_Expect_DistinctElementsOfInput() {
+        List<Integer> sample = IntStream.range(0, 1_000_000).boxed().parallel()
+                .collect(CollectOperation.toSample(100, new SplittableRandom(3)));
+
+        assertEquals(100, sample.size());
+        assertEquals(100, new HashSet<>(sample).size());
+        assertTrue(sample.stream().allMatch(i -> i >= 0 && i < 1_000_000));
+    }
+
+    @Test
+    void toWeightedSample_When_ZeroAndHeavyWeights_Expect_ProportionalPicks() {
+        SplittableRandom random = new SplittableRandom(11);
+        int heavy = 0;
+
+        for (int run = 0; run < 10_000; run++) {
+            List<String> sample = Stream.of("never", "light", "heavy").parallel()
+                    .collect(CollectOperation.toWeightedSample(1, s -> s.equals("never") ? 0 : s.equals("light") ? 1 : 9, random));
+
+            assertEquals(1, sample.size());
+            assertNotEquals("never", sample.get(0));
+            if (sample.get(0).equals("heavy")) {
+                heavy++;
+            }
+        }
+
+        assertTrue(heavy > 8_700 && heavy < 9_300, "heavy " + heavy);
+    }
+
+    @Test
+    void toWeightedSample_When_FullSamplesMerged_Expect_NoSkipDrawn() {
+        SplittableRandom random = new SplittableRandom(4);
+        ReservoirSample<Integer> sample = new ReservoirSample<>(2, random);
+        ReservoirSample<Integer> other = new ReservoirSample<>(2, new SplittableRandom(5));
+        for (int i = 0; i < 3; i++) {
+            sample.add(i, 0.01);
+            other.add(-i, 0.01);
+        }
+        SplittableRandom expected = new SplittableRandom(4);
+        for (int i = 0; i < 3; i++) {
+            expected.nextDouble();
+        }
+
+        sample.merge(other);
+
+        assertEquals(2, sample.toList().size());
+        assertEquals(expected.nextLong(), random.nextLong());
+    }
+
+    @Test
+    void toWeightedSample_When_NegativeWeight_Expect_IAE() {
+        assertThrows(IllegalArgumentException.class, () -> Stream.of("a")
+                .collect(CollectOperation.toWeightedSample(1, s -> -1, new SplittableRandom())));
+    }
+
+    @Test
+    void toShuffledList_When_Limit_Expect_ReproduciblePrefixOfPermutation() {
+        List<Integer> first = IntStream.range(0, 1_000).boxed()
+                .collect(CollectOperation.toShuffledList(10, new SplittableRandom(5)));
+        List<Integer> second = IntStream.range(0, 1_000).boxed()
+                .collect(CollectOperation.toShuffledList(10, new SplittableRandom(5)));
+
+        assertEquals(10, first.size());
+        assertEquals(10, new HashSet<>(first).size());
+        assertEquals(first, second);
+        assertEquals(3, Stream.of(1, 2, 3).collect(CollectOperation.toShuffledList(10, new SplittableRandom())).size());
+        assertNotEquals(IntStream.range(0, 10).boxed().collect(Collectors.toList()), first);
+    }
+
+    @Test
+    void toShuffledList_When_SeededCollectorReused_Expect_SamePermutation() {
+        Collector<Integer, ?, List<Integer>> collector = CollectOperation.toShuffledList(3L);
+
+        List<Integer> first = IntStream.rangeClosed(1, 8).boxed().collect(collector);
+        List<Integer> second = IntStream.rangeClosed(1, 8).boxed().collect(collector);
+
+        assertEquals(first, second);
+
+        Collector<Integer, ?, List<Integer>> split = CollectOperation.toShuffledList(new SplittableRandom(3));
+        Collector<Integer, ?, List<Integer>> same = CollectOperation.toShuffledList(new SplittableRandom(3));
+
+        assertEquals(IntStream.rangeClosed(1, 8).boxed().collect(split), IntStream.rangeClosed(1, 8).boxed().collect(same));
+        assertEquals(IntStream.rangeClosed(1, 8).boxed().collect(split), IntStream.rangeClosed(1, 8).boxed().collect(same));
+    }
+
+    @Test
+    void toShuffledList_When_LargeParallelInput_Expect_ReproduciblePermutation() {
+        int size = ParallelShuffle.PARALLEL_THRESHOLD * 4;
+
+        List<Integer> first = IntStream.range(0, size).boxed().parallel().collect(CollectOperation.toShuffledList(9L));
+        List<Integer> second = IntStream.range(0, size).boxed().parallel().collect(CollectOperation.toShuffledList(9L));
+
+        assertEquals(first, second);
+        assertNotEquals(IntStream.range(0, size).boxed().collect(Collectors.toList()), first);
+        assertEquals(IntStream.range(0, size).boxed().collect(Collectors.toList()),
+                first.stream().sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    void parallelShuffle_When_ManyRuns_Expect_FirstElementAnywhere() {
+        int size = ParallelShuffle.PARALLEL_THRESHOLD;
+        SplittableRandom random = new SplittableRandom(13);
+        int[] quarters = new int[4];
+
+        for (int run = 0; run < 400; run++) {
+            Object[] array = IntStream.range(0, size).boxed().toArray();
+            ParallelShuffle.shuffle(array, size, random);
+
+            for (int i = 0; i < size; i++) {
+                if ((Integer) array[i] == 0) {
+                    quarters[i * 4 / size]++;
+                }
+            }
+        }
+
+        for (int quarter : quarters) {
+            assertTrue(quarter > 60 && quarter < 140, "quarter " + quarter);
+        }
+    }
+
+    @Test
+    void toShuffledArray_When_ArrayFitsOrNot_Expect_ReusedOrAllocated() {
+        Integer[] preallocated = new Integer[5];
+
+        Integer[] fits = Stream.of(1, 2, 3).collect(CollectOperation.toShuffledArray(preallocated, new SplittableRandom(1)));
+        Integer[] allocated = Stream.of(1, 2, 3).collect(CollectOperation.toShuffledArray(new Integer[1], new SplittableRandom(1)));
+
+        assertSame(preallocated, fits);
+        assertNull(fits[3]);
+        assertEquals(new HashSet<>(List.of(1, 2, 3)), new HashSet<>(List.of(fits[0], fits[1], fits[2])));
+        assertEquals(3, allocated.length);
+        assertEquals(List.of(fits[0], fits[1], fits[2]), List.of(allocated));
+    }
+
+    @Test
+    void toTopKAndBottomK_When_ParallelInput_Expect_SameAsSorting() {
+        List<Integer> input = new SplittableRandom(17).ints(100_000).boxed().collect(Collectors.toList());
+        List<Integer> sorted = input.stream().sorted().collect(Collectors.toList());
+
+        List<Integer> bottom = input.parallelStream().collect(CollectOperation.toBottomK(100, Comparator.naturalOrder()));
+        List<Integer> top = input.parallelStream().collect(CollectOperation.toTopK(100, Comparator.naturalOrder()));
+
+        assertEquals(sorted.subList(0, 100), bottom);
+        List<Integer> greatest = new ArrayList<>(sorted.subList(sorted.size() - 100, sorted.size()));
+        Collections.reverse(greatest);
+        assertEquals(greatest, top);
+        assertTrue(input.stream().collect(CollectOperation.toTopK(0, Comparator.<Integer>naturalOrder())).isEmpty());
+        assertEquals(List.of(3, 2, 1), Stream.of(2, 3, 1).collect(CollectOperation.toTopK(5, Comparator.naturalOrder())));
+    }
+
+    @Test
+    void toTopKByPrimitiveKeys_When_ExtremeValues_Expect_OrderedByKey() {
+        List<Integer> ints = List.of(5, Integer.MIN_VALUE, Integer.MAX_VALUE, -1, 0);
+        List<Double> doubles = List.of(1.5, Double.NaN, -0.0, Double.NEGATIVE_INFINITY, 0.0, -2.5);
+
+        assertEquals(List.of(Integer.MAX_VALUE, 5, 0), ints.parallelStream()
+                .collect(CollectOperation.toTopKByInt(3, i -> i)));
+        assertEquals(List.of(Integer.MIN_VALUE, -1), ints.stream()
+                .collect(CollectOperation.toBottomKByInt(2, i -> i)));
+        assertEquals(List.of(Integer.MIN_VALUE, -1), ints.stream()
+                .collect(CollectOperation.toBottomKByLong(2, i -> (long) i)));
+        assertEquals(List.of(Double.NaN, 1.5, 0.0, -0.0), doubles.stream()
+                .collect(CollectOperation.toTopKByDouble(4, d -> d)));
+        assertEquals(List.of(Double.NEGATIVE_INFINITY, -2.5), doubles.stream()
+                .collect(CollectOperation.toBottomKByDouble(2, d -> d)));
+        assertEquals(List.of("ccc", "bb"), Stream.of("a", "ccc", "bb")
+                .collect(CollectOperation.toTopKByLong(2, String::length)));
+    }
+
+    @Test
+    void kthSmallest_When_EnoughOrFewElements_Expect_ElementOrEmpty() {
+        assertEquals(Optional.of(42), IntStream.range(0, 1_000).boxed().parallel()
+                .collect(CollectOperation.kthSmallest(43, Comparator.naturalOrder())));
+        assertEquals(Optional.empty(), Stream.of(1, 2)
+                .collect(CollectOperation.kthSmallest(3, Comparator.<Integer>naturalOrder())));
+        assertThrows(IllegalArgumentException.class, () -> CollectOperation.kthSmallest(0, Comparator.naturalOrder()));
+    }
+
+    @Test
+    void toBottomK_When_ThrowingComparatorAndKey_Expect_CheckedExceptionPropagated() {
+        ThrowingComparator<String> comparator = (a, b) -> {
+            throw new TestCheckedException();
+        };
+
+        assertThrows(TestCheckedException.class, () -> Stream.of("a", "b").collect(CollectOperation.toBottomK(1, comparator)));
+        assertThrows(TestCheckedException.class, () -> Stream.of("a").collect(CollectOperation.toTopKByInt(1, s -> {
+            throw new TestCheckedException();
+        })));
+        assertEquals(List.of("a", "bb"), Stream.of("ccc", "a", "bb")
+                .collect(CollectOperation.toBottomK(2, ThrowingComparator.comparing(String::length))));
+    }
+
+    @Test
+    void toHyperLogLog_When_ParallelOrSequential_Expect_SameEstimateWithinError() {
+        HyperLogLog parallel = IntStream.range(0, 1_000_000).map(i -> i % 100_000).boxed().parallel()
+                .collect(CollectOperation.toHyperLogLog(14, i -> i));
+        HyperLogLog sequential = IntStream.range(0, 100_000).boxed()
+                .collect(CollectOperation.toHyperLogLog(14, i -> i));
+
+        assertEquals(sequential.estimate(), parallel.estimate());
+        assertEquals(100_000, parallel.estimate(), 100_000 * 3 * parallel.relativeStandardError());
+        assertEquals(10, Stream.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 1, 2)
+                .collect(CollectOperation.toHyperLogLog(14, i -> i)).estimate());
+        assertThrows(IllegalArgumentException.class, () -> CollectOperation.toHyperLogLog(19, i -> 0L));
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(10).merge(new HyperLogLog(11)));
+    }
+
+    @Test
+    void toCountMinSketch_When_SkewedInput_Expect_EstimatesNotBelowFrequencies() {
+        CountMinSketch sketch = IntStream.range(0, 100_000).map(i -> i % 10 == 0 ? 7 : i).boxed().parallel()
+                .collect(CollectOperation.toCountMinSketch(2_000, 5, i -> i));
+
+        assertEquals(100_000, sketch.total());
+        long estimate = sketch.estimate(7);
+        assertTrue(estimate >= 10_001 && estimate <= 10_001 + 100_000 * 2.72 / 2_000, "estimate " + estimate);
+        for (int key = 1; key < 100; key++) {
+            assertTrue(sketch.estimate(key) >= (key % 10 == 0 ? 0 : 1));
+        }
+        assertThrows(IllegalArgumentException.class, () -> CollectOperation.toCountMinSketch(10, 33, i -> 0L));
+    }
+
+    @Test
+    void toHeavyHitters_When_FrequentKeys_Expect_TopCountersWithBoundedError() {
+        SpaceSaving summary = IntStream.range(0, 200_000)
+                .map(i -> i % 4 == 0 ? -1 : i % 10 == 1 ? -2 : i)
+                .boxed()
+                .parallel()
+                .collect(CollectOperation.toHeavyHitters(100, i -> i));
+
+        List<SpaceSaving.Counter> top = summary.top(2);
+
+        assertEquals(2, top.size());
+        assertEquals(-1, top.get(0).key());
+        assertEquals(-2, top.get(1).key());
+        assertTrue(top.get(0).guaranteedCount() <= 50_000 && top.get(0).count() >= 50_000);
+        assertTrue(top.get(1).guaranteedCount() <= 20_000 && top.get(1).count() >= 20_000);
+        assertTrue(top.get(0).error() <= 200_000 / 100);
+        assertEquals(200_000, summary.total());
+        assertEquals(100, summary.top(1_000).size());
+    }
+
+    @Test
+    void toHeavyHitters_When_HeavyKeyFirstThenOverflow_Expect_HeavyKeyKept() {
+        SpaceSaving small = Stream.of(1L, 1L, 1L, 1L, 1L, 2L, 3L)
+                .collect(CollectOperation.toHeavyHitters(2, l -> l));
+        SpaceSaving.Counter first = small.top(1).get(0);
+
+        assertEquals(1, first.key());
+        assertEquals(5, first.guaranteedCount());
+
+        SpaceSaving summary = new SpaceSaving(10);
+        for (int i = 0; i < 100; i++) {
+            summary.add(42);
+        }
+        for (int i = 0; i < 47; i++) {
+            summary.add(1_000 + i);
+        }
+        SpaceSaving.Counter heavy = summary.top(1).get(0);
+
+        assertEquals(42, heavy.key());
+        assertEquals(100, heavy.guaranteedCount());
+        assertEquals(147, summary.total());
+    }
+
+    @Test
+    void toHeavyHitters_When_FewKeys_Expect_ExactCounts() {
+        SpaceSaving summary = Stream.of(3L, 1L, 3L, 2L, 3L, 1L)
+                .collect(CollectOperation.toHeavyHitters(10, l -> l));
+
+        assertEquals(List.of(3L, 1L, 2L), summary.top(3).stream().map(SpaceSaving.Counter::key).collect(Collectors.toList()));
+        assertEquals(List.of(3L, 2L, 1L), summary.top(3).stream().map(SpaceSaving.Counter::count).collect(Collectors.toList()));
+        assertEquals(0, summary.estimate(4));
+        assertEquals(0, summary.top(3).get(0).error());
+    }
+
+    @Test
+    void toTDigest_When_UniformValues_Expect_AccurateQuantiles() {
+        TDigest digest = IntStream.range(0, 1_000_000).boxed().parallel()
+                .collect(CollectOperation.toTDigest(100, i -> i));
+
+        assertEquals(1_000_000, digest.count());
+        assertEquals(0, digest.quantile(0));
+        assertEquals(999_999, digest.quantile(1));
+        assertEquals(500_000, digest.quantile(0.5), 5_000);
+        assertEquals(990_000, digest.quantile(0.99), 1_000);
+        assertEquals(999_000, digest.quantile(0.999), 200);
+        assertEquals(Double.NaN, new TDigest(100).quantile(0.5));
+        assertEquals(7, Stream.of(7.0).collect(CollectOperation.toTDigest(100, d -> d)).quantile(0.3));
+        assertThrows(IllegalArgumentException.class, () -> digest.quantile(1.5));
+        assertThrows(IllegalArgumentException.class, () -> Stream.of(Double.NaN)
+                .collect(CollectOperation.toTDigest(100, d -> d)));
+    }
+
+    @Test
+    void toIntArray_When_ParallelStream_Expect_EncounterOrder() {
+        int[] expected = IntStream.range(0, 100_000).toArray();
+
+        assertArrayEquals(expected, IntStream.range(0, 100_000).boxed().parallel()
+                .collect(CollectOperation.toIntArray(i -> i)));
+        assertArrayEquals(new long[]{3, 1, 2}, Stream.of("aaa", "a", "bb")
+                .collect(CollectOperation.toLongArray(String::length)));
+        assertArrayEquals(new double[]{0.5, 1.5}, Stream.of(1, 3)
+                .collect(CollectOperation.toDoubleArray(i -> i / 2.0)));
+        assertArrayEquals(new int[0], Stream.<Integer>empty().collect(CollectOperation.toIntArray(i -> i)));
+    }
+
+    @Test
+    void toIntArray_When_ValueThrows_Expect_CheckedExceptionPropagated() {
+        assertThrows(TestCheckedException.class, () -> Stream.of("a").collect(CollectOperation.toIntArray(s -> {
+            throw new TestCheckedException();
+        })));
+    }
+
+    @Test
+    void toIntSummaryStatistics_When_Collected_Expect_SameAsSummarizing() {
+        IntSummaryStatistics ints = Stream.of("aaa", "a", "bb").collect(CollectOperation.toIntSummaryStatistics(String::length));
+        LongSummaryStatistics longs = Stream.of(5L, -5L).collect(CollectOperation.toLongSummaryStatistics(l -> l));
+        DoubleSummaryStatistics doubles = Stream.of(0.5, 1.5).collect(CollectOperation.toDoubleSummaryStatistics(d -> d));
+
+        assertEquals(3, ints.getCount());
+        assertEquals(6, ints.getSum());
+        assertEquals(-5, longs.getMin());
+        assertEquals(1.0, doubles.getAverage());
+    }
+
+    @Test
+    void toHistogram_When_ValuesOnAndBetweenBoundaries_Expect_LowerBoundInclusive() {
+        assertArrayEquals(new long[]{10, 10, 80}, IntStream.range(0, 100).boxed().parallel()
+                .collect(CollectOperation.toIntHistogram(new int[]{10, 20}, i -> i)));
+        assertArrayEquals(new long[]{1, 2, 1}, Stream.of(Long.MIN_VALUE, 0L, 1L, Long.MAX_VALUE)
+                .collect(CollectOperation.toLongHistogram(new long[]{0, Long.MAX_VALUE}, l -> l)));
+        assertArrayEquals(new long[]{1, 3, 1}, Stream.of(-1.0, -0.0, 0.0, 0.5, 1.0)
+                .collect(CollectOperation.toDoubleHistogram(new double[]{-0.0, 1.0}, d -> d)));
+        assertArrayEquals(new long[]{2}, Stream.of(1, 2)
+                .collect(CollectOperation.toIntHistogram(new int[0], i -> i)));
+        assertThrows(IllegalArgumentException.class, () -> CollectOperation.<Integer>toIntHistogram(new int[]{1, 1}, i -> i));
+        assertThrows(IllegalArgumentException.class, () -> CollectOperation.<Double>toDoubleHistogram(new double[]{Double.NaN}, d -> d));
+        assertThrows(IllegalArgumentException.class, () -> Stream.of(Double.NaN)
+                .collect(CollectOperation.toDoubleHistogram(new double[]{0}, d -> d)));
+    }
+}
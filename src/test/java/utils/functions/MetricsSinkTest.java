@@ -0,0 +1,150 @@
+package utils.functions;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsSinkTest {
+
+    @Test
+    void instrumented_When_CallsSucceedAndFail_Expect_CountedInHistogram() {
+        HistogramMetricsSink metrics = new HistogramMetricsSink();
+        ThrowingFunction<Integer, Integer> function = i -> {
+            if (i < 0) {
+                throw new TestCheckedException();
+            }
+            return i * 2;
+        };
+        ThrowingFunction<Integer, Integer> instrumented = function.instrumented("double", metrics);
+
+        assertEquals(4, instrumented.apply(2));
+        assertEquals(6, instrumented.apply(3));
+        assertThrows(TestCheckedException.class, () -> instrumented.apply(-1));
+
+        LatencySnapshot snapshot = metrics.snapshot("double");
+        assertEquals(3, snapshot.count());
+        assertEquals(1, snapshot.failureCount());
+        assertTrue(snapshot.percentile(100).compareTo(snapshot.max()) <= 0);
+        assertEquals(0, metrics.snapshot("unknown").count());
+    }
+
+    @Test
+    void instrumented_When_PrimitiveInterfaces_Expect_ResultsPassedThrough() {
+        HistogramMetricsSink metrics = new HistogramMetricsSink();
+
+        ThrowingIntUnaryOperator increment = i -> i + 1;
+        ThrowingLongPredicate even = l -> l % 2 == 0;
+        ThrowingDoubleSupplier pi = () -> Math.PI;
+        ThrowingRunnable noop = () -> {
+        };
+
+        assertEquals(2, increment.instrumented("primitive", metrics).applyAsInt(1));
+        assertTrue(even.instrumented("primitive", metrics).test(4));
+        assertEquals(Math.PI, pi.instrumented("primitive", metrics).getAsDouble());
+        noop.instrumented("primitive", metrics).run();
+
+        assertEquals(4, metrics.snapshot("primitive").count());
+        assertEquals(0, metrics.snapshot("primitive").failureCount());
+    }
+
+    @Test
+    void histogram_When_ConcurrentRecording_Expect_NothingLost() throws InterruptedException {
+        HistogramMetricsSink metrics = new HistogramMetricsSink();
+        MetricsSink.Probe probe = metrics.probe("concurrent");
+
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 1; i <= 10_000; i++) {
+                    probe.success(i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        LatencySnapshot snapshot = metrics.snapshot("concurrent");
+        assertEquals(80_000, snapshot.count());
+        assertEquals(Duration.ofNanos(10_000), snapshot.max());
+        assertEquals(Duration.ofNanos(5_000), snapshot.mean());
+        long median = snapshot.percentile(50).toNanos();
+        assertTrue(median >= 5_000 && median <= 5_000 * 5 / 4, "median " + median);
+    }
+
+    @Test
+    void bucket_When_AnyDuration_Expect_WithinBucketBounds() {
+        for (long nanos : new long[]{0, 1, 3, 4, 7, 8, 1_000, 123_456_789, Long.MAX_VALUE}) {
+            int bucket = LatencyHistogram.bucket(nanos);
+
+            assertTrue(bucket < LatencyHistogram.BUCKETS);
+            assertTrue(LatencyHistogram.lowerBound(bucket) <= nanos);
+            assertTrue(bucket + 1 == LatencyHistogram.BUCKETS || LatencyHistogram.lowerBound(bucket + 1) > nanos);
+        }
+    }
+
+    @Test
+    void jmxSink_When_Probed_Expect_BeanRegisteredUntilClosed() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("utils.functions.test:type=Latency,name=" + ObjectName.quote("jmx"));
+
+        try (JmxMetricsSink metrics = new JmxMetricsSink(server, "utils.functions.test")) {
+            ThrowingSupplier<String> supplier = () -> "value";
+            ThrowingSupplier<String> instrumented = supplier.instrumented("jmx", metrics);
+
+            instrumented.get();
+            instrumented.get();
+
+            assertEquals(2L, server.getAttribute(name, "Count"));
+            assertEquals(0L, server.getAttribute(name, "FailureCount"));
+        }
+
+        assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    void jfrSink_When_Recording_Expect_EventPerCall() throws Exception {
+        Path file = Files.createTempFile("invocations", ".jfr");
+        ThrowingConsumer<String> consumer = s -> {
+            if (s.isEmpty()) {
+                throw new TestCheckedException();
+            }
+        };
+        ThrowingConsumer<String> instrumented = consumer.instrumented("jfr", new JfrMetricsSink());
+
+        try (Recording recording = new Recording()) {
+            recording.enable("utils.functions.Invocation");
+            recording.start();
+
+            instrumented.accept("value");
+            assertThrows(TestCheckedException.class, () -> instrumented.accept(""));
+
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals("utils.functions.Invocation"))
+                    .collect(Collectors.toList());
+
+            assertEquals(2, events.size());
+            assertEquals("jfr", events.get(0).getString("name"));
+            assertNull(events.get(0).getString("exception"));
+            assertEquals(TestCheckedException.class.getName(), events.get(1).getString("exception"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package utils.functions;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.Test;
+
+class MicroBatcherTest {
+
+    @Test
+    void boundedMpscQueue_When_Full_Expect_OfferFailsAndFifoOrder() {
+        BoundedMpscQueue<Integer> queue = new BoundedMpscQueue<>(3);
+
+        assertEquals(4, queue.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(4));
+        assertEquals(4, queue.size());
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, queue.poll());
+        }
+        assertNull(queue.poll());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void microBatcher_When_ManyProducers_Expect_EachElementFlushedOnceInBoundedBatches() throws Exception {
+        int producers = 4;
+        int perProducer = 25_000;
+        AtomicIntegerArray seen = new AtomicIntegerArray(producers * perProducer);
+        AtomicInteger maxBatch = new AtomicInteger();
+        MicroBatcher<Integer> batcher = BatchOperation.microBatcher(
+                MicroBatchPolicy.batchSize(100).withCapacity(1_024),
+                batch -> {
+                    maxBatch.accumulateAndGet(batch.size(), Math::max);
+                    batch.forEach(seen::incrementAndGet);
+                }
+        );
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int from = p * perProducer;
+                futures.add(executor.submit(() -> {
+                    for (int i = from; i < from + perProducer; i++) {
+                        batcher.accept(i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        batcher.close();
+
+        for (int i = 0; i < seen.length(); i++) {
+            assertEquals(1, seen.get(i));
+        }
+        assertTrue(maxBatch.get() <= 100);
+        assertEquals(0, batcher.queueDepth());
+        assertTrue(batcher.stats().batchCount() >= producers * perProducer / 100);
+    }
+
+    @Test
+    void microBatcher_When_LingerPassed_Expect_PartialBatchFlushed() throws InterruptedException {
+        CountDownLatch flushed = new CountDownLatch(1);
+
+        try (MicroBatcher<String> batcher = BatchOperation.microBatcher(
+                MicroBatchPolicy.batchSize(100).withLinger(Duration.ofMillis(5)),
+                batch -> flushed.countDown()
+        )) {
+            batcher.accept("single");
+
+            assertTrue(flushed.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void microBatcher_When_FullAndDrop_Expect_ElementsDroppedAndCounted() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch inSink = new CountDownLatch(1);
+        MicroBatcher<Integer> batcher = BatchOperation.microBatcher(
+                MicroBatchPolicy.batchSize(1).withCapacity(2).withBackpressure(MicroBatchPolicy.Backpressure.DROP),
+                batch -> {
+                    inSink.countDown();
+                    release.await();
+                }
+        );
+
+        batcher.accept(0);
+        assertTrue(inSink.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i <= 5; i++) {
+            batcher.accept(i);
+        }
+
+        assertEquals(3, batcher.stats().droppedCount());
+        release.countDown();
+        batcher.close();
+        assertEquals(3, batcher.stats().batchCount());
+    }
+
+    @Test
+    void microBatcher_When_FullAndReject_Expect_RejectedExecutionException() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch inSink = new CountDownLatch(1);
+        MicroBatcher<Integer> batcher = BatchOperation.microBatcher(
+                MicroBatchPolicy.batchSize(1).withCapacity(2).withBackpressure(MicroBatchPolicy.Backpressure.REJECT),
+                batch -> {
+                    inSink.countDown();
+                    release.await();
+                }
+        );
+
+        batcher.accept(0);
+        assertTrue(inSink.await(5, TimeUnit.SECONDS));
+        batcher.accept(1);
+        batcher.accept(2);
+
+        assertThrows(RejectedExecutionException.class, () -> batcher.accept(3));
+        release.countDown();
+        batcher.close();
+    }
+
+    @Test
+    void microBatcher_When_FullAndBlock_Expect_ProducerWaitsForFlusher() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch inSink = new CountDownLatch(1);
+        AtomicInteger flushedElements = new AtomicInteger();
+        MicroBatcher<Integer> batcher = BatchOperation.microBatcher(
+                MicroBatchPolicy.batchSize(1).withCapacity(2),
+                batch -> {
+                    inSink.countDown();
+                    release.await();
+                    flushedElements.addAndGet(batch.size());
+                }
+        );
+
+        batcher.accept(0);
+        assertTrue(inSink.await(5, TimeUnit.SECONDS));
+        batcher.accept(1);
+        batcher.accept(2);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> blocked = executor.submit(() -> batcher.accept(3));
+            Thread.sleep(20);
+            assertFalse(blocked.isDone());
+
+            release.countDown();
+            blocked.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+
+        batcher.close();
+        assertEquals(4, flushedElements.get());
+    }
+
+    @Test
+    void microBatcher_When_SinkThrows_Expect_FailureCountedAndFlusherAlive() throws InterruptedException {
+        CountDownLatch secondBatch = new CountDownLatch(1);
+        AtomicInteger batches = new AtomicInteger();
+        StacklessException failure = new StacklessException("expected in test");
+        List<Throwable> handled = new CopyOnWriteArrayList<>();
+        MicroBatchPolicy policy = MicroBatchPolicy.batchSize(1).withErrorHandler(e -> {
+            handled.add(e);
+            throw new IllegalStateException("ignored");
+        });
+        MicroBatcher<Integer> batcher = BatchOperation.microBatcher(policy, batch -> {
+            if (batches.incrementAndGet() == 1) {
+                throw failure;
+            }
+            secondBatch.countDown();
+        });
+
+        batcher.accept(1);
+        batcher.accept(2);
+
+        assertTrue(secondBatch.await(5, TimeUnit.SECONDS));
+        batcher.close();
+        assertEquals(1, batcher.stats().failedBatchCount());
+        assertEquals(2, batcher.stats().batchCount());
+        assertEquals(List.of(failure), handled);
+    }
+
+    @Test
+    void microBatcher_When_Closed_Expect_RemainingFlushedAndAcceptFails() {
+        List<Integer> flushed = new ArrayList<>();
+        MicroBatcher<Integer> batcher = BatchOperation.microBatcher(
+                MicroBatchPolicy.batchSize(100).withLinger(Duration.ofHours(1)),
+                flushed::addAll
+        );
+
+        batcher.accept(1);
+        batcher.accept(2);
+        batcher.close();
+
+        assertEquals(List.of(1, 2), flushed);
+        assertThrows(IllegalStateException.class, () -> batcher.accept(3));
+    }
+
+    @Test
+    void microBatchPolicy_When_LargeBatchSize_Expect_DefaultCapacityCapped() {
+        assertEquals(1_600, MicroBatchPolicy.batchSize(100).capacity());
+        assertEquals(65_536, MicroBatchPolicy.batchSize(10_000).capacity());
+        assertEquals(1_000_000, MicroBatchPolicy.batchSize(1_000_000).capacity());
+        assertEquals(1 << 20, MicroBatchPolicy.batchSize(1_000_000).withCapacity(1 << 20).capacity());
+    }
+
+    @Test
+    void microBatchPolicy_When_InvalidArguments_Expect_IAE() {
+        assertThrows(IllegalArgumentException.class, () -> MicroBatchPolicy.batchSize(0));
+        assertThrows(IllegalArgumentException.class, () -> MicroBatchPolicy.batchSize(10).withCapacity(5));
+        assertThrows(IllegalArgumentException.class, () -> MicroBatchPolicy.batchSize(10).withLinger(Duration.ZERO));
+    }
+}
@@ -0,0 +1,88 @@
+package utils.functions;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveMemoizeTest {
+
+    @Test
+    void intFunctionMemoize_When_SameArgument_Expect_FunctionCalledOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        ThrowingIntFunction<String> memoized = ((ThrowingIntFunction<String>) value -> {
+            calls.incrementAndGet();
+            return String.valueOf(value);
+        }).memoize();
+
+        for (int i = 0; i < 3; i++) {
+            for (int value = -100; value < 100; value++) {
+                assertEquals(String.valueOf(value), memoized.apply(value));
+            }
+        }
+
+        assertEquals(200, calls.get());
+    }
+
+    @Test
+    void longFunctionMemoize_When_WideKeys_Expect_FunctionCalledOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        ThrowingLongFunction<Long> memoized = ((ThrowingLongFunction<Long>) value -> {
+            calls.incrementAndGet();
+            return value;
+        }).memoize();
+
+        long[] keys = {Long.MIN_VALUE, -1, 0, 1, 1L << 32, Long.MAX_VALUE};
+
+        for (int i = 0; i < 2; i++) {
+            for (long key : keys) {
+                assertEquals(key, memoized.apply(key));
+            }
+        }
+
+        assertEquals(keys.length, calls.get());
+    }
+
+    @Test
+    void intUnaryOperatorMemoize_When_DenseRange_Expect_OperatorCalledOnceInAndOutOfRange() {
+        AtomicInteger calls = new AtomicInteger();
+        ThrowingIntUnaryOperator memoized = ((ThrowingIntUnaryOperator) operand -> {
+            calls.incrementAndGet();
+            return operand * operand;
+        }).memoize(0, 9);
+
+        for (int i = 0; i < 2; i++) {
+            for (int operand = -5; operand < 15; operand++) {
+                assertEquals(operand * operand, memoized.applyAsInt(operand));
+            }
+        }
+
+        assertEquals(20, calls.get());
+    }
+
+    @Test
+    void longUnaryOperatorMemoize_When_Throws_Expect_FailureNotCached() {
+        AtomicInteger calls = new AtomicInteger();
+        ThrowingLongUnaryOperator memoized = ((ThrowingLongUnaryOperator) operand -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new TestCheckedException();
+            }
+            return -operand;
+        }).memoize();
+
+        assertThrows(TestCheckedException.class, () -> memoized.applyAsLong(7));
+        assertEquals(-7, memoized.applyAsLong(7));
+        assertEquals(-7, memoized.applyAsLong(7));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void memoize_When_InvalidRange_Expect_IAE() {
+        ThrowingIntUnaryOperator operator = operand -> operand;
+
+        assertThrows(IllegalArgumentException.class, () -> operator.memoize(1, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> ((ThrowingLongUnaryOperator) operand -> operand).memoize(Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+}
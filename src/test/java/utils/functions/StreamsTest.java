@@ -0,0 +1,69 @@
+package utils.functions;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class StreamsTest {
+
+    private static final List<Integer> NUMBERS = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+
+    @Test
+    void toStream_When_SizeKnown_Expect_SizedSpliterator() {
+        Stream<Integer> stream = Streams.toStream(NUMBERS.iterator(), NUMBERS.size(), Spliterator.ORDERED);
+        Spliterator<Integer> spliterator = stream.spliterator();
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(NUMBERS.size(), spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    void toStream_When_Characteristics_Expect_KeptAndSizeUnknown() {
+        Spliterator<Integer> spliterator = Streams.toStream(NUMBERS.iterator(), Spliterator.NONNULL).spliterator();
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.NONNULL));
+        assertEquals(-1, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    void toStream_When_ParallelFlag_Expect_ParallelStream() {
+        assertTrue(Streams.toStream(NUMBERS, true).isParallel());
+        assertFalse(Streams.toStream(NUMBERS).isParallel());
+        assertTrue(Streams.toStream(NUMBERS.spliterator(), true).isParallel());
+    }
+
+    @Test
+    void toParallelStream_When_SmallBatches_Expect_AllElementsInOrder() {
+        List<Integer> result = Streams.toParallelStream(NUMBERS.iterator(), Spliterator.ORDERED, 16)
+                .map(i -> i * 2)
+                .collect(Collectors.toList());
+
+        assertEquals(NUMBERS.stream().map(i -> i * 2).collect(Collectors.toList()), result);
+        assertTrue(Streams.toParallelStream(NUMBERS.iterator(), 0, 16).isParallel());
+    }
+
+    @Test
+    void toParallelStream_When_Sized_Expect_ExactSizeAfterSplits() {
+        Spliterator<Integer> spliterator = new BatchIteratorSpliterator<>(NUMBERS.iterator(), NUMBERS.size(), 0, 100);
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(100, prefix.getExactSizeIfKnown());
+        assertEquals(NUMBERS.size() - 100, spliterator.getExactSizeIfKnown());
+        assertEquals(NUMBERS.size(), Streams.toParallelStream(NUMBERS.iterator(), NUMBERS.size(), 0, 100).toArray().length);
+    }
+
+    @Test
+    void toParallelStream_When_InvalidArguments_Expect_IAE() {
+        assertThrows(IllegalArgumentException.class, () -> Streams.toParallelStream(NUMBERS.iterator(), 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> Streams.toStream(NUMBERS.iterator(), -1, 0));
+    }
+}
@@ -29,4 +29,50 @@ class ThrowingFunctionTest {
         assertThrows(TestCheckedException.class, () -> throwingFunction.apply(STR_1));
         assertThrows(TestCheckedException.class, () -> throwingFunction.unthrow().apply(STR_2));
     }
+
+    @Test
+    void pipeline_When_DoesNotThrowException_Expect_StagesAppliedInOrder() {
+        ThrowingFunction<String, Integer> function = ThrowingFunction.<String>pipeline()
+                .then(str -> str + STR_2)
+                .then(String::length)
+                .then(length -> length * 2)
+                .build();
+
+        assertEquals(EXPECTED.length() * 2, function.apply(STR_1));
+    }
+
+    @Test
+    void pipeline_When_StageThrowsException_Expect_NextStagesNotApplied() {
+        StringBuilder stringBuilder = new StringBuilder();
+
+        ThrowingFunction<String, String> function = ThrowingFunction.pipeline((String str) -> {
+            throw new TestCheckedException();
+        }).then(str -> stringBuilder.append(str).toString()).build();
+
+        assertThrows(TestCheckedException.class, () -> function.apply(STR_1));
+        assertEquals("", stringBuilder.toString());
+    }
+
+    @Test
+    void pipeline_When_ManyStages_Expect_NoStackOverflow() {
+        FunctionPipeline<Integer, Integer> pipeline = ThrowingFunction.pipeline();
+
+        for (int i = 0; i < 100_000; i++) {
+            pipeline = pipeline.then(x -> x + 1);
+        }
+
+        assertEquals(100_000, pipeline.build().apply(0));
+    }
+
+    @Test
+    void pipeline_When_BuiltFunctionComposed_Expect_StagesAppliedInOrder() {
+        ThrowingFunction<String, String> appendSecond = ThrowingFunction.pipeline((String str) -> str + STR_2).build();
+        ThrowingFunction<String, String> function = ThrowingFunction.pipeline(appendSecond)
+                .then(appendSecond)
+                .build()
+                .compose((String str) -> str.substring(STR_1.length()))
+                .andThen(String::toUpperCase);
+
+        assertEquals((STR_2 + STR_2 + STR_2).toUpperCase(), function.apply(STR_1 + STR_2));
+    }
 }
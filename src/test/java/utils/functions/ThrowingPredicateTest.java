@@ -2,6 +2,11 @@ package utils.functions;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ThrowingPredicateTest {
@@ -22,4 +27,184 @@ class ThrowingPredicateTest {
         assertThrows(TestCheckedException.class, () -> throwingPredicate.test(new Object()));
         assertThrows(TestCheckedException.class, () -> throwingPredicate.unthrow().test(new Object()));
     }
+
+    @Test
+    void allOf_When_OneFails_Expect_FalseAndRestNotTested() {
+        AtomicInteger tested = new AtomicInteger();
+        ThrowingPredicate<Integer> counted = i -> tested.incrementAndGet() > 0;
+
+        ThrowingPredicate<Integer> allOf = ThrowingPredicate.allOf(i -> i > 0, i -> i < 10, counted);
+
+        assertTrue(allOf.test(5));
+        assertEquals(1, tested.get());
+        assertFalse(allOf.test(50));
+        assertEquals(1, tested.get());
+    }
+
+    @Test
+    void anyOf_When_OneMatches_Expect_TrueAndRestNotTested() {
+        ThrowingPredicate<Integer> throwing = i -> {
+            throw new TestCheckedException();
+        };
+
+        ThrowingPredicate<Integer> anyOf = ThrowingPredicate.anyOf(Arrays.asList(i -> i == 1, throwing));
+
+        assertTrue(anyOf.test(1));
+        assertThrows(TestCheckedException.class, () -> anyOf.test(2));
+    }
+
+    @Test
+    void allOf_When_Nested_Expect_Flattened() {
+        ThrowingPredicate<Integer> nested = ThrowingPredicate.allOf(i -> i > 0, i -> i < 100);
+        ThrowingPredicate<Integer> predicate = ThrowingPredicate.allOf(nested, i -> i % 2 == 0);
+
+        assertTrue(predicate instanceof CompositePredicate);
+        assertEquals(3, ((CompositePredicate<Integer>) predicate).predicates().length);
+        assertTrue(predicate.test(50));
+        assertFalse(predicate.test(51));
+        assertFalse(predicate.test(500));
+    }
+
+    @Test
+    void and_When_Chained_Expect_BinaryNodesNotCopied() {
+        ThrowingPredicate<Integer> predicate = i -> i > 0;
+
+        for (int i = 0; i < 1_000; i++) {
+            predicate = predicate.and(n -> n < 100).or(AlwaysFalsePredicate.instance());
+        }
+
+        assertFalse(predicate instanceof CompositePredicate);
+        assertTrue(predicate.test(50));
+        assertFalse(predicate.test(500));
+        assertSame(predicate, predicate.and(AlwaysTruePredicate.instance()));
+        assertSame(AlwaysFalsePredicate.instance(), predicate.and(AlwaysFalsePredicate.instance()));
+        assertSame(AlwaysTruePredicate.instance(), predicate.or(AlwaysTruePredicate.instance()));
+        assertSame(predicate, AlwaysTruePredicate.<Integer>instance().and(predicate));
+    }
+
+    @Test
+    void allOfAnyOf_When_Constants_Expect_Folded() {
+        ThrowingPredicate<Object> predicate = o -> o != null;
+
+        assertSame(predicate, ThrowingPredicate.allOf(new AlwaysTruePredicate<>(), predicate));
+        assertSame(predicate, ThrowingPredicate.anyOf(new AlwaysFalsePredicate<>(), predicate));
+        assertTrue(ThrowingPredicate.allOf(predicate, new AlwaysFalsePredicate<>()) instanceof AlwaysFalsePredicate);
+        assertTrue(ThrowingPredicate.anyOf(predicate, new AlwaysTruePredicate<>()) instanceof AlwaysTruePredicate);
+        assertTrue(ThrowingPredicate.allOf(Collections.emptyList()).test(null));
+        assertFalse(ThrowingPredicate.anyOf().test(null));
+    }
+
+    @Test
+    void allOf_When_NullPredicate_Expect_NPE() {
+        assertThrows(NullPointerException.class, () -> ThrowingPredicate.allOf(o -> true, null));
+    }
+
+    @Test
+    void allOf_When_NullAfterDecidingConstant_Expect_NPE() {
+        assertThrows(NullPointerException.class,
+                () -> ThrowingPredicate.allOf(AlwaysFalsePredicate.instance(), null));
+        assertThrows(NullPointerException.class,
+                () -> ThrowingPredicate.anyOf(AlwaysTruePredicate.instance(), o -> true, null));
+        assertSame(AlwaysFalsePredicate.instance(),
+                ThrowingPredicate.allOf(o -> true, AlwaysFalsePredicate.instance(), o -> true));
+    }
+
+    @Test
+    void adaptiveAllOf_When_SelectivePredicateLast_Expect_MovedFirst() {
+        ThrowingPredicate<Integer> slow = i -> {
+            long deadline = System.nanoTime() + 2_000;
+            while (System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            return true;
+        };
+        ThrowingPredicate<Integer> selective = i -> i % 100 == 0;
+
+        ThrowingPredicate<Integer> allOf = ThrowingPredicate.adaptiveAllOf(slow, i -> i >= 0, selective);
+
+        assertTrue(allOf instanceof AdaptivePredicate);
+        int calls = AdaptivePredicate.SAMPLE_RATE * AdaptivePredicate.REORDER_INTERVAL * 4;
+        for (int i = 0; i < calls; i++) {
+            assertEquals(i % 100 == 0, allOf.test(i));
+        }
+
+        assertEquals(2, ((AdaptivePredicate<Integer>) allOf).order()[0]);
+    }
+
+    @Test
+    void adaptiveAnyOf_When_Concurrent_Expect_SameResultsAsAnyOf() throws InterruptedException {
+        List<ThrowingPredicate<Integer>> predicates = Arrays.asList(i -> i % 3 == 0, i -> i % 5 == 0, i -> i % 7 == 0);
+        ThrowingPredicate<Integer> anyOf = ThrowingPredicate.anyOf(predicates);
+        ThrowingPredicate<Integer> adaptive = ThrowingPredicate.adaptiveAnyOf(predicates);
+        AtomicInteger mismatches = new AtomicInteger();
+
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 200_000; i++) {
+                    if (anyOf.test(i) != adaptive.test(i)) {
+                        mismatches.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, mismatches.get());
+    }
+
+    @Test
+    void adaptiveAllOfAnyOf_When_FoldedToSingleOrConstant_Expect_NotAdaptive() {
+        ThrowingPredicate<Object> predicate = o -> o != null;
+
+        assertSame(predicate, ThrowingPredicate.adaptiveAllOf(predicate));
+        assertSame(predicate, ThrowingPredicate.adaptiveAnyOf(Collections.singletonList(predicate)));
+        assertTrue(ThrowingPredicate.adaptiveAllOf().test(null));
+        assertFalse(ThrowingPredicate.adaptiveAnyOf(predicate, new AlwaysFalsePredicate<>(), o -> false).test(null));
+    }
+
+    @Test
+    void constants_When_Negated_Expect_SharedOpposite() {
+        assertSame(AlwaysTruePredicate.instance(), AlwaysTruePredicate.instance());
+        assertSame(AlwaysFalsePredicate.instance(), AlwaysTruePredicate.instance().negate());
+        assertSame(AlwaysTruePredicate.instance(), ThrowingPredicate.not(new AlwaysFalsePredicate<>()));
+        assertSame(AlwaysFalseBiPredicate.instance(), AlwaysTrueBiPredicate.instance().negate());
+        assertSame(AlwaysTrueIntPredicate.instance(), AlwaysFalseIntPredicate.instance().negate());
+        assertSame(AlwaysFalseLongPredicate.instance(), AlwaysTrueLongPredicate.instance().negate());
+        assertSame(AlwaysTrueDoublePredicate.instance(), AlwaysFalseDoublePredicate.instance().negate());
+    }
+
+    @Test
+    void primitiveAndBiCombinators_When_ConstantOperand_Expect_Folded() {
+        ThrowingIntPredicate positive = i -> i > 0;
+        ThrowingLongPredicate even = l -> l % 2 == 0;
+        ThrowingDoublePredicate finite = Double::isFinite;
+        ThrowingBiPredicate<String, Integer> longer = (s, n) -> s.length() > n;
+
+        assertSame(positive, positive.and(AlwaysTrueIntPredicate.instance()));
+        assertSame(positive, AlwaysTrueIntPredicate.instance().and(positive));
+        assertSame(AlwaysTrueIntPredicate.instance(), positive.or(AlwaysTrueIntPredicate.instance()));
+        assertSame(AlwaysFalseLongPredicate.instance(), even.and(AlwaysFalseLongPredicate.instance()));
+        assertSame(even, AlwaysFalseLongPredicate.instance().or(even));
+        assertSame(finite, finite.or(AlwaysFalseDoublePredicate.instance()));
+        assertSame(AlwaysTrueDoublePredicate.instance(), AlwaysTrueDoublePredicate.instance().or(finite));
+        assertSame(longer, longer.and(AlwaysTrueBiPredicate.instance()));
+        assertSame(AlwaysFalseBiPredicate.instance(), AlwaysFalseBiPredicate.<String, Integer>instance().and(longer));
+    }
+
+    @Test
+    void primitiveCombinators_When_NotConstant_Expect_ShortCircuit() {
+        ThrowingIntPredicate throwing = i -> {
+            throw new TestCheckedException();
+        };
+        ThrowingIntPredicate positive = i -> i > 0;
+
+        assertFalse(positive.and(throwing).test(-1));
+        assertTrue(positive.or(throwing).test(1));
+        assertThrows(TestCheckedException.class, () -> positive.and(throwing).test(1));
+        assertTrue(positive.negate().test(-1));
+    }
 }
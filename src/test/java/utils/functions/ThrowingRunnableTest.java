@@ -4,7 +4,15 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 class ThrowingRunnableTest {
 
@@ -94,6 +102,110 @@ class ThrowingRunnableTest {
         assertThrows(NullPointerException.class, () -> ThrowingRunnable.merge(new Runnable[]{null}).run());
     }
 
+    @Test
+    void merge_When_ManyRunnable_Expect_NoStackOverflow() {
+        int[] calls = new int[1];
+
+        ThrowingRunnable merged = ThrowingRunnable.merge(
+                Stream.generate(() -> (Runnable) () -> calls[0]++).limit(100_000)
+        );
+
+        assertDoesNotThrow(merged::run);
+        assertEquals(100_000, calls[0]);
+    }
+
+    @Test
+    void merge_When_MergedRunnable_Expect_FlattenedInCorrectOrder() {
+        StringBuilder stringBuilder = new StringBuilder();
+
+        ThrowingRunnable first = ThrowingRunnable.merge(() -> stringBuilder.append(1), () -> stringBuilder.append(2));
+        ThrowingRunnable second = ThrowingRunnable.throwingMerge(() -> stringBuilder.append(3), first);
+
+        ThrowingRunnable.throwingMerge(first, second, first).run();
+
+        assertEquals("1231212", stringBuilder.toString());
+    }
+
+    @Test
+    void merge_When_RunnableThrows_Expect_NextNotCalled() {
+        AtomicBoolean wasExecuted = new AtomicBoolean(false);
+
+        ThrowingRunnable merged = ThrowingRunnable.throwingMerge(
+                () -> {
+                    throw new TestCheckedException();
+                },
+                () -> wasExecuted.set(true)
+        );
+
+        assertThrows(TestCheckedException.class, merged::run);
+        assertFalse(wasExecuted.get());
+    }
+
+    @Test
+    void mergeParallel_When_TasksWaitForEachOther_Expect_RunConcurrently() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        ThrowingRunnable awaitOther = () -> {
+            bothStarted.countDown();
+            if (!bothStarted.await(10, TimeUnit.SECONDS)) {
+                throw new TestCheckedException();
+            }
+        };
+
+        try {
+            assertDoesNotThrow(ThrowingRunnable.throwingMergeParallel(executor, awaitOther, awaitOther)::run);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void mergeParallel_When_TasksThrow_Expect_FirstThrownOthersSuppressed() {
+        TestCheckedException first = new TestCheckedException();
+        IllegalStateException second = new IllegalStateException();
+        AtomicBoolean wasExecuted = new AtomicBoolean(false);
+
+        ThrowingRunnable merged = ThrowingRunnable.throwingMergeParallel(
+                () -> {
+                    throw first;
+                },
+                () -> wasExecuted.set(true),
+                () -> {
+                    throw second;
+                }
+        );
+
+        TestCheckedException thrown = assertThrows(TestCheckedException.class, merged::run);
+        assertSame(first, thrown);
+        assertArrayEquals(new Throwable[]{second}, thrown.getSuppressed());
+        assertTrue(wasExecuted.get());
+    }
+
+    @Test
+    void mergeParallel_When_ManyTasks_Expect_AllCalled() {
+        AtomicInteger calls = new AtomicInteger();
+        List<Runnable> tasks = Collections.nCopies(1_000, calls::incrementAndGet);
+
+        ThrowingRunnable.mergeParallel(tasks).run();
+
+        assertEquals(1_000, calls.get());
+    }
+
+    @Test
+    void mergeParallel_When_SingleTask_Expect_RunInExecutor() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Thread[] runner = new Thread[1];
+
+        try {
+            ThrowingRunnable.mergeParallel(executor, () -> runner[0] = Thread.currentThread()).run();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertNotNull(runner[0]);
+        assertNotSame(Thread.currentThread(), runner[0]);
+    }
+
     @Test
     void throwingCompose() {
         Boolean[] calls = new Boolean[]{
@@ -0,0 +1,131 @@
+package utils.functions;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class ThrowingStreamTest {
+
+    private static final List<Integer> NUMBERS = IntStream.range(0, 1_000).boxed().collect(Collectors.toList());
+
+    @Test
+    void throwingStream_When_FusedStages_Expect_SameResultAsStream() {
+        List<String> expected = NUMBERS.stream()
+                .filter(i -> i % 3 == 0)
+                .map(i -> i * 2)
+                .map(String::valueOf)
+                .collect(Collectors.toList());
+
+        List<String> result = ThrowingStream.of(NUMBERS)
+                .filter(i -> i % 3 == 0)
+                .map(i -> i * 2)
+                .map(String::valueOf)
+                .toList();
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void throwingStream_When_StageThrowsChecked_Expect_SameExceptionThrown() {
+        ThrowingStream<Integer> stream = ThrowingStream.of(1, 2, 3).map(i -> {
+            if (i == 2) {
+                throw new TestCheckedException();
+            }
+            return i;
+        });
+
+        assertThrows(TestCheckedException.class, stream::toList);
+    }
+
+    @Test
+    void forEach_When_Sequential_Expect_PeekAndActionInOrder() {
+        List<String> events = new ArrayList<>();
+
+        ThrowingStream.of("a", "b")
+                .peek(s -> events.add("peek " + s))
+                .map(String::toUpperCase)
+                .forEach(s -> events.add("action " + s));
+
+        assertEquals(Arrays.asList("peek a", "action A", "peek b", "action B"), events);
+    }
+
+    @Test
+    void throwingStream_When_StatefulOperations_Expect_FallbackAndFusedAgain() {
+        List<Integer> result = ThrowingStream.of(5, 3, 5, 1, 4, 2)
+                .distinct()
+                .sorted()
+                .skip(1)
+                .limit(3)
+                .map(i -> i * 10)
+                .toList();
+
+        assertEquals(Arrays.asList(20, 30, 40), result);
+    }
+
+    @Test
+    void throwingStream_When_Parallel_Expect_AllElements() {
+        ThrowingStream<Integer> stream = ThrowingStream.of(NUMBERS).parallel()
+                .filter(i -> i % 2 == 0)
+                .map(i -> i + 1);
+
+        assertTrue(stream.isParallel());
+        assertEquals(NUMBERS.stream().filter(i -> i % 2 == 0).map(i -> i + 1).collect(Collectors.toList()),
+                stream.toList());
+    }
+
+    @Test
+    void throwingStream_When_TerminalOperations_Expect_StreamResults() {
+        assertEquals(499_500, ThrowingStream.of(NUMBERS).reduce(0, Integer::sum));
+        assertEquals(500, ThrowingStream.of(NUMBERS).filter(i -> i < 500).count());
+        assertTrue(ThrowingStream.of(NUMBERS).anyMatch(i -> i == 999));
+        assertTrue(ThrowingStream.of(NUMBERS).allMatch(i -> i >= 0));
+        assertEquals(10, ThrowingStream.of(NUMBERS).filter(i -> i >= 10).findFirst().orElse(-1));
+        assertEquals(Arrays.asList(1, 1, 2, 2),
+                ThrowingStream.of(1, 2).flatMap(i -> Stream.of(i, i)).toList());
+    }
+
+    @Test
+    void spliterator_When_Filtered_Expect_NotSized() {
+        Spliterator<Integer> mapped = ThrowingStream.of(NUMBERS).map(i -> i).spliterator();
+        Spliterator<Integer> filtered = ThrowingStream.of(NUMBERS).filter(i -> true).spliterator();
+
+        assertEquals(NUMBERS.size(), mapped.getExactSizeIfKnown());
+        assertFalse(filtered.hasCharacteristics(Spliterator.SIZED));
+    }
+
+    @Test
+    void spliterator_When_SortedSourceMapped_Expect_NoComparator() {
+        TreeSet<Integer> sorted = new TreeSet<>(Comparator.reverseOrder());
+        sorted.addAll(NUMBERS);
+
+        Spliterator<Integer> filtered = ThrowingStream.of(sorted).filter(i -> true).spliterator();
+        Spliterator<Integer> mapped = ThrowingStream.of(sorted).map(i -> -i).spliterator();
+
+        assertTrue(filtered.hasCharacteristics(Spliterator.SORTED));
+        assertEquals(Comparator.reverseOrder(), filtered.getComparator());
+        assertFalse(mapped.hasCharacteristics(Spliterator.SORTED));
+        assertThrows(IllegalStateException.class, mapped::getComparator);
+    }
+
+    @Test
+    void close_When_CreatedFromStream_Expect_SourceClosed() {
+        AtomicBoolean closed = new AtomicBoolean();
+
+        try (ThrowingStream<Integer> stream = ThrowingStream.of(Stream.of(1).onClose(() -> closed.set(true)))) {
+            assertEquals(1, stream.map(i -> i).count());
+        }
+
+        assertTrue(closed.get());
+    }
+}
@@ -2,6 +2,17 @@ package utils.functions;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ThrowingSupplierTest {
@@ -30,4 +41,110 @@ class ThrowingSupplierTest {
         assertThrows(TestCheckedException.class, () -> throwingConsumer.unthrow().get());
     }
 
+    @Test
+    void memoize_When_CalledTwice_Expect_SupplierCalledOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        ThrowingSupplier<Integer> memoized = ThrowingSupplier.map(calls::incrementAndGet).memoize();
+
+        assertEquals(1, memoized.get());
+        assertEquals(1, memoized.get());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void memoize_When_SupplierThrows_Expect_FailureNotCached() {
+        AtomicInteger calls = new AtomicInteger();
+        ThrowingSupplier<Integer> memoized = ThrowingSupplier.<Integer>map(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new TestCheckedException();
+            }
+            return calls.get();
+        }).memoize();
+
+        assertThrows(TestCheckedException.class, memoized::get);
+        assertEquals(2, memoized.get());
+        assertEquals(2, memoized.get());
+    }
+
+    @Test
+    void memoize_When_SupplierThrowsAndFailureCached_Expect_SameFailureRethrown() {
+        AtomicInteger calls = new AtomicInteger();
+        ThrowingSupplier<Integer> memoized = ThrowingSupplier.<Integer>map(() -> {
+            calls.incrementAndGet();
+            throw new TestCheckedException();
+        }).memoize(true);
+
+        ExecutionException first = assertThrows(ExecutionException.class, memoized::get);
+        ExecutionException second = assertThrows(ExecutionException.class, memoized::get);
+
+        assertNotSame(first, second);
+        assertSame(first.getCause(), second.getCause());
+        assertTrue(first.getCause() instanceof TestCheckedException);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void memoize_When_CachedFailureDecorated_Expect_RememberedFailureUnchanged() {
+        ThrowingSupplier<Integer> memoized = ThrowingSupplier.<Integer>map(() -> {
+            throw new TestCheckedException();
+        }).memoizeWithExpiry(Duration.ofMinutes(1), true);
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(ExecutionException.class, () -> TryCatch.tryCatchFallback(memoized, e -> {
+                throw new IllegalStateException();
+            }));
+        }
+        ExecutionException failure = assertThrows(ExecutionException.class, memoized::get);
+
+        assertEquals(0, failure.getSuppressed().length);
+        assertEquals(0, failure.getCause().getSuppressed().length);
+    }
+
+    @Test
+    void memoizeWithExpiry_When_Expired_Expect_SupplierCalledAgain() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        ThrowingSupplier<Integer> memoized = ThrowingSupplier.map(calls::incrementAndGet)
+                .memoizeWithExpiry(Duration.ofMillis(10));
+
+        assertEquals(1, memoized.get());
+        Thread.sleep(20);
+        assertEquals(2, memoized.get());
+    }
+
+    @Test
+    void memoize_When_ConcurrentFirstCalls_Expect_SupplierCalledOnce() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ThrowingSupplier<Integer> memoized = ThrowingSupplier.<Integer>map(() -> {
+            Thread.sleep(10);
+            return calls.incrementAndGet();
+        }).memoize();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return memoized.get();
+                }));
+            }
+            start.countDown();
+
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void memoizeWithExpiry_When_NotPositive_Expect_IAE() {
+        ThrowingSupplier<String> supplier = () -> STR_1;
+
+        assertThrows(IllegalArgumentException.class, () -> supplier.memoizeWithExpiry(Duration.ZERO));
+    }
 }
@@ -2,11 +2,28 @@ package utils.functions;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 
 import org.junit.jupiter.api.Test;
 
@@ -142,4 +159,209 @@ class TryCatchTest {
                 }
         ));
     }
+
+    @Test
+    void retry_When_SupplierFailsTwice_Expect_ThirdAttemptValueReturned() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = TryCatch.retry(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new TestCheckedException();
+            }
+            return EXPECTED;
+        }, RetryPolicy.maxAttempts(3).withBackoff(Duration.ofMillis(1), Duration.ofMillis(5)));
+
+        assertEquals(EXPECTED, result);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void retry_When_AllAttemptsFail_Expect_LastExceptionThrown() {
+        AtomicInteger attempts = new AtomicInteger();
+        TestCheckedException last = new TestCheckedException();
+
+        TestCheckedException thrown = assertThrows(TestCheckedException.class, () -> TryCatch.retry(() -> {
+            if (attempts.incrementAndGet() < 4) {
+                throw new TestCheckedException();
+            }
+            throw last;
+        }, RetryPolicy.maxAttempts(4).withJitter(RetryPolicy.Jitter.FULL)));
+
+        assertSame(last, thrown);
+        assertEquals(4, attempts.get());
+    }
+
+    @Test
+    void retry_When_ExceptionNotRetryable_Expect_SingleAttempt() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(TestCheckedException.class, () -> TryCatch.retry(() -> {
+            attempts.incrementAndGet();
+            throw new TestCheckedException();
+        }, RetryPolicy.maxAttempts(5).withRetryOn(IOException.class::isInstance)));
+
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void retry_When_TimeBudgetExceeded_Expect_GivenUpEarly() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(TestCheckedException.class, () -> TryCatch.retry(() -> {
+            attempts.incrementAndGet();
+            throw new TestCheckedException();
+        }, RetryPolicy.maxAttempts(100)
+                .withBackoff(Duration.ofMillis(20), Duration.ofMillis(20))
+                .withTimeBudget(Duration.ofMillis(50))));
+
+        assertTrue(attempts.get() <= 3);
+    }
+
+    @Test
+    void retryPolicy_When_Jitter_Expect_DelaysWithinBounds() {
+        long initial = TimeUnit.MILLISECONDS.toNanos(10);
+        long max = TimeUnit.MILLISECONDS.toNanos(100);
+        RetryPolicy policy = RetryPolicy.maxAttempts(Integer.MAX_VALUE)
+                .withBackoff(Duration.ofNanos(initial), Duration.ofNanos(max));
+        Exception failure = new TestCheckedException();
+
+        assertEquals(initial, policy.nextDelayNanos(failure, 1, 0, 0));
+        assertEquals(initial * 4, policy.nextDelayNanos(failure, 3, 0, 0));
+        assertEquals(max, policy.nextDelayNanos(failure, 100, 0, 0));
+
+        RetryPolicy full = policy.withJitter(RetryPolicy.Jitter.FULL);
+        RetryPolicy decorrelated = policy.withJitter(RetryPolicy.Jitter.DECORRELATED);
+        long previous = 0;
+
+        for (int attempt = 1; attempt < 1_000; attempt++) {
+            long fullDelay = full.nextDelayNanos(failure, attempt, 0, 0);
+            assertTrue(fullDelay >= 0 && fullDelay <= max);
+
+            previous = decorrelated.nextDelayNanos(failure, attempt, previous, 0);
+            assertTrue(previous >= initial && previous <= max);
+        }
+    }
+
+    @Test
+    void retryPolicy_When_InvalidArguments_Expect_IAE() {
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.maxAttempts(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> RetryPolicy.maxAttempts(1).withBackoff(Duration.ofSeconds(2), Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.maxAttempts(1).withTimeBudget(Duration.ZERO));
+    }
+
+    @Test
+    void retryAsync_When_SupplierFailsTwice_Expect_ThirdAttemptValueCompleted() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        AtomicInteger attempts = new AtomicInteger();
+
+        try {
+            CompletableFuture<String> result = TryCatch.retryAsync(() -> {
+                if (attempts.incrementAndGet() < 3) {
+                    throw new TestCheckedException();
+                }
+                return EXPECTED;
+            }, RetryPolicy.maxAttempts(3).withBackoff(Duration.ofMillis(1), Duration.ofMillis(5)), scheduler);
+
+            assertEquals(EXPECTED, result.get(10, TimeUnit.SECONDS));
+            assertEquals(3, attempts.get());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void retryAsync_When_AllAttemptsFail_Expect_CompletedExceptionally() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        AtomicInteger attempts = new AtomicInteger();
+
+        try {
+            CompletableFuture<String> result = TryCatch.retryAsync(() -> {
+                attempts.incrementAndGet();
+                throw new TestCheckedException();
+            }, RetryPolicy.maxAttempts(2), scheduler);
+
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get(10, TimeUnit.SECONDS));
+            assertTrue(thrown.getCause() instanceof TestCheckedException);
+            assertEquals(2, attempts.get());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void tryCatchFallback_When_StacklessExceptionThrown_Expect_NoStackTraceAndSuppressedKept() {
+        StacklessException thrown = assertThrows(StacklessException.class, () -> TryCatch.tryCatchFallback(
+                () -> {
+                    throw new StacklessException("miss");
+                },
+                e -> {
+                    throw new TestCheckedException();
+                }
+        ));
+
+        assertEquals(0, thrown.getStackTrace().length);
+        assertEquals(1, thrown.getSuppressed().length);
+        assertEquals("miss", thrown.getMessage());
+    }
+
+    @Test
+    void tryCatchFallback_When_EventsEnabled_Expect_FallbackSuppressedAndRethrowRecorded() throws Exception {
+        Path file = Files.createTempFile("try-catch", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(TryCatchEvents.FALLBACK);
+            recording.enable(TryCatchEvents.SUPPRESSED);
+            recording.enable(TryCatchEvents.SNEAKY_RETHROW);
+            recording.start();
+
+            assertEquals(STR_2, TryCatch.tryCatchFallback(() -> {
+                throw new IOException(STR_1);
+            }, e -> STR_2));
+            assertThrows(IOException.class, () -> TryCatch.rethrowOnException(() -> {
+                throw new IOException(STR_1);
+            }, e -> {
+                throw new TestCheckedException();
+            }));
+
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().startsWith("utils.functions."))
+                    .collect(Collectors.toList());
+
+            assertEquals(3, events.size());
+            assertEquals(TryCatchEvents.FALLBACK, events.get(0).getEventType().getName());
+            assertEquals(IOException.class.getName(), events.get(0).getClass("exceptionClass").getName());
+            assertEquals(STR_1, events.get(0).getString("exceptionMessage"));
+            assertTrue(events.get(0).getString("callSite").startsWith(TryCatchTest.class.getName()));
+            assertEquals(TryCatchEvents.SUPPRESSED, events.get(1).getEventType().getName());
+            assertEquals(TestCheckedException.class.getName(), events.get(1).getClass("suppressedClass").getName());
+            assertEquals(TryCatchEvents.SNEAKY_RETHROW, events.get(2).getEventType().getName());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void tryCatchFallback_When_EventsNotEnabled_Expect_NothingRecorded() throws Exception {
+        Path file = Files.createTempFile("try-catch", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.start();
+
+            assertEquals(STR_2, TryCatch.tryCatchFallback(() -> {
+                throw new IOException(STR_1);
+            }, e -> STR_2));
+
+            recording.stop();
+            recording.dump(file);
+
+            assertTrue(RecordingFile.readAllEvents(file).stream()
+                    .noneMatch(event -> event.getEventType().getName().startsWith("utils.functions.")));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
 }